@@ -0,0 +1,132 @@
+package com.jozias.product.catalog.benchmark;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.ProductVariantValue;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductVariantEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductVariantValueEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.SellerEntity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic catalog fixtures shaped like production data: every product has
+ * 5 variants with 10 values each and a description of a few hundred characters.
+ */
+public final class CatalogFixtures {
+
+    public static final long SEED = 20240601L;
+    public static final int VARIANTS_PER_PRODUCT = 5;
+    public static final int VALUES_PER_VARIANT = 10;
+
+    private static final Condition[] CONDITIONS = Condition.values();
+    private static final String[] CATEGORIES = { "Electronics", "Home", "Sports", "Books", "Fashion", "Toys" };
+    private static final String[] WORDS = { "premium", "wireless", "compact", "durable", "ergonomic", "portable",
+            "smart", "classic", "lightweight", "professional", "adjustable", "rechargeable" };
+
+    private CatalogFixtures() {
+    }
+
+    public static List<Product> products(int count) {
+        Random random = new Random(SEED);
+        Seller seller = seller();
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<ProductVariant> variants = new ArrayList<>(VARIANTS_PER_PRODUCT);
+            for (int v = 0; v < VARIANTS_PER_PRODUCT; v++) {
+                List<ProductVariantValue> values = new ArrayList<>(VALUES_PER_VARIANT);
+                for (int k = 0; k < VALUES_PER_VARIANT; k++) {
+                    values.add(new ProductVariantValue((long) (i * 100 + v * 10 + k + 1), "Value " + v + "-" + k));
+                }
+                variants.add(new ProductVariant((long) (i * 10 + v + 1), "Type " + v, values));
+            }
+            products.add(new Product(
+                    (long) i + 1,
+                    name(random, i),
+                    description(random),
+                    price(random),
+                    random.nextInt(500),
+                    CONDITIONS[random.nextInt(CONDITIONS.length)],
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    variants,
+                    seller));
+        }
+        return products;
+    }
+
+    public static List<ProductEntity> productEntities(int count) {
+        SellerEntity seller = new SellerEntity("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        List<ProductEntity> entities = new ArrayList<>(count);
+        for (Product product : products(count)) {
+            ProductEntity entity = new ProductEntity();
+            entity.setId(product.getId());
+            entity.setName(product.getName());
+            entity.setDescription(product.getDescription());
+            entity.setPrice(product.getPrice());
+            entity.setAvailableQuantity(product.getAvailableQuantity());
+            entity.setCondition(product.getCondition());
+            entity.setCategory(product.getCategory());
+            entity.setSeller(seller);
+            entity.setVersion(0L);
+
+            List<ProductVariantEntity> variants = new ArrayList<>();
+            for (ProductVariant variant : product.getVariants()) {
+                ProductVariantEntity variantEntity = new ProductVariantEntity();
+                variantEntity.setId(variant.getId());
+                variantEntity.setType(variant.getType());
+                variantEntity.setProduct(entity);
+                List<ProductVariantValueEntity> values = new ArrayList<>();
+                for (ProductVariantValue value : variant.getValues()) {
+                    ProductVariantValueEntity valueEntity = new ProductVariantValueEntity();
+                    valueEntity.setId(value.getId());
+                    valueEntity.setValue(value.getValue());
+                    valueEntity.setVariant(variantEntity);
+                    values.add(valueEntity);
+                }
+                variantEntity.setValues(values);
+                variants.add(variantEntity);
+            }
+            entity.setVariants(variants);
+            entities.add(entity);
+        }
+        return entities;
+    }
+
+    private static Seller seller() {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        return seller;
+    }
+
+    private static String name(Random random, int index) {
+        return "%s %s %05d".formatted(capitalize(word(random)), capitalize(word(random)), index);
+    }
+
+    private static String description(Random random) {
+        StringBuilder description = new StringBuilder();
+        while (description.length() < 400) {
+            description.append(word(random)).append(' ');
+        }
+        return description.toString().trim();
+    }
+
+    private static BigDecimal price(Random random) {
+        return BigDecimal.valueOf(1 + random.nextDouble() * 4999).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
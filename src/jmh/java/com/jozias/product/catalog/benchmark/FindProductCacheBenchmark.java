@@ -0,0 +1,107 @@
+package com.jozias.product.catalog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jozias.product.catalog.application.usecase.FindProductUseCase;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import com.jozias.product.catalog.infrastructure.config.CacheConfig;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link FindProductUseCase#findById} through the real cache proxy and Caffeine setup.
+ * The gateway is served from memory, so the miss figure is the caching overhead on top
+ * of the load itself, not the database round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindProductCacheBenchmark {
+
+    private static final int CATALOG_SIZE = 1_000;
+
+    private AnnotationConfigApplicationContext context;
+    private FindProductUseCase findProductUseCase;
+    private Cache productDetails;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(CacheConfig.class, InMemoryCatalog.class);
+        findProductUseCase = context.getBean(FindProductUseCase.class);
+        productDetails = context.getBean(CacheManager.class).getCache("productDetails");
+        for (long id = 1; id <= CATALOG_SIZE; id++) {
+            findProductUseCase.findById(id);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Product hit() {
+        return findProductUseCase.findById(nextId());
+    }
+
+    @Benchmark
+    public Product miss() {
+        long id = nextId();
+        productDetails.evict(id);
+        return findProductUseCase.findById(id);
+    }
+
+    private long nextId() {
+        next = next % CATALOG_SIZE + 1;
+        return next;
+    }
+
+    @Configuration
+    static class InMemoryCatalog {
+
+        @Bean
+        FindProductGateway findProductGateway() {
+            Map<Long, Product> catalog = CatalogFixtures.products(CATALOG_SIZE).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            FindProductGateway gateway = mock(FindProductGateway.class);
+            when(gateway.findById(anyLong())).thenAnswer(
+                    invocation -> Optional.ofNullable(catalog.get(invocation.<Long>getArgument(0))));
+            return gateway;
+        }
+
+        @Bean
+        FindProductUseCase findProductUseCase(FindProductGateway findProductGateway) {
+            return new FindProductUseCase(findProductGateway);
+        }
+    }
+}
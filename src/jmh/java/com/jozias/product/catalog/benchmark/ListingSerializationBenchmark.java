@@ -0,0 +1,58 @@
+package com.jozias.product.catalog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.jozias.product.catalog.infrastructure.api.dto.PageResponse;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductDTO;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+import com.jozias.product.catalog.infrastructure.config.JacksonConfig;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a listing page, with the application's ObjectMapper setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListingSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<ProductDTO> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper(Jackson2ObjectMapperBuilder.json());
+        ProductResponseMapper mapper = new ProductResponseMapper();
+        List<ProductDTO> content = CatalogFixtures.products(pageSize).stream().map(mapper::toDto).toList();
+        page = PageResponse.from(new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000));
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
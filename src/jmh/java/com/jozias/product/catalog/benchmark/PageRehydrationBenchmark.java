@@ -0,0 +1,98 @@
+package com.jozias.product.catalog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductVariantEntity;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductVariantEntityMapper;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductVariantEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductVariantValueEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.SellerEntityMapper;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.SellerEntityMapperImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping a whole page of loaded entities to the domain: through
+ * {@code Product.rehydrate()}, as {@code ProductEntityMapper} does, against the
+ * validating constructor it used before. The difference is the CPU that
+ * {@code validateState()} cost on every read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageRehydrationBenchmark {
+
+    @Param({ "1000" })
+    private int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductEntityMapper productEntityMapper;
+    private ProductVariantEntityMapper productVariantEntityMapper;
+    private SellerEntityMapper sellerEntityMapper;
+    private List<ProductEntity> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                ProductEntityMapperImpl.class,
+                ProductVariantEntityMapperImpl.class,
+                ProductVariantValueEntityMapperImpl.class,
+                SellerEntityMapperImpl.class);
+        productEntityMapper = context.getBean(ProductEntityMapper.class);
+        productVariantEntityMapper = context.getBean(ProductVariantEntityMapper.class);
+        sellerEntityMapper = context.getBean(SellerEntityMapper.class);
+        page = CatalogFixtures.productEntities(pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Product> rehydrated() {
+        List<Product> products = new ArrayList<>(page.size());
+        for (ProductEntity entity : page) {
+            products.add(productEntityMapper.toDomain(entity));
+        }
+        return products;
+    }
+
+    @Benchmark
+    public List<Product> validated() {
+        List<Product> products = new ArrayList<>(page.size());
+        for (ProductEntity entity : page) {
+            List<ProductVariant> variants = new ArrayList<>(entity.getVariants().size());
+            for (ProductVariantEntity variant : entity.getVariants()) {
+                variants.add(productVariantEntityMapper.toDomain(variant));
+            }
+            products.add(new Product(entity.getId(), entity.getName(), entity.getDescription(), entity.getPrice(),
+                    entity.getAvailableQuantity(), entity.getCondition(), entity.getCategory(), variants,
+                    sellerEntityMapper.toDomain(entity.getSeller())));
+        }
+        return products;
+    }
+}
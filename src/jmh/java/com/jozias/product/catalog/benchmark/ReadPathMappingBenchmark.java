@@ -0,0 +1,84 @@
+package com.jozias.product.catalog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductDetailDTO;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductVariantEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductVariantValueEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.SellerEntityMapperImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping cost of one product on the read path: entity to domain (MapStruct) and
+ * domain to the detail response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadPathMappingBenchmark {
+
+    private static final int CATALOG_SIZE = 256;
+
+    private AnnotationConfigApplicationContext context;
+    private ProductEntityMapper productEntityMapper;
+    private ProductResponseMapper productResponseMapper;
+    private List<ProductEntity> entities;
+    private List<Product> products;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(
+                ProductEntityMapperImpl.class,
+                ProductVariantEntityMapperImpl.class,
+                ProductVariantValueEntityMapperImpl.class,
+                SellerEntityMapperImpl.class);
+        productEntityMapper = context.getBean(ProductEntityMapper.class);
+        productResponseMapper = new ProductResponseMapper();
+        entities = CatalogFixtures.productEntities(CATALOG_SIZE);
+        products = CatalogFixtures.products(CATALOG_SIZE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return productEntityMapper.toDomain(entities.get(nextIndex()));
+    }
+
+    @Benchmark
+    public ProductDetailDTO domainToDetailDto() {
+        return productResponseMapper.toDetailDto(products.get(nextIndex()));
+    }
+
+    // Rotates through the catalog so the benchmark does not map a single hot object
+    private int nextIndex() {
+        next = (next + 1) % CATALOG_SIZE;
+        return next;
+    }
+}
@@ -0,0 +1,95 @@
+package com.jozias.product.catalog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.jozias.product.catalog.Application;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load comparison of the request threading modes: boots the whole application on a
+ * random port, with platform or virtual request threads, and times a burst of
+ * {@code concurrency} simultaneous cursor listings, which are never cached and always
+ * reach the database. Against the in-memory H2 the queries take microseconds; point
+ * {@code spring.datasource.url} at a real database to see the blocking JDBC calls
+ * that virtual threads are meant to overlap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RequestThreadingBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean virtualThreads;
+
+    @Param({ "1000" })
+    private int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private ExecutorService callers;
+    private URI uri;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "logging.level.root=WARN")
+                .run();
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        uri = URI.create("http://localhost:" + port + "/api/v1/products?after=&size=20");
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder().executor(callers).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        callers.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int burst() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        List<Future<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            responses.add(callers.submit(() -> client.send(request, HttpResponse.BodyHandlers.discarding())));
+        }
+        int ok = 0;
+        for (Future<HttpResponse<Void>> response : responses) {
+            if (response.get().statusCode() == 200) {
+                ok++;
+            }
+        }
+        return ok;
+    }
+}
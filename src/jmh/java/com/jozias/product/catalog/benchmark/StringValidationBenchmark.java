@@ -0,0 +1,78 @@
+package com.jozias.product.catalog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.util.StringUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text validation cost per mapped product: the three {@code isAValidString} calls of
+ * {@code Product.validateState} (name, description and category), with the former
+ * trim and regex implementation as the baseline. Run with {@code -prof gc} to compare
+ * the allocation per product.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringValidationBenchmark {
+
+    private static final int CATALOG_SIZE = 256;
+
+    private List<Product> products;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        products = CatalogFixtures.products(CATALOG_SIZE);
+    }
+
+    @Benchmark
+    public boolean regexPerProduct() {
+        Product product = products.get(nextIndex());
+        return regexValidString(product.getName(), 3)
+                & regexValidString(product.getDescription(), 10)
+                & regexValidString(product.getCategory(), 3);
+    }
+
+    @Benchmark
+    public boolean scanPerProduct() {
+        Product product = products.get(nextIndex());
+        return StringUtils.isAValidString(product.getName(), 3)
+                & StringUtils.isAValidString(product.getDescription(), 10)
+                & StringUtils.isAValidString(product.getCategory(), 3);
+    }
+
+    // The implementation replaced by the single-pass scan, kept as the baseline
+    private static boolean regexValidString(String str, int minLength) {
+        if (str == null) {
+            return false;
+        }
+        String trimmed = str.trim();
+        if (trimmed.isEmpty()) {
+            return false;
+        }
+        return trimmed.replaceAll("\\s+", "").length() >= minLength;
+    }
+
+    // Rotates through the catalog so the benchmark does not validate a single hot object
+    private int nextIndex() {
+        next = (next + 1) % CATALOG_SIZE;
+        return next;
+    }
+}
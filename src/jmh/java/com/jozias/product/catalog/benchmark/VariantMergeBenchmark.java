@@ -0,0 +1,85 @@
+package com.jozias.product.catalog.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.ProductVariantValue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merge of a {@code PUT} payload into a stored variant grid of {@code values} entries:
+ * the hash-indexed {@code ProductVariant.update} against the former list-based merge,
+ * kept here as the baseline. The request resends every stored id in reverse order,
+ * the worst case for the linear lookup, so the grid is the same after each call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariantMergeBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    private int values;
+
+    private ProductVariant stored;
+    private List<ProductVariantValue> incoming;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ProductVariantValue> grid = new ArrayList<>(values);
+        incoming = new ArrayList<>(values);
+        for (int i = 0; i < values; i++) {
+            grid.add(new ProductVariantValue((long) i, "Value " + i));
+        }
+        for (int i = values - 1; i >= 0; i--) {
+            incoming.add(new ProductVariantValue((long) i, "Updated " + i));
+        }
+        stored = new ProductVariant(1L, "Size", grid);
+    }
+
+    @Benchmark
+    public ProductVariant hashIndexed() {
+        stored.update("Size", incoming);
+        return stored;
+    }
+
+    @Benchmark
+    public ProductVariant listBased() {
+        stored.setType("Size");
+        legacyUpdateValues(stored.getValues(), incoming);
+        return stored;
+    }
+
+    // The merge replaced by the hash-indexed one, kept as the baseline
+    private static void legacyUpdateValues(List<ProductVariantValue> values, List<ProductVariantValue> incomingValues) {
+        List<Long> incomingIds = incomingValues.stream()
+                .map(ProductVariantValue::getId)
+                .filter(id -> id != null)
+                .toList();
+        values.removeIf(existing -> existing.getId() != null && !incomingIds.contains(existing.getId()));
+        for (ProductVariantValue incoming : incomingValues) {
+            if (incoming.getId() == null) {
+                values.add(incoming);
+            } else {
+                values.stream().filter(existing -> existing.getId().equals(incoming.getId())).findFirst()
+                        .ifPresent(existing -> existing.update(incoming.getValue()));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.jozias.product.catalog.application.cache;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bulk access to the product detail cache, which the Spring cache abstraction only
+ * exposes one key at a time.
+ */
+public interface ProductDetailCache {
+
+    /**
+     * Returns the cached products for {@code ids}, loading every miss with a single call
+     * to {@code loader}. Ids the loader does not return are absent from the result and
+     * are not cached.
+     */
+    Map<Long, Product> getAll(Collection<Long> ids, Function<Set<Long>, Map<Long, Product>> loader);
+
+    /**
+     * Replaces the cached product, if any, with a copy carrying the new stock level, so
+     * a stock write does not cost the next reader a reload. An entry already at the same
+     * or a newer version is left alone, so concurrent writes cannot roll it back.
+     */
+    void patchStockLevel(Long id, StockLevel stockLevel);
+}
@@ -0,0 +1,24 @@
+package com.jozias.product.catalog.application.cache;
+
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+/**
+ * Keeps the paginated listing cache consistent after a write, evicting only the
+ * cached pages whose content can actually change instead of the whole cache.
+ */
+public interface ProductListingCache {
+
+    void evictCreated(ProductSummary created);
+
+    void evictUpdated(ProductSummary before, ProductSummary after);
+
+    void evictDeleted(ProductSummary deleted);
+
+    /**
+     * Rewrites the quantity of the product in the cached pages that list it, evicting
+     * only the pages whose order depends on the quantity. Pages already holding the
+     * version of {@code stockLevel} or a later one are left as they are.
+     */
+    void patchStockLevel(Long id, StockLevel stockLevel);
+}
@@ -0,0 +1,23 @@
+package com.jozias.product.catalog.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+
+/**
+ * Partial update of a product: a null field was not supplied and keeps its value. A
+ * non-null {@code expectedVersion} makes the patch conditional on the stored version.
+ */
+public record PatchProductDTO(
+                Long id,
+                String name,
+                String description,
+                BigDecimal price,
+                Integer availableQuantity,
+                Condition condition,
+                String category,
+                List<ProductVariant> variants,
+                Long expectedVersion) {
+}
@@ -0,0 +1,20 @@
+package com.jozias.product.catalog.application.dto;
+
+/**
+ * Outcome of one item of a bulk import: the id of the created product, or why it was
+ * rejected.
+ */
+public record ProductImportResult(Long id, String error) {
+
+    public static ProductImportResult created(Long id) {
+        return new ProductImportResult(id, null);
+    }
+
+    public static ProductImportResult rejected(String error) {
+        return new ProductImportResult(null, error);
+    }
+
+    public boolean isCreated() {
+        return error == null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.jozias.product.catalog.application.dto;
+
+import java.util.Set;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductField;
+
+/**
+ * Outcome of a partial update: the current product and the fields the patch actually
+ * changed, empty when it matched the stored state.
+ */
+public record ProductPatchResult(Product product, Set<ProductField> changedFields) {
+
+    public boolean changed() {
+        return !changedFields.isEmpty();
+    }
+}
@@ -0,0 +1,10 @@
+package com.jozias.product.catalog.application.dto;
+
+/**
+ * How the quantity of a stock update is applied: as the new stock level or as a
+ * change (positive or negative) to the current one.
+ */
+public enum StockUpdateMode {
+    ABSOLUTE,
+    DELTA
+}
@@ -14,5 +14,6 @@ public record UpdateProductDTO(
                 Integer availableQuantity,
                 Condition condition,
                 String category,
-                List<ProductVariant> variants) {
+                List<ProductVariant> variants,
+                Long expectedVersion) {
 }
@@ -0,0 +1,4 @@
+package com.jozias.product.catalog.application.dto;
+
+public record UpdateStockDTO(Long productId, StockUpdateMode mode, int quantity) {
+}
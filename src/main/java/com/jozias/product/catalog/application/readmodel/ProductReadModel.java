@@ -0,0 +1,47 @@
+package com.jozias.product.catalog.application.readmodel;
+
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+/**
+ * In-memory replica of the listing columns of the catalog, able to answer listings
+ * without a database round trip. Like the search index, the write use cases keep it in
+ * step with the database, so a write is visible in the next listing it returns.
+ */
+public interface ProductReadModel {
+
+    /**
+     * Read model of a deployment that lists from the database only.
+     */
+    ProductReadModel NONE = new ProductReadModel() {
+
+        @Override
+        public void upsert(ProductSummary summary) {
+        }
+
+        @Override
+        public void remove(Long id, Long version) {
+        }
+
+        @Override
+        public void updateStockLevel(Long id, StockLevel stockLevel) {
+        }
+    };
+
+    /**
+     * Adds the product, or replaces the row held for its id unless that row carries a
+     * later version.
+     */
+    void upsert(ProductSummary summary);
+
+    /**
+     * Drops the row and remembers the version it was deleted at, so a delayed write of
+     * the same or an older version does not bring it back.
+     */
+    void remove(Long id, Long version);
+
+    /**
+     * Sets the quantity of the row held for the id unless that row carries a later version.
+     */
+    void updateStockLevel(Long id, StockLevel stockLevel);
+}
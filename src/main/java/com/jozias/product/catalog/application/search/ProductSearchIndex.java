@@ -0,0 +1,31 @@
+package com.jozias.product.catalog.application.search;
+
+import java.util.List;
+
+import com.jozias.product.catalog.domain.entity.Product;
+
+/**
+ * Full-text index over the searchable text of the catalog (name, description, category
+ * and variant values). The write use cases keep it in step with the database, so a
+ * product is searchable as soon as its write returns.
+ */
+public interface ProductSearchIndex {
+
+    /**
+     * Adds the product, or replaces what was indexed for its id unless that carries a
+     * later version.
+     */
+    void index(Product product);
+
+    /**
+     * Drops the product and remembers the version it was deleted at, so a delayed write
+     * of the same or an older version does not bring it back.
+     */
+    void remove(Long id, Long version);
+
+    /**
+     * Returns the ids of the products matching every term of {@code query}, best match
+     * first, at most {@code limit} of them.
+     */
+    List<Long> search(String query, int limit);
+}
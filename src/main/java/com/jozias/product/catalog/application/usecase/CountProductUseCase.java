@@ -0,0 +1,19 @@
+package com.jozias.product.catalog.application.usecase;
+
+import org.springframework.cache.annotation.Cacheable;
+
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+public class CountProductUseCase {
+
+    private final FindProductGateway findProductGateway;
+
+    public CountProductUseCase(FindProductGateway findProductGateway) {
+        this.findProductGateway = findProductGateway;
+    }
+
+    @Cacheable(value = "productCount", key = "'all'")
+    public long count() {
+        return findProductGateway.count();
+    }
+}
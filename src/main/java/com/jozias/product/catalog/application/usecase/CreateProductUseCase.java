@@ -3,10 +3,14 @@ package com.jozias.product.catalog.application.usecase;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
 import com.jozias.product.catalog.application.dto.CreateProductDTO;
 import com.jozias.product.catalog.domain.gateway.FindSellerGateway;
 import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.entity.Seller;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
 
@@ -15,13 +19,21 @@ public class CreateProductUseCase {
 
     private final SaveProductGateway saveProductGateway;
     private final FindSellerGateway findSellerGateway;
+    private final ProductListingCache productListingCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductReadModel productReadModel;
 
-    public CreateProductUseCase(SaveProductGateway saveProductGateway, FindSellerGateway findSellerGateway) {
+    public CreateProductUseCase(SaveProductGateway saveProductGateway, FindSellerGateway findSellerGateway,
+            ProductListingCache productListingCache, ProductSearchIndex productSearchIndex,
+            ProductReadModel productReadModel) {
         this.saveProductGateway = saveProductGateway;
         this.findSellerGateway = findSellerGateway;
+        this.productListingCache = productListingCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productReadModel = productReadModel;
     }
 
-    @CacheEvict(value = "products", allEntries = true)
+    @CacheEvict(value = "productCount", allEntries = true)
     public Product execute(CreateProductDTO dto) {
         Seller seller = findSellerGateway.findById(dto.sellerId())
                 .orElseThrow(() -> new EntityNotFoundException("Seller not found with id: " + dto.sellerId()));
@@ -38,6 +50,10 @@ public class CreateProductUseCase {
                 seller);
 
         Product savedProduct = saveProductGateway.save(product);
+        ProductSummary created = ProductSummary.from(savedProduct);
+        productListingCache.evictCreated(created);
+        productSearchIndex.index(savedProduct);
+        productReadModel.upsert(created);
         log.info("Product successfully created with ID: {}", savedProduct.getId());
         return savedProduct;
     }
@@ -4,23 +4,45 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Caching;
 
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.gateway.DeleteProductGateway;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+import java.util.Optional;
 
 @Slf4j
 public class DeleteProductUsecase {
 
     private final DeleteProductGateway deleteProductGateway;
+    private final FindProductGateway findProductGateway;
+    private final ProductListingCache productListingCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductReadModel productReadModel;
 
-    public DeleteProductUsecase(DeleteProductGateway deleteProductGateway) {
+    public DeleteProductUsecase(DeleteProductGateway deleteProductGateway, FindProductGateway findProductGateway,
+            ProductListingCache productListingCache, ProductSearchIndex productSearchIndex,
+            ProductReadModel productReadModel) {
         this.deleteProductGateway = deleteProductGateway;
+        this.findProductGateway = findProductGateway;
+        this.productListingCache = productListingCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productReadModel = productReadModel;
     }
 
     @Caching(evict = {
-            @CacheEvict(value = "products", allEntries = true),
-            @CacheEvict(value = "productDetails", key = "#id")
+            @CacheEvict(value = { "productDetails", "productDetailsJson" }, key = "#id"),
+            @CacheEvict(value = "productCount", allEntries = true)
     })
     public void deleteById(Long id) {
+        Optional<ProductSummary> deleted = findProductGateway.findSummaryById(id);
         deleteProductGateway.deleteById(id);
+        deleted.ifPresent(productListingCache::evictDeleted);
+        Long deletedVersion = deleted.map(ProductSummary::version).orElse(null);
+        productSearchIndex.remove(id, deletedVersion);
+        productReadModel.remove(id, deletedVersion);
         log.info("Product ID: {} deleted", id);
     }
 }
@@ -0,0 +1,35 @@
+package com.jozias.product.catalog.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.gateway.ExportProductGateway;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Walks the whole catalog in id order, handing the products over one chunk at a time.
+ * Only the current chunk is held in memory, whatever the catalog size.
+ */
+@Slf4j
+public class ExportProductsUseCase {
+
+    private final ExportProductGateway exportProductGateway;
+    private final int chunkSize;
+
+    public ExportProductsUseCase(ExportProductGateway exportProductGateway, int chunkSize) {
+        this.exportProductGateway = exportProductGateway;
+        this.chunkSize = chunkSize;
+    }
+
+    public long execute(Consumer<List<Product>> chunkConsumer) {
+        long[] exported = { 0 };
+        exportProductGateway.exportAll(chunkSize, chunk -> {
+            chunkConsumer.accept(chunk);
+            exported[0] += chunk.size();
+        });
+        log.info("Catalog export finished: {} products", exported[0]);
+        return exported[0];
+    }
+}
@@ -0,0 +1,25 @@
+package com.jozias.product.catalog.application.usecase;
+
+import org.springframework.cache.annotation.Cacheable;
+
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+public class FindProductFacetsUseCase {
+
+    private final FindProductGateway findProductGateway;
+
+    public FindProductFacetsUseCase(FindProductGateway findProductGateway) {
+        this.findProductGateway = findProductGateway;
+    }
+
+    /**
+     * Cached per filter, independently of the page: every page of a listing shares the
+     * same counts. Writes evict only the filters the product matches, before or after.
+     */
+    @Cacheable(value = "productFacets", key = "#filter")
+    public ProductFacets execute(ProductFilter filter) {
+        return findProductGateway.facets(filter);
+    }
+}
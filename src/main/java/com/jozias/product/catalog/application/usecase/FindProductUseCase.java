@@ -1,11 +1,17 @@
 package com.jozias.product.catalog.application.usecase;
 
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import com.jozias.product.catalog.domain.gateway.FindProductGateway;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
 
 public class FindProductUseCase {
@@ -16,12 +22,26 @@ public class FindProductUseCase {
         this.findProductGateway = findProductGateway;
     }
 
-    @Cacheable(value = "products", key = "#pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort.toString()")
-    public Page<Product> findAll(Pageable pageable) {
-        return findProductGateway.list(pageable);
+    /**
+     * Cached per filter and page; the key keeps the filter so a write only invalidates
+     * the listings it can appear in.
+     */
+    @Cacheable(value = "products", keyGenerator = "productListingKeyGenerator")
+    public Page<ProductSummary> findAll(ProductFilter filter, Pageable pageable) {
+        return findProductGateway.listSummaries(filter, pageable);
     }
 
-    @Cacheable(value = "productDetails", key = "#id")
+    @Cacheable(value = "products", keyGenerator = "productListingKeyGenerator")
+    public Slice<ProductSummary> findSlice(ProductFilter filter, Pageable pageable) {
+        return findProductGateway.sliceSummaries(filter, pageable);
+    }
+
+    public Window<ProductSummary> scroll(ProductFilter filter, KeysetScrollPosition position, Sort.Order order,
+            int size) {
+        return findProductGateway.scrollSummaries(filter, position, order, size);
+    }
+
+    @Cacheable(value = "productDetails", key = "#id", sync = true)
     public Product findById(Long id) {
         return findProductGateway.findById(id)
                 .orElseThrow(
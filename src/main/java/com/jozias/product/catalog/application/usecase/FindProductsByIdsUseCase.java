@@ -0,0 +1,52 @@
+package com.jozias.product.catalog.application.usecase;
+
+import com.jozias.product.catalog.application.cache.ProductDetailCache;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Product details for a batch of ids (cart, recommendation rails). Cached products are
+ * served from the detail cache and all misses are loaded together, so a batch costs at
+ * most one database round trip instead of one request per product.
+ */
+public class FindProductsByIdsUseCase {
+
+    public static final int MAX_IDS = 100;
+
+    private final FindProductGateway findProductGateway;
+    private final ProductDetailCache productDetailCache;
+
+    public FindProductsByIdsUseCase(FindProductGateway findProductGateway, ProductDetailCache productDetailCache) {
+        this.findProductGateway = findProductGateway;
+        this.productDetailCache = productDetailCache;
+    }
+
+    /**
+     * Returns the products in the order of {@code ids}, without duplicates. Unknown ids
+     * are left out rather than failing the whole batch.
+     */
+    public List<Product> execute(List<Long> ids) {
+        Set<Long> distinct = ids.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distinct.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most %d ids can be requested at once".formatted(MAX_IDS));
+        }
+        if (distinct.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> found = productDetailCache.getAll(distinct, missing -> findProductGateway
+                .findAllByIds(missing)
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity())));
+        return distinct.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+}
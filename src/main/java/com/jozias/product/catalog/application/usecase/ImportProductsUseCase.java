@@ -0,0 +1,94 @@
+package com.jozias.product.catalog.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+
+import com.jozias.product.catalog.application.dto.CreateProductDTO;
+import com.jozias.product.catalog.application.dto.ProductImportResult;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.exception.ProductInstanceInvalidException;
+import com.jozias.product.catalog.domain.gateway.FindSellerGateway;
+import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates one chunk of a bulk import. Sellers are resolved with a single query for the
+ * whole chunk and the valid products are saved together, so a chunk costs a constant
+ * number of round trips instead of one {@link CreateProductUseCase} call per product.
+ */
+@Slf4j
+public class ImportProductsUseCase {
+
+    private final SaveProductGateway saveProductGateway;
+    private final FindSellerGateway findSellerGateway;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductReadModel productReadModel;
+
+    public ImportProductsUseCase(SaveProductGateway saveProductGateway, FindSellerGateway findSellerGateway,
+            ProductSearchIndex productSearchIndex, ProductReadModel productReadModel) {
+        this.saveProductGateway = saveProductGateway;
+        this.findSellerGateway = findSellerGateway;
+        this.productSearchIndex = productSearchIndex;
+        this.productReadModel = productReadModel;
+    }
+
+    /**
+     * Returns one result per item, in the order of {@code chunk}. Items with an unknown
+     * seller or failing the domain rules are rejected without affecting the others.
+     */
+    @CacheEvict(value = { "products", "productCount", "productFacets" }, allEntries = true)
+    public List<ProductImportResult> execute(List<CreateProductDTO> chunk) {
+        Map<Long, Seller> sellers = findSellerGateway.findAllById(
+                chunk.stream().map(CreateProductDTO::sellerId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Seller::getId, Function.identity()));
+
+        ProductImportResult[] results = new ProductImportResult[chunk.size()];
+        List<Product> accepted = new ArrayList<>(chunk.size());
+        List<Integer> acceptedPositions = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            CreateProductDTO dto = chunk.get(i);
+            Seller seller = sellers.get(dto.sellerId());
+            if (seller == null) {
+                results[i] = ProductImportResult.rejected("Seller not found with id: " + dto.sellerId());
+                continue;
+            }
+            try {
+                accepted.add(new Product(
+                        null,
+                        dto.name(),
+                        dto.description(),
+                        dto.price(),
+                        dto.availableQuantity(),
+                        dto.condition(),
+                        dto.category(),
+                        dto.variants(),
+                        seller));
+                acceptedPositions.add(i);
+            } catch (ProductInstanceInvalidException e) {
+                results[i] = ProductImportResult.rejected(e.getMessage());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            List<Product> saved = saveProductGateway.saveAll(accepted);
+            for (int i = 0; i < saved.size(); i++) {
+                results[acceptedPositions.get(i)] = ProductImportResult.created(saved.get(i).getId());
+                productSearchIndex.index(saved.get(i));
+                productReadModel.upsert(ProductSummary.from(saved.get(i)));
+            }
+        }
+        log.info("Imported chunk: {} created, {} rejected", accepted.size(), chunk.size() - accepted.size());
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,84 @@
+package com.jozias.product.catalog.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.application.dto.PatchProductDTO;
+import com.jozias.product.catalog.application.dto.ProductPatchResult;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductField;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Slf4j
+public class PatchProductUseCase {
+
+    // Fields whose text is in the search index; price or stock changes leave it as is
+    private static final Set<ProductField> SEARCHABLE_FIELDS = EnumSet.of(
+            ProductField.NAME, ProductField.DESCRIPTION, ProductField.CATEGORY, ProductField.VARIANTS);
+
+    private final SaveProductGateway saveProductGateway;
+    private final FindProductGateway findProductGateway;
+    private final ProductListingCache productListingCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductReadModel productReadModel;
+
+    public PatchProductUseCase(SaveProductGateway saveProductGateway, FindProductGateway findProductGateway,
+            ProductListingCache productListingCache, ProductSearchIndex productSearchIndex,
+            ProductReadModel productReadModel) {
+        this.saveProductGateway = saveProductGateway;
+        this.findProductGateway = findProductGateway;
+        this.productListingCache = productListingCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productReadModel = productReadModel;
+    }
+
+    /**
+     * Applies the supplied fields and persists only what changed. A patch that matches
+     * the stored state writes nothing and leaves every cache untouched.
+     */
+    @CacheEvict(value = { "productDetails", "productDetailsJson" }, key = "#dto.id", condition = "#result.changed()")
+    public ProductPatchResult execute(PatchProductDTO dto) {
+        Product product = findProductGateway.findById(dto.id())
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + dto.id()));
+        product.requireVersion(dto.expectedVersion());
+        ProductSummary before = ProductSummary.from(product);
+
+        product.patch(
+                dto.name(),
+                dto.description(),
+                dto.price(),
+                dto.availableQuantity(),
+                dto.condition(),
+                dto.category());
+
+        if (dto.variants() != null) {
+            product.updateVariants(dto.variants());
+        }
+
+        if (!product.hasChanges()) {
+            log.info("Product ID: {} unchanged by patch", dto.id());
+            return new ProductPatchResult(product, Set.of());
+        }
+
+        Set<ProductField> changedFields = EnumSet.copyOf(product.getChangedFields());
+        Product savedProduct = saveProductGateway.saveChanges(product);
+        ProductSummary after = ProductSummary.from(savedProduct);
+        productListingCache.evictUpdated(before, after);
+        productReadModel.upsert(after);
+        if (!Collections.disjoint(changedFields, SEARCHABLE_FIELDS)) {
+            productSearchIndex.index(savedProduct);
+        }
+        log.info("Product ID: {} successfully patched, changed fields: {}", savedProduct.getId(), changedFields);
+        return new ProductPatchResult(savedProduct, changedFields);
+    }
+}
@@ -0,0 +1,31 @@
+package com.jozias.product.catalog.application.usecase;
+
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+
+import java.util.List;
+
+/**
+ * Ranks the catalog against a free-text query using the in-process search index; the
+ * database is not touched. The ids come back best match first and are loaded by
+ * {@link FindProductsByIdsUseCase}, which serves them from the detail cache.
+ */
+public class SearchProductsUseCase {
+
+    public static final int MAX_RESULTS = FindProductsByIdsUseCase.MAX_IDS;
+
+    private final ProductSearchIndex productSearchIndex;
+
+    public SearchProductsUseCase(ProductSearchIndex productSearchIndex) {
+        this.productSearchIndex = productSearchIndex;
+    }
+
+    public List<Long> execute(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be blank");
+        }
+        if (limit < 1 || limit > MAX_RESULTS) {
+            throw new IllegalArgumentException("Search size must be between 1 and %d".formatted(MAX_RESULTS));
+        }
+        return productSearchIndex.search(query, limit);
+    }
+}
@@ -2,12 +2,15 @@ package com.jozias.product.catalog.application.usecase;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
 
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
 import com.jozias.product.catalog.application.dto.UpdateProductDTO;
 import com.jozias.product.catalog.domain.gateway.FindProductGateway;
 import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
 
 @Slf4j
@@ -15,19 +18,26 @@ public class UpdateProductUseCase {
 
     private final SaveProductGateway saveProductGateway;
     private final FindProductGateway findProductGateway;
+    private final ProductListingCache productListingCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductReadModel productReadModel;
 
-    public UpdateProductUseCase(SaveProductGateway saveProductGateway, FindProductGateway findProductGateway) {
+    public UpdateProductUseCase(SaveProductGateway saveProductGateway, FindProductGateway findProductGateway,
+            ProductListingCache productListingCache, ProductSearchIndex productSearchIndex,
+            ProductReadModel productReadModel) {
         this.saveProductGateway = saveProductGateway;
         this.findProductGateway = findProductGateway;
+        this.productListingCache = productListingCache;
+        this.productSearchIndex = productSearchIndex;
+        this.productReadModel = productReadModel;
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "products", allEntries = true),
-            @CacheEvict(value = "productDetails", key = "#dto.id")
-    })
+    @CacheEvict(value = { "productDetails", "productDetailsJson" }, key = "#dto.id")
     public Product execute(UpdateProductDTO dto) {
         Product product = findProductGateway.findById(dto.id())
                 .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + dto.id()));
+        product.requireVersion(dto.expectedVersion());
+        ProductSummary before = ProductSummary.from(product);
 
         product.update(
                 dto.name(),
@@ -40,6 +50,10 @@ public class UpdateProductUseCase {
         product.updateVariants(dto.variants());
 
         Product savedProduct = saveProductGateway.save(product);
+        ProductSummary after = ProductSummary.from(savedProduct);
+        productListingCache.evictUpdated(before, after);
+        productSearchIndex.index(savedProduct);
+        productReadModel.upsert(after);
         log.info("Product ID: {} successfully updated", savedProduct.getId());
         return savedProduct;
     }
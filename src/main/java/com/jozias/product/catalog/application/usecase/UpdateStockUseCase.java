@@ -0,0 +1,54 @@
+package com.jozias.product.catalog.application.usecase;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+
+import com.jozias.product.catalog.application.cache.ProductDetailCache;
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.dto.UpdateStockDTO;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import com.jozias.product.catalog.domain.gateway.ProductStockGateway;
+
+/**
+ * Fast path for inventory sync: one conditional {@code UPDATE} of the quantity column,
+ * with no aggregate load, followed by an in-place patch of the cached product and
+ * listing pages. Only the encoded detail body is evicted, and it is re-encoded from
+ * the patched product without touching the database.
+ */
+@Slf4j
+public class UpdateStockUseCase {
+
+    private final ProductStockGateway productStockGateway;
+    private final ProductDetailCache productDetailCache;
+    private final ProductListingCache productListingCache;
+    private final ProductReadModel productReadModel;
+
+    public UpdateStockUseCase(ProductStockGateway productStockGateway, ProductDetailCache productDetailCache,
+            ProductListingCache productListingCache, ProductReadModel productReadModel) {
+        this.productStockGateway = productStockGateway;
+        this.productDetailCache = productDetailCache;
+        this.productListingCache = productListingCache;
+        this.productReadModel = productReadModel;
+    }
+
+    @CacheEvict(value = "productDetailsJson", key = "#dto.productId")
+    public StockLevel execute(UpdateStockDTO dto) {
+        StockLevel stockLevel = switch (dto.mode()) {
+            case ABSOLUTE -> {
+                if (dto.quantity() < 0) {
+                    throw new IllegalArgumentException("Available quantity cannot be negative");
+                }
+                yield productStockGateway.setAvailableQuantity(dto.productId(), dto.quantity());
+            }
+            case DELTA -> productStockGateway.adjustAvailableQuantity(dto.productId(), dto.quantity());
+        };
+
+        productDetailCache.patchStockLevel(dto.productId(), stockLevel);
+        productListingCache.patchStockLevel(dto.productId(), stockLevel);
+        productReadModel.updateStockLevel(dto.productId(), stockLevel);
+        log.debug("Stock of product ID: {} set to {} at version {}", dto.productId(),
+                stockLevel.availableQuantity(), stockLevel.version());
+        return stockLevel;
+    }
+}
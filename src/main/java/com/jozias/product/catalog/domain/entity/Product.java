@@ -2,9 +2,17 @@ package com.jozias.product.catalog.domain.entity;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import com.jozias.product.catalog.domain.exception.ProductInstanceInvalidException;
+import com.jozias.product.catalog.domain.exception.VersionMismatchException;
 import com.jozias.product.catalog.domain.util.StringUtils;
 
 public class Product {
@@ -18,6 +26,8 @@ public class Product {
     private String category;
     private final List<ProductVariant> variants;
     private final Seller seller;
+    private final Long version;
+    private final Set<ProductField> changedFields = EnumSet.noneOf(ProductField.class);
 
     @SuppressWarnings("java:S107")
     public Product(Long id, String name, String description, BigDecimal price, Integer availableQuantity,
@@ -31,10 +41,33 @@ public class Product {
         this.category = category;
         this.variants = variants != null ? variants : new ArrayList<>();
         this.seller = seller;
+        this.version = null;
 
         validateState();
     }
 
+    private Product(Rehydration state) {
+        this.id = state.id;
+        this.name = state.name;
+        this.description = state.description;
+        this.price = state.price;
+        this.availableQuantity = state.availableQuantity;
+        this.condition = state.condition;
+        this.category = state.category;
+        this.variants = state.variants != null ? state.variants : new ArrayList<>();
+        this.seller = state.seller;
+        this.version = state.version;
+    }
+
+    /**
+     * Trusted path for the persistence layer: rebuilds a product that was validated
+     * before it was stored, without running the validation again. New products and
+     * updates still go through the validating constructor and {@link #update}.
+     */
+    public static Rehydration rehydrate() {
+        return new Rehydration();
+    }
+
     public Long getId() {
         return id;
     }
@@ -83,42 +116,154 @@ public class Product {
         return seller;
     }
 
+    /**
+     * Version of the stored row this instance was loaded from; {@code null} until the
+     * product is first saved.
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    /**
+     * Guards a conditional write: fails unless this instance was loaded at
+     * {@code expectedVersion}. A {@code null} expectation accepts any version.
+     */
+    public void requireVersion(Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(version)) {
+            throw new VersionMismatchException("Product %s is at version %s, not %s"
+                    .formatted(id, version, expectedVersion));
+        }
+    }
+
     public void update(String name, String description, BigDecimal price, Integer availableQuantity,
             Condition condition, String category) {
-        this.name = name;
-        this.description = description;
-        this.price = price;
-        this.availableQuantity = availableQuantity;
-        this.condition = condition;
-        this.category = category;
+        this.name = track(ProductField.NAME, this.name, name);
+        this.description = track(ProductField.DESCRIPTION, this.description, description);
+        // 10.0 and 10.00 are the same price
+        this.price = track(ProductField.PRICE, price,
+                this.price != null && price != null && this.price.compareTo(price) == 0);
+        this.availableQuantity = track(ProductField.AVAILABLE_QUANTITY, this.availableQuantity, availableQuantity);
+        this.condition = track(ProductField.CONDITION, this.condition, condition);
+        this.category = track(ProductField.CATEGORY, this.category, category);
 
         validateState();
     }
 
+    /**
+     * Partial update: applies only the non-null arguments and keeps the other fields.
+     */
+    public void patch(String name, String description, BigDecimal price, Integer availableQuantity,
+            Condition condition, String category) {
+        update(
+                name != null ? name : this.name,
+                description != null ? description : this.description,
+                price != null ? price : this.price,
+                availableQuantity != null ? availableQuantity : this.availableQuantity,
+                condition != null ? condition : this.condition,
+                category != null ? category : this.category);
+    }
+
+    /**
+     * Copy carrying a stock level written straight to the database, used to refresh a
+     * cached instance without reloading it. Variants and seller are shared.
+     */
+    public Product withStockLevel(StockLevel stockLevel) {
+        return copy()
+                .availableQuantity(stockLevel.availableQuantity())
+                .version(stockLevel.version())
+                .build();
+    }
+
+    /**
+     * Copy stamped with the version the row reached once its changes were flushed.
+     */
+    public Product withVersion(Long version) {
+        return copy().version(version).build();
+    }
+
+    private Rehydration copy() {
+        return rehydrate()
+                .id(id)
+                .name(name)
+                .description(description)
+                .price(price)
+                .availableQuantity(availableQuantity)
+                .condition(condition)
+                .category(category)
+                .variants(variants)
+                .seller(seller)
+                .version(version);
+    }
+
+    /**
+     * Fields whose value differs from the loaded state since this instance was built.
+     */
+    public Set<ProductField> getChangedFields() {
+        return Collections.unmodifiableSet(changedFields);
+    }
+
+    public boolean hasChanges() {
+        return !changedFields.isEmpty();
+    }
+
+    /**
+     * Merges the incoming variants by id: existing variants missing from the request are
+     * removed, matching ones are updated in place and variants without id are added.
+     * Ids are indexed in hash structures so the merge is linear in the number of variants.
+     */
     public void updateVariants(List<ProductVariant> incomingVariants) {
+        if (mergeVariants(incomingVariants)) {
+            changedFields.add(ProductField.VARIANTS);
+        }
+    }
+
+    private boolean mergeVariants(List<ProductVariant> incomingVariants) {
         if (incomingVariants == null || incomingVariants.isEmpty()) {
+            boolean changed = !this.variants.isEmpty();
             this.variants.clear();
-            return;
+            return changed;
         }
 
-        List<Long> incomingIds = incomingVariants.stream()
-                .map(ProductVariant::getId)
-                .filter(id -> id != null)
-                .toList();
+        Set<Long> incomingIds = HashSet.newHashSet(incomingVariants.size());
+        for (ProductVariant incoming : incomingVariants) {
+            if (incoming.getId() != null) {
+                incomingIds.add(incoming.getId());
+            }
+        }
 
-        this.variants.removeIf(
+        boolean changed = this.variants.removeIf(
                 existingVariant -> existingVariant.getId() != null && !incomingIds.contains(existingVariant.getId()));
 
+        Map<Long, ProductVariant> existingById = HashMap.newHashMap(this.variants.size());
+        for (ProductVariant existing : this.variants) {
+            if (existing.getId() != null) {
+                existingById.putIfAbsent(existing.getId(), existing);
+            }
+        }
+
         for (ProductVariant incoming : incomingVariants) {
             if (incoming.getId() == null) {
                 this.addVariant(incoming);
+                changed = true;
             } else {
-                this.variants.stream()
-                        .filter(existing -> existing.getId().equals(incoming.getId()))
-                        .findFirst()
-                        .ifPresent(existing -> existing.update(incoming.getType(), incoming.getValues()));
+                ProductVariant existing = existingById.get(incoming.getId());
+                if (existing != null) {
+                    changed |= existing.update(incoming.getType(), incoming.getValues());
+                }
             }
         }
+        return changed;
+    }
+
+    private <T> T track(ProductField field, T current, T incoming) {
+        return track(field, incoming, Objects.equals(current, incoming));
+    }
+
+    private <T> T track(ProductField field, T incoming, boolean same) {
+        if (!same) {
+            changedFields.add(field);
+        }
+        return incoming;
     }
 
     private void validateState() {
@@ -152,4 +297,74 @@ public class Product {
         }
     }
 
+    public static final class Rehydration {
+
+        private Long id;
+        private String name;
+        private String description;
+        private BigDecimal price;
+        private Integer availableQuantity;
+        private Condition condition;
+        private String category;
+        private List<ProductVariant> variants;
+        private Seller seller;
+        private Long version;
+
+        private Rehydration() {
+        }
+
+        public Rehydration id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public Rehydration name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Rehydration description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Rehydration price(BigDecimal price) {
+            this.price = price;
+            return this;
+        }
+
+        public Rehydration availableQuantity(Integer availableQuantity) {
+            this.availableQuantity = availableQuantity;
+            return this;
+        }
+
+        public Rehydration condition(Condition condition) {
+            this.condition = condition;
+            return this;
+        }
+
+        public Rehydration category(String category) {
+            this.category = category;
+            return this;
+        }
+
+        public Rehydration variants(List<ProductVariant> variants) {
+            this.variants = variants;
+            return this;
+        }
+
+        public Rehydration seller(Seller seller) {
+            this.seller = seller;
+            return this;
+        }
+
+        public Rehydration version(Long version) {
+            this.version = version;
+            return this;
+        }
+
+        public Product build() {
+            return new Product(this);
+        }
+    }
 }
@@ -0,0 +1,91 @@
+package com.jozias.product.catalog.domain.entity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Number of products of a listing per condition, category, seller and price range, so
+ * a category page can show its refinements next to the page itself.
+ *
+ * @param priceRanges every range of {@link #PRICE_BOUNDS}, including empty ones
+ */
+public record ProductFacets(
+        Map<Condition, Long> conditions,
+        Map<String, Long> categories,
+        Map<Long, Long> sellers,
+        List<PriceRange> priceRanges) {
+
+    /**
+     * Upper bounds (exclusive) of the price ranges; the first range starts at zero and
+     * the last one has no upper bound.
+     */
+    public static final List<BigDecimal> PRICE_BOUNDS = List.of(
+            new BigDecimal("50"), new BigDecimal("100"), new BigDecimal("250"),
+            new BigDecimal("500"), new BigDecimal("1000"));
+
+    /**
+     * @param max exclusive upper bound, null for the last range
+     */
+    public record PriceRange(BigDecimal min, BigDecimal max, long count) {
+    }
+
+    public static int priceRangeOf(BigDecimal price) {
+        int range = 0;
+        while (range < PRICE_BOUNDS.size() && price.compareTo(PRICE_BOUNDS.get(range)) >= 0) {
+            range++;
+        }
+        return range;
+    }
+
+    public static Counter counter() {
+        return new Counter();
+    }
+
+    /**
+     * Rolls rows grouped by every facet at once up into one count per facet value.
+     */
+    public static final class Counter {
+
+        private final Map<Condition, Long> conditions = new EnumMap<>(Condition.class);
+        private final Map<String, Long> categories = new TreeMap<>();
+        private final Map<Long, Long> sellers = new TreeMap<>();
+        private final long[] priceRanges = new long[PRICE_BOUNDS.size() + 1];
+
+        private Counter() {
+        }
+
+        public Counter add(Condition condition, String category, Long sellerId, int priceRange, long count) {
+            if (condition != null) {
+                conditions.merge(condition, count, Long::sum);
+            }
+            if (category != null) {
+                categories.merge(category, count, Long::sum);
+            }
+            if (sellerId != null) {
+                sellers.merge(sellerId, count, Long::sum);
+            }
+            priceRanges[priceRange] += count;
+            return this;
+        }
+
+        public ProductFacets build() {
+            List<PriceRange> ranges = new ArrayList<>(priceRanges.length);
+            for (int range = 0; range < priceRanges.length; range++) {
+                ranges.add(new PriceRange(
+                        range == 0 ? BigDecimal.ZERO : PRICE_BOUNDS.get(range - 1),
+                        range < PRICE_BOUNDS.size() ? PRICE_BOUNDS.get(range) : null,
+                        priceRanges[range]));
+            }
+            return new ProductFacets(
+                    Collections.unmodifiableMap(new EnumMap<>(conditions)),
+                    Collections.unmodifiableMap(new TreeMap<>(categories)),
+                    Collections.unmodifiableMap(new TreeMap<>(sellers)),
+                    List.copyOf(ranges));
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.jozias.product.catalog.domain.entity;
+
+/**
+ * Mutable parts of a product, used to track which of them a change actually touched.
+ */
+public enum ProductField {
+    NAME,
+    DESCRIPTION,
+    PRICE,
+    AVAILABLE_QUANTITY,
+    CONDITION,
+    CATEGORY,
+    VARIANTS
+}
@@ -0,0 +1,77 @@
+package com.jozias.product.catalog.domain.entity;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Criteria of a filtered listing. Every criterion is optional and they are combined
+ * with AND; {@link #NONE} lists the whole catalog. {@link #matches} applies the same
+ * rules in memory, so a cached page can tell whether a write concerns it.
+ *
+ * @param inStock when true, only products with a positive available quantity
+ */
+public record ProductFilter(
+        String category,
+        Condition condition,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        Long sellerId,
+        boolean inStock) {
+
+    public static final ProductFilter NONE = new ProductFilter(null, null, null, null, null, false);
+
+    public ProductFilter {
+        if (minPrice != null && minPrice.signum() < 0) {
+            throw new IllegalArgumentException("Minimum price cannot be negative");
+        }
+        if (maxPrice != null && maxPrice.signum() < 0) {
+            throw new IllegalArgumentException("Maximum price cannot be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("Minimum price cannot be greater than maximum price");
+        }
+    }
+
+    public boolean isEmpty() {
+        return equals(NONE);
+    }
+
+    public boolean matches(ProductSummary summary) {
+        return (category == null || category.equals(summary.category()))
+                && (condition == null || condition == summary.condition())
+                && (minPrice == null || (summary.price() != null && summary.price().compareTo(minPrice) >= 0))
+                && (maxPrice == null || (summary.price() != null && summary.price().compareTo(maxPrice) <= 0))
+                && (sellerId == null || sellerId.equals(summary.sellerId()))
+                && (!inStock || (summary.availableQuantity() != null && summary.availableQuantity() > 0));
+    }
+
+    // Prices compare by value, so 10 and 10.00 are the same filter and the same cache key
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ProductFilter that)) {
+            return false;
+        }
+        return inStock == that.inStock
+                && Objects.equals(category, that.category)
+                && condition == that.condition
+                && sameValue(minPrice, that.minPrice)
+                && sameValue(maxPrice, that.maxPrice)
+                && Objects.equals(sellerId, that.sellerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, condition, normalized(minPrice), normalized(maxPrice), sellerId, inStock);
+    }
+
+    private static boolean sameValue(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static BigDecimal normalized(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
+}
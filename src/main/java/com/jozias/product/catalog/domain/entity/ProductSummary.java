@@ -0,0 +1,38 @@
+package com.jozias.product.catalog.domain.entity;
+
+import java.math.BigDecimal;
+
+/**
+ * Lightweight read model of a product holding only the columns used to list,
+ * sort and filter the catalog (no description, variants or seller details).
+ *
+ * @param version row version the columns were read at, so a copy held in memory can
+ *                tell an older write from a newer one
+ */
+public record ProductSummary(
+        Long id,
+        String name,
+        BigDecimal price,
+        Integer availableQuantity,
+        Condition condition,
+        String category,
+        Long sellerId,
+        Long version) {
+
+    public static ProductSummary from(Product product) {
+        return new ProductSummary(
+                product.getId(),
+                product.getName(),
+                product.getPrice(),
+                product.getAvailableQuantity(),
+                product.getCondition(),
+                product.getCategory(),
+                product.getSeller() != null ? product.getSeller().getId() : null,
+                product.getVersion());
+    }
+
+    public ProductSummary withStockLevel(StockLevel stockLevel) {
+        return new ProductSummary(id, name, price, stockLevel.availableQuantity(), condition, category, sellerId,
+                stockLevel.version());
+    }
+}
@@ -1,7 +1,11 @@
 package com.jozias.product.catalog.domain.entity;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 public class ProductVariant {
     private Long id;
@@ -38,31 +42,54 @@ public class ProductVariant {
         this.values = values;
     }
 
-    public void update(String type, List<ProductVariantValue> incomingValues) {
+    /**
+     * Applies the incoming type and merges the values by id.
+     *
+     * @return whether the type or any value actually changed
+     */
+    public boolean update(String type, List<ProductVariantValue> incomingValues) {
+        boolean changed = !Objects.equals(this.type, type);
         this.type = type;
-        updateValues(incomingValues);
+        return updateValues(incomingValues) || changed;
     }
 
-    private void updateValues(List<ProductVariantValue> incomingValues) {
+    // Same merge as Product.updateVariants, by value id
+    private boolean updateValues(List<ProductVariantValue> incomingValues) {
         if (incomingValues == null || incomingValues.isEmpty()) {
+            boolean changed = !this.values.isEmpty();
             this.values.clear();
-            return;
+            return changed;
         }
 
-        List<Long> incomingIds = incomingValues.stream()
-                .map(ProductVariantValue::getId)
-                .filter(Objects::nonNull)
-                .toList();
+        Set<Long> incomingIds = HashSet.newHashSet(incomingValues.size());
+        for (ProductVariantValue incoming : incomingValues) {
+            if (incoming.getId() != null) {
+                incomingIds.add(incoming.getId());
+            }
+        }
 
-        this.values.removeIf(existing -> existing.getId() != null && !incomingIds.contains(existing.getId()));
+        boolean changed = this.values
+                .removeIf(existing -> existing.getId() != null && !incomingIds.contains(existing.getId()));
+
+        Map<Long, ProductVariantValue> existingById = HashMap.newHashMap(this.values.size());
+        for (ProductVariantValue existing : this.values) {
+            if (existing.getId() != null) {
+                existingById.putIfAbsent(existing.getId(), existing);
+            }
+        }
 
         for (ProductVariantValue incoming : incomingValues) {
             if (incoming.getId() == null) {
                 this.values.add(incoming);
+                changed = true;
             } else {
-                this.values.stream().filter(existing -> existing.getId().equals(incoming.getId())).findFirst()
-                        .ifPresent(existing -> existing.update(incoming.getValue()));
+                ProductVariantValue existing = existingById.get(incoming.getId());
+                if (existing != null && !Objects.equals(existing.getValue(), incoming.getValue())) {
+                    existing.update(incoming.getValue());
+                    changed = true;
+                }
             }
         }
+        return changed;
     }
 }
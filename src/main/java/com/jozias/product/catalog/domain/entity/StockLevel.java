@@ -0,0 +1,8 @@
+package com.jozias.product.catalog.domain.entity;
+
+/**
+ * Stock of a product right after a stock write, with the row version that write
+ * produced.
+ */
+public record StockLevel(Integer availableQuantity, Long version) {
+}
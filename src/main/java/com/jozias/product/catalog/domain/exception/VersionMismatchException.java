@@ -0,0 +1,7 @@
+package com.jozias.product.catalog.domain.exception;
+
+public class VersionMismatchException extends RuntimeException {
+    public VersionMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jozias.product.catalog.domain.gateway;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.jozias.product.catalog.domain.entity.Product;
+
+public interface ExportProductGateway {
+    void exportAll(int chunkSize, Consumer<List<Product>> chunkConsumer);
+}
@@ -1,14 +1,36 @@
 package com.jozias.product.catalog.domain.gateway;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface FindProductGateway {
-    Page<Product> list(Pageable pageable);
+    Page<ProductSummary> listSummaries(ProductFilter filter, Pageable pageable);
+
+    Slice<ProductSummary> sliceSummaries(ProductFilter filter, Pageable pageable);
+
+    long count();
+
+    ProductFacets facets(ProductFilter filter);
+
+    Window<ProductSummary> scrollSummaries(ProductFilter filter, KeysetScrollPosition position, Sort.Order order,
+            int size);
 
     Optional<Product> findById(Long id);
+
+    List<Product> findAllByIds(Collection<Long> ids);
+
+    Optional<ProductSummary> findSummaryById(Long id);
 }
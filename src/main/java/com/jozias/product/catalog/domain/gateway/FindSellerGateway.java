@@ -1,9 +1,13 @@
 package com.jozias.product.catalog.domain.gateway;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.jozias.product.catalog.domain.entity.Seller;
 
 public interface FindSellerGateway {
     Optional<Seller> findById(Long id);
-}
\ No newline at end of file
+
+    List<Seller> findAllById(Collection<Long> ids);
+}
@@ -0,0 +1,22 @@
+package com.jozias.product.catalog.domain.gateway;
+
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+/**
+ * Stock writes that touch only the quantity and version columns, without loading the
+ * aggregate.
+ */
+public interface ProductStockGateway {
+
+    /**
+     * @return the new stock level
+     */
+    StockLevel setAvailableQuantity(Long productId, int quantity);
+
+    /**
+     * Adds {@code delta}, which may be negative, unless the stock would fall below zero.
+     *
+     * @return the new stock level
+     */
+    StockLevel adjustAvailableQuantity(Long productId, int delta);
+}
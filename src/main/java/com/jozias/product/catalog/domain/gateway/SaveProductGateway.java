@@ -1,7 +1,16 @@
 package com.jozias.product.catalog.domain.gateway;
 
+import java.util.List;
+
 import com.jozias.product.catalog.domain.entity.Product;
 
 public interface SaveProductGateway {
     Product save(Product product);
+
+    /**
+     * Persists only the fields reported by {@link Product#getChangedFields()}.
+     */
+    Product saveChanges(Product product);
+
+    List<Product> saveAll(List<Product> products);
 }
@@ -11,17 +11,43 @@ public final class StringUtils {
         return isAValidString(str, 1);
     }
 
+    /**
+     * Whether {@code str} has at least {@code minLength} characters once surrounding
+     * blanks and inner whitespace are ignored. Counts code points in a single pass,
+     * without trimming or allocating, and stops as soon as the minimum is reached.
+     */
     public static boolean isAValidString(String str, int minLength) {
         if (isNull(str)) {
             return false;
         }
 
-        String trimmed = str.trim();
-        if (trimmed.isEmpty()) {
+        // Same bounds as String.trim(): control characters and spaces at the edges
+        int start = 0;
+        int end = str.length();
+        while (start < end && str.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && str.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
             return false;
         }
 
-        int lengthWithoutSpaces = trimmed.replaceAll("\\s+", "").length();
-        return lengthWithoutSpaces >= minLength;
+        int required = Math.max(minLength, 1);
+        int count = 0;
+        for (int i = start; i < end;) {
+            int codePoint = str.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (!isRegexWhitespace(codePoint) && ++count >= required) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The characters matched by the \s regex class: [ \t\n\x0B\f\r]
+    private static boolean isRegexWhitespace(int codePoint) {
+        return codePoint == ' ' || (codePoint >= '\t' && codePoint <= '\r');
     }
 }
@@ -0,0 +1,31 @@
+package com.jozias.product.catalog.infrastructure.api.bulk;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Output formats of the catalog export.
+ */
+public enum ExportFormat {
+    /** One product detail JSON object per line, variants included. */
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    /** One row per product with the scalar fields and the seller id; variants are omitted. */
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileName() {
+        return "products." + extension;
+    }
+}
@@ -0,0 +1,113 @@
+package com.jozias.product.catalog.infrastructure.api.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import com.jozias.product.catalog.infrastructure.api.dto.ProductDetailDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes exported products to the response as they arrive. Output is buffered and only
+ * flushed by {@link #flush()}, so the caller decides how often bytes hit the socket.
+ * Neither implementation closes the underlying stream.
+ */
+public interface ProductExportWriter {
+
+    void write(ProductDetailDTO product) throws IOException;
+
+    void flush() throws IOException;
+
+    static ProductExportWriter of(ExportFormat format, ObjectMapper objectMapper, OutputStream output)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonWriter(objectMapper, output);
+            case CSV -> new CsvWriter(output);
+        };
+    }
+
+    final class NdjsonWriter implements ProductExportWriter {
+
+        private final ObjectWriter objectWriter;
+        private final JsonGenerator generator;
+
+        private NdjsonWriter(ObjectMapper objectMapper, OutputStream output) throws IOException {
+            this.objectWriter = objectMapper.writerFor(ProductDetailDTO.class)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = objectMapper.getFactory().createGenerator(output)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ProductDetailDTO product) throws IOException {
+            objectWriter.writeValue(generator, product);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    final class CsvWriter implements ProductExportWriter {
+
+        private static final String HEADER =
+                "id,name,description,price,availableQuantity,condition,category,sellerId\n";
+
+        private final Writer writer;
+
+        private CsvWriter(OutputStream output) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.write(HEADER);
+        }
+
+        @Override
+        public void write(ProductDetailDTO product) throws IOException {
+            writer.write(String.valueOf(product.id()));
+            writer.write(',');
+            writeText(product.name());
+            writer.write(',');
+            writeText(product.description());
+            writer.write(',');
+            writer.write(product.price().toPlainString());
+            writer.write(',');
+            writer.write(String.valueOf(product.availableQuantity()));
+            writer.write(',');
+            writer.write(product.condition().name());
+            writer.write(',');
+            writeText(product.category());
+            writer.write(',');
+            writer.write(product.seller() != null ? String.valueOf(product.seller().id()) : "");
+            writer.write('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        // RFC 4180: quote fields holding a separator, a quote or a line break, doubling the quotes
+        private void writeText(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                    && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
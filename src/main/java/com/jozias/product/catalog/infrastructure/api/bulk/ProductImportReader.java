@@ -0,0 +1,66 @@
+package com.jozias.product.catalog.infrastructure.api.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the items of a bulk import one at a time with Jackson's streaming parser, so
+ * only the current item is held in memory. Accepts either a JSON array of objects or
+ * NDJSON (one object per line).
+ */
+public class ProductImportReader implements Closeable {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private boolean started;
+    private boolean array;
+    private int itemNumber;
+
+    public ProductImportReader(ObjectMapper objectMapper, InputStream input) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createParser(input);
+    }
+
+    /**
+     * Returns the next item, or {@code null} once the payload is exhausted. Items that
+     * are not objects are still returned, so the caller can reject them individually.
+     *
+     * @throws com.fasterxml.jackson.core.JsonProcessingException if the payload is not
+     *                                                            well-formed JSON
+     */
+    public JsonNode next() throws IOException {
+        itemNumber++;
+        JsonToken token = parser.nextToken();
+        if (!started) {
+            started = true;
+            if (token == JsonToken.START_ARRAY) {
+                array = true;
+                token = parser.nextToken();
+            }
+        }
+        if (token == null || (array && token == JsonToken.END_ARRAY)) {
+            itemNumber--;
+            return null;
+        }
+        return objectMapper.readTree(parser);
+    }
+
+    /**
+     * 1-based position of the item last returned by {@link #next()}, or of the item it
+     * was reading when it failed.
+     */
+    public int itemNumber() {
+        return itemNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
@@ -0,0 +1,60 @@
+package com.jozias.product.catalog.infrastructure.api.conditional;
+
+/**
+ * Strong ETags of a product, derived from the row version: every write bumps it, so
+ * two responses with the same tag always carry the same product.
+ */
+public final class ProductETags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ProductETags() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header lists {@code etag}, using the weak
+     * comparison RFC 9110 prescribes for it. A missing header matches nothing.
+     */
+    public static boolean matchesNoneMatch(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals(ANY) || stripWeak(tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The version an {@code If-Match} header requires, or {@code null} when the header
+     * is absent or {@code *}, which any existing product satisfies.
+     *
+     * @throws IllegalArgumentException when the header is not a single strong product tag
+     */
+    public static Long requiredVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.strip();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException e) {
+                // falls through to the rejection below
+            }
+        }
+        throw new IllegalArgumentException("Invalid If-Match header: " + ifMatch);
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
@@ -0,0 +1,105 @@
+package com.jozias.product.catalog.infrastructure.api.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.jozias.product.catalog.application.usecase.ExportProductsUseCase;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.infrastructure.api.apiversion.ApiVersion;
+import com.jozias.product.catalog.infrastructure.api.bulk.ExportFormat;
+import com.jozias.product.catalog.infrastructure.api.bulk.ProductExportWriter;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+@Tag(name = "Produtos", description = "Endpoints para gerenciamento de produtos")
+@Slf4j
+@RestController
+@RequestMapping(ApiVersion.V1)
+public class ExportProductController {
+
+    private final ExportProductsUseCase exportProductsUseCase;
+    private final ProductResponseMapper productResponseMapper;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+
+    public ExportProductController(
+            ExportProductsUseCase exportProductsUseCase,
+            ProductResponseMapper productResponseMapper,
+            ObjectMapper objectMapper,
+            @Value("${catalog.export.timeout:30m}") Duration timeout) {
+        this.exportProductsUseCase = exportProductsUseCase;
+        this.productResponseMapper = productResponseMapper;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    @Operation(summary = "Exporta o catálogo completo", description = "Transmite todos os produtos em ordem de id, em NDJSON (detalhe completo, com variantes) ou CSV (campos escalares e id do vendedor). A leitura é feita em lotes por keyset, cada um em uma transação curta, e a memória não cresce com o tamanho do catálogo.")
+    @ApiResponse(responseCode = "200", description = "Catálogo transmitido")
+    @GetMapping("/products:export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Formato da exportação", example = "NDJSON") @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletRequest request) {
+        log.info("Exporting catalog as {}", format);
+        extendAsyncTimeout(request);
+        StreamingResponseBody body = output -> {
+            ProductExportWriter writer = ProductExportWriter.of(format, objectMapper, output);
+            try {
+                exportProductsUseCase.execute(chunk -> {
+                    try {
+                        for (Product product : chunk) {
+                            writer.write(productResponseMapper.toDetailDto(product));
+                        }
+                        writer.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(format.fileName()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * The streamed body is written asynchronously and, for a large catalog, outlives the
+     * container's async timeout; the longer timeout is set on this request only, right
+     * before its async processing starts.
+     */
+    private void extendAsyncTimeout(HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(ExportProductController.class,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                        ((AsyncWebRequest) webRequest).setTimeout(timeout.toMillis());
+                    }
+                });
+    }
+}
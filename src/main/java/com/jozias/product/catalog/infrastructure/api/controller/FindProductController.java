@@ -2,22 +2,47 @@ package com.jozias.product.catalog.infrastructure.api.controller;
 
 import lombok.extern.slf4j.Slf4j;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.jozias.product.catalog.application.usecase.CountProductUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductFacetsUseCase;
 import com.jozias.product.catalog.application.usecase.FindProductUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductsByIdsUseCase;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
 import com.jozias.product.catalog.infrastructure.api.apiversion.ApiVersion;
+import com.jozias.product.catalog.infrastructure.api.conditional.ProductETags;
+import com.jozias.product.catalog.infrastructure.api.dto.CursorPageResponse;
 import com.jozias.product.catalog.infrastructure.api.dto.PageResponse;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductFacetsDTO;
 import com.jozias.product.catalog.infrastructure.api.dto.ProductDTO;
 import com.jozias.product.catalog.infrastructure.api.dto.ProductDetailDTO;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductFilterRequest;
 import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+import com.jozias.product.catalog.infrastructure.api.pagination.CountMode;
+import com.jozias.product.catalog.infrastructure.api.pagination.ProductCursor;
+import com.jozias.product.catalog.infrastructure.cache.EncodedProductDetail;
+import com.jozias.product.catalog.infrastructure.cache.ProductDetailJsonCache;
+
+import java.util.List;
 
 @Tag(name = "Produtos")
 @Slf4j
@@ -26,28 +51,98 @@ import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMappe
 public class FindProductController {
 
     private final FindProductUseCase findProductUseCase;
+    private final CountProductUseCase countProductUseCase;
+    private final FindProductsByIdsUseCase findProductsByIdsUseCase;
+    private final FindProductFacetsUseCase findProductFacetsUseCase;
     private final ProductResponseMapper productResponseMapper;
+    private final ProductDetailJsonCache productDetailJsonCache;
 
-    public FindProductController(FindProductUseCase findProductUseCase, ProductResponseMapper productResponseMapper) {
+    public FindProductController(FindProductUseCase findProductUseCase, CountProductUseCase countProductUseCase,
+            FindProductsByIdsUseCase findProductsByIdsUseCase, FindProductFacetsUseCase findProductFacetsUseCase,
+            ProductResponseMapper productResponseMapper, ProductDetailJsonCache productDetailJsonCache) {
         this.findProductUseCase = findProductUseCase;
+        this.countProductUseCase = countProductUseCase;
+        this.findProductsByIdsUseCase = findProductsByIdsUseCase;
+        this.findProductFacetsUseCase = findProductFacetsUseCase;
         this.productResponseMapper = productResponseMapper;
+        this.productDetailJsonCache = productDetailJsonCache;
     }
 
-    @Operation(summary = "Lista todos os produtos", description = "Retorna uma lista paginada de todos os produtos disponíveis.")
+    @Operation(summary = "Lista todos os produtos", description = "Retorna uma lista paginada dos produtos, opcionalmente filtrada por categoria, condição, faixa de preço, vendedor e estoque. "
+            + "`count` define os totais: EXACT (padrão) executa count(*), NONE omite os totais e CACHED usa um total em cache atualizado periodicamente "
+            + "(esse total é do catálogo inteiro, então com filtros a contagem é exata). "
+            + "Com `facets=true`, a resposta inclui as quantidades por condição, categoria, vendedor e faixa de preço de todos os produtos filtrados.")
     @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Filtro inválido, como preço mínimo maior que o máximo")
     @GetMapping
-    public PageResponse<ProductDTO> listAll(@ParameterObject Pageable pageable) {
-        Page<ProductDTO> page = findProductUseCase.findAll(pageable).map(productResponseMapper::toDto);
-        return PageResponse.from(page);
+    public PageResponse<ProductDTO> listAll(@ParameterObject Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @Parameter(description = "Inclui as contagens por faceta na resposta") @RequestParam(defaultValue = "false") boolean facets,
+            @ParameterObject ProductFilterRequest filterRequest) {
+        ProductFilter filter = filterRequest.toFilter();
+        PageResponse<ProductDTO> response = listPage(filter, pageable, count);
+        return facets ? response.withFacets(ProductFacetsDTO.from(findProductFacetsUseCase.execute(filter))) : response;
+    }
+
+    @Operation(summary = "Lista produtos por cursor", description = "Paginação por keyset, sem totais. Envie `after` vazio para a primeira página e o `nextCursor` retornado para as seguintes. Ordenação suportada: id, name ou price. "
+            + "Aceita os mesmos filtros da listagem paginada, que devem ser repetidos a cada página.")
+    @ApiResponse(responseCode = "200", description = "Página retornada com sucesso")
+    @ApiResponse(responseCode = "400", description = "Cursor ou ordenação inválidos")
+    @GetMapping(params = "after")
+    public CursorPageResponse<ProductDTO> listAfter(@RequestParam String after, @ParameterObject Pageable pageable,
+            @ParameterObject ProductFilterRequest filterRequest) {
+        ProductCursor cursor = after.isBlank() ? ProductCursor.first(pageable.getSort()) : ProductCursor.decode(after);
+        Window<ProductDTO> window = findProductUseCase
+                .scroll(filterRequest.toFilter(), cursor.position(), cursor.order(), pageable.getPageSize())
+                .map(productResponseMapper::toDto);
+        String nextCursor = window.hasNext()
+                ? new ProductCursor(cursor.order(), (KeysetScrollPosition) window.positionAt(window.size() - 1)).encode()
+                : null;
+        return CursorPageResponse.of(window.getContent(), nextCursor);
+    }
+
+    @Operation(summary = "Busca detalhes de vários produtos", description = "Retorna os detalhes dos produtos informados em `ids` (até 100), na ordem pedida. "
+            + "Os produtos em cache são servidos direto e os demais são carregados em uma única consulta; ids inexistentes são omitidos.")
+    @ApiResponse(responseCode = "200", description = "Produtos encontrados")
+    @ApiResponse(responseCode = "400", description = "Mais de 100 ids informados")
+    @GetMapping(params = "ids")
+    public List<ProductDetailDTO> listByIds(@RequestParam List<Long> ids) {
+        log.info("Fetching details for {} product IDs", ids.size());
+        return findProductsByIdsUseCase.execute(ids).stream().map(productResponseMapper::toDetailDto).toList();
     }
 
-    @Operation(summary = "Busca detalhes de um produto", description = "Retorna os detalhes completos de um produto pelo seu ID.")
-    @ApiResponse(responseCode = "200", description = "Produto encontrado")
+    @Operation(summary = "Busca detalhes de um produto", description = "Retorna os detalhes completos de um produto pelo seu ID, com a versão do produto como ETag. "
+            + "Com `If-None-Match` igual à versão atual, responde 304 sem corpo.")
+    @ApiResponse(responseCode = "200", description = "Produto encontrado",
+            content = @Content(schema = @Schema(implementation = ProductDetailDTO.class)))
+    @ApiResponse(responseCode = "304", description = "Produto não mudou desde o ETag informado")
     @ApiResponse(responseCode = "404", description = "Produto não encontrado")
-    @GetMapping("/{id}")
-    public ProductDetailDTO detailById(@PathVariable Long id) {
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> detailById(@PathVariable Long id,
+            @Parameter(description = "ETag de uma resposta anterior", example = "\"3\"") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Fetching details for product ID: {}", id);
-        return productResponseMapper.toDetailDto(findProductUseCase.findById(id));
+        EncodedProductDetail detail = productDetailJsonCache.get(id,
+                () -> productResponseMapper.toDetailDto(findProductUseCase.findById(id)));
+        if (ProductETags.matchesNoneMatch(ifNoneMatch, detail.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(detail.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(detail.etag())
+                .body(detail.body());
+    }
+
+    private PageResponse<ProductDTO> listPage(ProductFilter filter, Pageable pageable, CountMode count) {
+        CountMode mode = count == CountMode.CACHED && !filter.isEmpty() ? CountMode.EXACT : count;
+        return switch (mode) {
+            case EXACT -> PageResponse.from(
+                    findProductUseCase.findAll(filter, pageable).map(productResponseMapper::toDto));
+            case NONE -> PageResponse.fromSlice(findSlice(filter, pageable));
+            case CACHED -> PageResponse.fromSlice(findSlice(filter, pageable), countProductUseCase.count());
+        };
     }
 
-}
\ No newline at end of file
+    private Slice<ProductDTO> findSlice(ProductFilter filter, Pageable pageable) {
+        return findProductUseCase.findSlice(filter, pageable).map(productResponseMapper::toDto);
+    }
+}
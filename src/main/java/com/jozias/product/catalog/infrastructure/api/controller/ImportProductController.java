@@ -0,0 +1,181 @@
+package com.jozias.product.catalog.infrastructure.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jozias.product.catalog.application.dto.CreateProductDTO;
+import com.jozias.product.catalog.application.dto.ProductImportResult;
+import com.jozias.product.catalog.application.usecase.ImportProductsUseCase;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.infrastructure.api.apiversion.ApiVersion;
+import com.jozias.product.catalog.infrastructure.api.bulk.ProductImportReader;
+import com.jozias.product.catalog.infrastructure.api.dto.CreateProductRequest;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductImportLineResult;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductImportResponse;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductRequestMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Tag(name = "Produtos", description = "Endpoints para gerenciamento de produtos")
+@Slf4j
+@RestController
+@RequestMapping(ApiVersion.V1)
+public class ImportProductController {
+
+    private final ImportProductsUseCase importProductsUseCase;
+    private final ProductRequestMapper productRequestMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public ImportProductController(
+            ImportProductsUseCase importProductsUseCase,
+            ProductRequestMapper productRequestMapper,
+            ObjectMapper objectMapper,
+            Validator validator,
+            @Value("${catalog.import.chunk-size:500}") int chunkSize) {
+        this.importProductsUseCase = importProductsUseCase;
+        this.productRequestMapper = productRequestMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    @Operation(summary = "Importa produtos em lote", description = "Recebe um array JSON ou NDJSON (um produto por linha) e grava os produtos em transações por lote. Cada item é validado isoladamente; itens inválidos são rejeitados sem afetar os demais.")
+    @ApiResponse(responseCode = "200", description = "Importação processada; consulte o resultado de cada item")
+    @PostMapping(path = "/products:bulk", consumes = {
+            MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ProductImportResponse> importProducts(InputStream body) throws IOException {
+        List<ProductImportLineResult> results = new ArrayList<>();
+        List<CreateProductDTO> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkItems = new ArrayList<>(chunkSize);
+
+        try (ProductImportReader reader = new ProductImportReader(objectMapper, body)) {
+            JsonNode node;
+            while ((node = nextItem(reader, results)) != null) {
+                int item = reader.itemNumber();
+                try {
+                    CreateProductRequest request = objectMapper.treeToValue(node, CreateProductRequest.class);
+                    String violations = violationsOf(request);
+                    if (violations != null) {
+                        results.add(ProductImportLineResult.rejected(item, violations));
+                        continue;
+                    }
+                    chunk.add(toDto(request));
+                    chunkItems.add(item);
+                } catch (JsonProcessingException e) {
+                    results.add(ProductImportLineResult.rejected(item, "Invalid item: " + e.getOriginalMessage()));
+                } catch (IllegalArgumentException e) {
+                    results.add(ProductImportLineResult.rejected(item, e.getMessage()));
+                }
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, chunkItems, results);
+                }
+            }
+        }
+        importChunk(chunk, chunkItems, results);
+        // Items rejected while parsing were recorded ahead of their chunk
+        results.sort(Comparator.comparingInt(ProductImportLineResult::item));
+
+        ProductImportResponse response = ProductImportResponse.of(results);
+        log.info("Bulk import finished: {} created, {} rejected", response.created(), response.rejected());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Malformed JSON cannot be resynchronized, so it is reported on the item where it
+     * was found and ends the import; the chunks read before it are still imported.
+     */
+    private static JsonNode nextItem(ProductImportReader reader, List<ProductImportLineResult> results)
+            throws IOException {
+        try {
+            return reader.next();
+        } catch (JsonProcessingException e) {
+            log.warn("Bulk import stopped on malformed JSON at item {}", reader.itemNumber());
+            results.add(ProductImportLineResult.rejected(reader.itemNumber(),
+                    "Malformed JSON, import stopped: " + e.getOriginalMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * A chunk is saved in one transaction, so a database failure rejects all of its items
+     * with the cause and the import goes on; the chunks committed before it keep their
+     * ids in the report.
+     */
+    private void importChunk(List<CreateProductDTO> chunk, List<Integer> chunkItems,
+            List<ProductImportLineResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ProductImportResult> imported;
+        try {
+            imported = importProductsUseCase.execute(chunk);
+        } catch (DataAccessException e) {
+            String cause = e.getMostSpecificCause().getMessage();
+            log.warn("Bulk import chunk of items {}-{} not saved: {}", chunkItems.getFirst(), chunkItems.getLast(),
+                    cause);
+            for (Integer item : chunkItems) {
+                results.add(ProductImportLineResult.rejected(item, "Chunk not saved: " + cause));
+            }
+            chunk.clear();
+            chunkItems.clear();
+            return;
+        }
+        for (int i = 0; i < imported.size(); i++) {
+            ProductImportResult result = imported.get(i);
+            results.add(result.isCreated()
+                    ? ProductImportLineResult.created(chunkItems.get(i), result.id())
+                    : ProductImportLineResult.rejected(chunkItems.get(i), result.error()));
+        }
+        chunk.clear();
+        chunkItems.clear();
+    }
+
+    private String violationsOf(CreateProductRequest request) {
+        Set<ConstraintViolation<CreateProductRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private CreateProductDTO toDto(CreateProductRequest request) {
+        if (Arrays.stream(Condition.values()).noneMatch(condition -> condition.name().equals(request.condition()))) {
+            throw new IllegalArgumentException("Invalid condition: " + request.condition());
+        }
+        return new CreateProductDTO(
+                request.sellerId(),
+                request.name(),
+                request.description(),
+                request.price(),
+                request.availableQuantity(),
+                Condition.valueOf(request.condition()),
+                request.category(),
+                productRequestMapper.toCreateDomainVariants(request.variants()));
+    }
+}
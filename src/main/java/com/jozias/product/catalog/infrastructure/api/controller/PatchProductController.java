@@ -0,0 +1,133 @@
+package com.jozias.product.catalog.infrastructure.api.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jozias.product.catalog.application.dto.PatchProductDTO;
+import com.jozias.product.catalog.application.dto.ProductPatchResult;
+import com.jozias.product.catalog.application.usecase.PatchProductUseCase;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.infrastructure.api.apiversion.ApiVersion;
+import com.jozias.product.catalog.infrastructure.api.conditional.ProductETags;
+import com.jozias.product.catalog.infrastructure.api.dto.PatchProductRequest;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductResponse;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductRequestMapper;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+
+import java.util.List;
+import java.util.Set;
+
+@Tag(name = "Produtos")
+@Slf4j
+@RestController
+@RequestMapping(ApiVersion.V1 + "/products")
+public class PatchProductController {
+
+    public static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    // Required product fields: a merge patch may change them but not remove them
+    private static final List<String> REQUIRED_FIELDS = List.of(
+            "name", "description", "price", "availableQuantity", "condition", "category");
+
+    private final PatchProductUseCase patchProductUseCase;
+    private final ProductRequestMapper productRequestMapper;
+    private final ProductResponseMapper productResponseMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public PatchProductController(
+            PatchProductUseCase patchProductUseCase,
+            ProductRequestMapper productRequestMapper,
+            ProductResponseMapper productResponseMapper,
+            ObjectMapper objectMapper,
+            Validator validator) {
+        this.patchProductUseCase = patchProductUseCase;
+        this.productRequestMapper = productRequestMapper;
+        this.productResponseMapper = productResponseMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @Operation(summary = "Atualiza parcialmente um produto", description = "Aplica um JSON Merge Patch (RFC 7386): só os campos enviados são alterados. "
+            + "`variants`, quando enviado, substitui a lista inteira (as variantes com ID são atualizadas) e `null` remove todas. "
+            + "Só as colunas alteradas são gravadas, e um patch sem mudanças não grava nada nem invalida o cache.")
+    @ApiResponse(responseCode = "200", description = "Produto atualizado (ou já no estado pedido)")
+    @ApiResponse(responseCode = "400", description = "Patch inválido")
+    @ApiResponse(responseCode = "404", description = "Produto não encontrado")
+    @ApiResponse(responseCode = "409", description = "Produto alterado por outra requisição durante a atualização")
+    @ApiResponse(responseCode = "412", description = "If-Match não corresponde à versão atual do produto")
+    @PatchMapping(value = "/{id}", consumes = { MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ProductResponse> patch(
+            @PathVariable Long id,
+            @Parameter(description = "ETag obtido no GET; o patch só é aplicado se o produto não mudou desde então", example = "\"3\"") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch) {
+        log.info("Patching product ID: {}", id);
+        PatchProductRequest request = toRequest(patch);
+
+        PatchProductDTO dto = new PatchProductDTO(
+                id,
+                request.name(),
+                request.description(),
+                request.price(),
+                request.availableQuantity(),
+                request.condition() != null ? toCondition(request.condition()) : null,
+                request.category(),
+                patch.has("variants") ? productRequestMapper.toUpdateDomainVariants(request.variants()) : null,
+                ProductETags.requiredVersion(ifMatch));
+
+        ProductPatchResult result = patchProductUseCase.execute(dto);
+
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(result.product().getVersion()))
+                .body(productResponseMapper.toResponse(result.product()));
+    }
+
+    private PatchProductRequest toRequest(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A merge patch must be a JSON object");
+        }
+        for (String field : REQUIRED_FIELDS) {
+            if (patch.has(field) && patch.get(field).isNull()) {
+                throw new IllegalArgumentException("Field '" + field + "' is required and cannot be removed");
+            }
+        }
+
+        PatchProductRequest request;
+        try {
+            request = objectMapper.treeToValue(patch, PatchProductRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid patch: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<PatchProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return request;
+    }
+
+    private static Condition toCondition(String condition) {
+        try {
+            return Condition.valueOf(condition);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid condition: " + condition);
+        }
+    }
+}
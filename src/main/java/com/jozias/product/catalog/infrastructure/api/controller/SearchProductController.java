@@ -0,0 +1,51 @@
+package com.jozias.product.catalog.infrastructure.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jozias.product.catalog.application.usecase.FindProductsByIdsUseCase;
+import com.jozias.product.catalog.application.usecase.SearchProductsUseCase;
+import com.jozias.product.catalog.infrastructure.api.apiversion.ApiVersion;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductDTO;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+
+import java.util.List;
+
+@Tag(name = "Produtos")
+@Slf4j
+@RestController
+@RequestMapping(ApiVersion.V1 + "/products")
+public class SearchProductController {
+
+    private final SearchProductsUseCase searchProductsUseCase;
+    private final FindProductsByIdsUseCase findProductsByIdsUseCase;
+    private final ProductResponseMapper productResponseMapper;
+
+    public SearchProductController(SearchProductsUseCase searchProductsUseCase,
+            FindProductsByIdsUseCase findProductsByIdsUseCase, ProductResponseMapper productResponseMapper) {
+        this.searchProductsUseCase = searchProductsUseCase;
+        this.findProductsByIdsUseCase = findProductsByIdsUseCase;
+        this.productResponseMapper = productResponseMapper;
+    }
+
+    @Operation(summary = "Busca produtos por texto", description = "Busca em nome, descrição, categoria e valores das variantes, ignorando maiúsculas e acentos. "
+            + "Todos os termos precisam aparecer, cada um como prefixo de uma palavra (`smart azul` encontra \"Smartphone\" com a variante \"Azul\"), "
+            + "e os resultados vêm do mais relevante para o menos relevante: nome, depois categoria, variantes e descrição.")
+    @ApiResponse(responseCode = "200", description = "Produtos encontrados, possivelmente nenhum")
+    @ApiResponse(responseCode = "400", description = "Busca vazia ou tamanho fora de 1 a 100")
+    @GetMapping("/search")
+    public List<ProductDTO> search(
+            @Parameter(description = "Texto da busca", example = "smartphone") @RequestParam String q,
+            @Parameter(description = "Quantidade máxima de resultados (até 100)", example = "20") @RequestParam(defaultValue = "20") int size) {
+        List<Long> ids = searchProductsUseCase.execute(q, size);
+        log.info("Search for '{}' matched {} products", q, ids.size());
+        return findProductsByIdsUseCase.execute(ids).stream().map(productResponseMapper::toDto).toList();
+    }
+}
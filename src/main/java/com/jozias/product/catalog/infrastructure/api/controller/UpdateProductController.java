@@ -1,14 +1,17 @@
 package com.jozias.product.catalog.infrastructure.api.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -18,6 +21,7 @@ import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
 import com.jozias.product.catalog.domain.entity.ProductVariant;
 import com.jozias.product.catalog.infrastructure.api.apiversion.ApiVersion;
+import com.jozias.product.catalog.infrastructure.api.conditional.ProductETags;
 import com.jozias.product.catalog.infrastructure.api.dto.ProductResponse;
 import com.jozias.product.catalog.infrastructure.api.dto.UpdateProductRequest;
 import com.jozias.product.catalog.infrastructure.api.mapper.ProductRequestMapper;
@@ -47,9 +51,12 @@ public class UpdateProductController {
     @Operation(summary = "Atualiza um produto existente", description = "Atualiza os dados de um produto a partir do seu ID.")
     @ApiResponse(responseCode = "200", description = "Produto atualizado com sucesso")
     @ApiResponse(responseCode = "404", description = "Produto não encontrado")
+    @ApiResponse(responseCode = "409", description = "Produto alterado por outra requisição durante a atualização")
+    @ApiResponse(responseCode = "412", description = "If-Match não corresponde à versão atual do produto")
     @PutMapping("/{id}")
     public ResponseEntity<ProductResponse> update(
             @PathVariable Long id,
+            @Parameter(description = "ETag obtido no GET; a atualização só é aplicada se o produto não mudou desde então", example = "\"3\"") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateProductRequest request) {
         log.info("Updating product ID: {}", id);
         List<ProductVariant> variants = productRequestMapper.toUpdateDomainVariants(request.variants());
@@ -62,10 +69,13 @@ public class UpdateProductController {
                 request.availableQuantity(),
                 Condition.valueOf(request.condition()),
                 request.category(),
-                variants);
+                variants,
+                ProductETags.requiredVersion(ifMatch));
 
         Product updatedProduct = updateProductUseCase.execute(dto);
 
-        return ResponseEntity.ok(productResponseMapper.toResponse(updatedProduct));
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(updatedProduct.getVersion()))
+                .body(productResponseMapper.toResponse(updatedProduct));
     }
 }
\ No newline at end of file
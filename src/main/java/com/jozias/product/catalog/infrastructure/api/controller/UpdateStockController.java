@@ -0,0 +1,60 @@
+package com.jozias.product.catalog.infrastructure.api.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jozias.product.catalog.application.dto.StockUpdateMode;
+import com.jozias.product.catalog.application.dto.UpdateStockDTO;
+import com.jozias.product.catalog.application.usecase.UpdateStockUseCase;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import com.jozias.product.catalog.infrastructure.api.apiversion.ApiVersion;
+import com.jozias.product.catalog.infrastructure.api.conditional.ProductETags;
+import com.jozias.product.catalog.infrastructure.api.dto.StockResponse;
+import com.jozias.product.catalog.infrastructure.api.dto.UpdateStockRequest;
+
+@Tag(name = "Produtos")
+@Slf4j
+@RestController
+@RequestMapping(ApiVersion.V1 + "/products")
+public class UpdateStockController {
+
+    private final UpdateStockUseCase updateStockUseCase;
+
+    public UpdateStockController(UpdateStockUseCase updateStockUseCase) {
+        this.updateStockUseCase = updateStockUseCase;
+    }
+
+    @Operation(summary = "Atualiza o estoque de um produto", description = "Define (ABSOLUTE) ou ajusta (DELTA) a quantidade disponível com um único UPDATE condicional, "
+            + "sem carregar o produto. Um ajuste que deixaria o estoque negativo é recusado com 409.")
+    @ApiResponse(responseCode = "200", description = "Estoque atualizado")
+    @ApiResponse(responseCode = "400", description = "Requisição inválida")
+    @ApiResponse(responseCode = "404", description = "Produto não encontrado")
+    @ApiResponse(responseCode = "409", description = "Estoque insuficiente para o ajuste")
+    @PostMapping("/{id}/stock")
+    public ResponseEntity<StockResponse> updateStock(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateStockRequest request) {
+        StockLevel stockLevel = updateStockUseCase.execute(
+                new UpdateStockDTO(id, toMode(request.mode()), request.quantity()));
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(stockLevel.version()))
+                .body(new StockResponse(id, stockLevel.availableQuantity(), stockLevel.version()));
+    }
+
+    private static StockUpdateMode toMode(String mode) {
+        try {
+            return StockUpdateMode.valueOf(mode);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid stock mode: " + mode);
+        }
+    }
+}
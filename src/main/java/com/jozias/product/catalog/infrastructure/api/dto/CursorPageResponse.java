@@ -0,0 +1,33 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Cursor-based page response. Unlike {@link PageResponse} it carries no totals, so it
+ * can be produced without a count query.
+ *
+ * @param <T> the type of content in the page
+ */
+@Schema(description = "Resposta paginada por cursor, sem totais")
+public record CursorPageResponse<T>(
+        @Schema(description = "Conteúdo da página") List<T> content,
+
+        @Schema(description = "Quantidade de itens retornados", example = "20") int size,
+
+        @Schema(description = "Cursor para a próxima página; ausente na última", example = "cHJpY2UsREVTQywxMiw5OS45MA") String nextCursor,
+
+        @Schema(description = "Indica se é a última página", example = "false") boolean last) {
+    /**
+     * Factory method to create a CursorPageResponse.
+     *
+     * @param content    the page content
+     * @param nextCursor the cursor of the next page, or {@code null} on the last page
+     * @param <T>        the type of content
+     * @return a CursorPageResponse
+     */
+    public static <T> CursorPageResponse<T> of(List<T> content, String nextCursor) {
+        return new CursorPageResponse<>(content, content.size(), nextCursor, nextCursor == null);
+    }
+}
@@ -1,16 +1,21 @@
 package com.jozias.product.catalog.infrastructure.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 /**
  * Generic paginated response wrapper with clean, relevant pagination metadata.
+ * Totals are omitted when the page was read without a count, and facets unless they
+ * were requested.
  *
  * @param <T> the type of content in the page
  */
 @Schema(description = "Resposta paginada com metadados de navegação")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         @Schema(description = "Conteúdo da página") List<T> content,
 
@@ -18,13 +23,15 @@ public record PageResponse<T>(
 
         @Schema(description = "Quantidade de itens por página", example = "20") int size,
 
-        @Schema(description = "Total de elementos disponíveis", example = "100") long totalElements,
+        @Schema(description = "Total de elementos disponíveis; ausente quando count=NONE", example = "100") Long totalElements,
 
-        @Schema(description = "Total de páginas disponíveis", example = "5") int totalPages,
+        @Schema(description = "Total de páginas disponíveis; ausente quando count=NONE", example = "5") Integer totalPages,
 
         @Schema(description = "Indica se é a primeira página", example = "true") boolean first,
 
-        @Schema(description = "Indica se é a última página", example = "false") boolean last) {
+        @Schema(description = "Indica se é a última página", example = "false") boolean last,
+
+        @Schema(description = "Contagens por faceta da listagem inteira; presente apenas quando facets=true") ProductFacetsDTO facets) {
     /**
      * Factory method to create a PageResponse from a Spring Data Page.
      *
@@ -40,6 +47,58 @@ public record PageResponse<T>(
                 page.getTotalElements(),
                 page.getTotalPages(),
                 page.isFirst(),
-                page.isLast());
+                page.isLast(),
+                null);
+    }
+
+    /**
+     * Factory method to create a PageResponse without totals from a Spring Data Slice.
+     *
+     * @param slice the Spring Data Slice
+     * @param <T>   the type of content
+     * @return a PageResponse whose totals are absent
+     */
+    public static <T> PageResponse<T> fromSlice(Slice<T> slice) {
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.isFirst(),
+                slice.isLast(),
+                null);
+    }
+
+    /**
+     * Factory method to create a PageResponse from a Slice and a separately obtained
+     * total, which may lag behind the slice. {@code last} therefore follows the slice.
+     *
+     * @param slice         the Spring Data Slice
+     * @param totalElements the total number of elements
+     * @param <T>           the type of content
+     * @return a PageResponse with the given totals
+     */
+    public static <T> PageResponse<T> fromSlice(Slice<T> slice, long totalElements) {
+        long total = Math.max(totalElements, slice.getPageable().getOffset() + slice.getNumberOfElements());
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize()),
+                slice.isFirst(),
+                slice.isLast(),
+                null);
+    }
+
+    /**
+     * Copy of this response carrying the facet counts of the listing.
+     *
+     * @param facets the facet counts, computed over every page
+     * @return a PageResponse with the given facets
+     */
+    public PageResponse<T> withFacets(ProductFacetsDTO facets) {
+        return new PageResponse<>(content, page, size, totalElements, totalPages, first, last, facets);
     }
 }
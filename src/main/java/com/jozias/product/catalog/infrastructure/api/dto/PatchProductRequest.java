@@ -0,0 +1,29 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Schema(description = "JSON Merge Patch de um produto: apenas os campos enviados são alterados")
+public record PatchProductRequest(
+                @Schema(description = "Nome do produto", example = "Smartphone Samsung Galaxy S21") @Size(min = 3, max = 200, message = "Name must be between 3 and 200 characters") String name,
+
+                @Schema(description = "Descrição detalhada do produto", example = "Smartphone com 128GB de memória, Câmera Tripla, Tela de 6.2\"") String description,
+
+                @Schema(description = "Preço unitário do produto", example = "3500.00") @Positive(message = "Price must be positive") BigDecimal price,
+
+                @Schema(description = "Quantidade disponível em estoque", example = "50") @Min(value = 0, message = "Available quantity cannot be negative") Integer availableQuantity,
+
+                @Schema(description = "Condição do produto", example = "NEW", allowableValues = {
+                                "NEW", "USED",
+                                "REFURBISHED" }) String condition,
+
+                @Schema(description = "Categoria do produto", example = "Eletrônicos") String category,
+
+                @Schema(description = "Lista completa de variantes; substitui a atual, preservando as que mantêm o ID") @Valid List<UpdateProductVariantRequest> variants) {
+}
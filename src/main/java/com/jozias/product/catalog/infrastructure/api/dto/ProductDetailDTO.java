@@ -17,5 +17,6 @@ public record ProductDetailDTO(
         @Schema(description = "Condição", example = "NEW") Condition condition,
         @Schema(description = "Categoria", example = "Electronics") String category,
         @Schema(description = "Variantes") List<ProductVariantDTO> variants,
-        @Schema(description = "Informações do vendedor") SellerDTO seller) {
+        @Schema(description = "Informações do vendedor") SellerDTO seller,
+        @Schema(description = "Versão do produto, incrementada a cada alteração; é o valor do ETag", example = "3") Long version) {
 }
\ No newline at end of file
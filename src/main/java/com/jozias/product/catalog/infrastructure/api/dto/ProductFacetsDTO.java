@@ -0,0 +1,42 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Quantidade de produtos da listagem por valor de cada faceta")
+public record ProductFacetsDTO(
+        @Schema(description = "Produtos por condição", example = "{\"NEW\": 80, \"USED\": 15}") Map<Condition, Long> conditions,
+
+        @Schema(description = "Produtos por categoria", example = "{\"Eletrônicos\": 42}") Map<String, Long> categories,
+
+        @Schema(description = "Produtos por ID do vendedor", example = "{\"1\": 30, \"2\": 12}") Map<Long, Long> sellers,
+
+        @Schema(description = "Produtos por faixa de preço, incluindo faixas vazias") List<PriceRangeDTO> priceRanges) {
+
+    @Schema(description = "Faixa de preço e quantidade de produtos nela")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record PriceRangeDTO(
+            @Schema(description = "Preço mínimo (inclusivo)", example = "100") BigDecimal min,
+
+            @Schema(description = "Preço máximo (exclusivo); ausente na última faixa", example = "250") BigDecimal max,
+
+            @Schema(description = "Quantidade de produtos na faixa", example = "12") long count) {
+    }
+
+    public static ProductFacetsDTO from(ProductFacets facets) {
+        return new ProductFacetsDTO(
+                facets.conditions(),
+                facets.categories(),
+                facets.sellers(),
+                facets.priceRanges().stream()
+                        .map(range -> new PriceRangeDTO(range.min(), range.max(), range.count()))
+                        .toList());
+    }
+}
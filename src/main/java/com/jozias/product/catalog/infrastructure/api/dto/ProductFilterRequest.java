@@ -0,0 +1,35 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+
+import java.math.BigDecimal;
+
+/**
+ * Query parameters of the filtered listing. All are optional and combined with AND.
+ */
+public record ProductFilterRequest(
+                @Parameter(description = "Categoria exata do produto", example = "Eletrônicos") String category,
+
+                @Parameter(description = "Condição do produto", example = "NEW") Condition condition,
+
+                @Parameter(description = "Preço mínimo, inclusive", example = "100.00") BigDecimal minPrice,
+
+                @Parameter(description = "Preço máximo, inclusive", example = "5000.00") BigDecimal maxPrice,
+
+                @Parameter(description = "ID do vendedor", example = "1") Long sellerId,
+
+                @Parameter(description = "Apenas produtos com estoque disponível", example = "true") Boolean inStock) {
+
+        public ProductFilter toFilter() {
+                return new ProductFilter(
+                                category == null || category.isBlank() ? null : category.strip(),
+                                condition,
+                                minPrice,
+                                maxPrice,
+                                sellerId,
+                                Boolean.TRUE.equals(inStock));
+        }
+}
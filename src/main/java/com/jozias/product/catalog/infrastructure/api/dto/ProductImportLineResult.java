@@ -0,0 +1,22 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de um item da importação em lote")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductImportLineResult(
+        @Schema(description = "Posição do item no payload (linha no NDJSON), a partir de 1", example = "1") int item,
+
+        @Schema(description = "ID do produto criado; ausente quando rejeitado", example = "42") Long id,
+
+        @Schema(description = "Motivo da rejeição; ausente quando criado", example = "Seller not found with id: 7") String error) {
+
+    public static ProductImportLineResult created(int item, Long id) {
+        return new ProductImportLineResult(item, id, null);
+    }
+
+    public static ProductImportLineResult rejected(int item, String error) {
+        return new ProductImportLineResult(item, null, error);
+    }
+}
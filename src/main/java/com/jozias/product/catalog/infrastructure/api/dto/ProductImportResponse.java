@@ -0,0 +1,19 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Resposta da importação em lote de produtos")
+public record ProductImportResponse(
+        @Schema(description = "Quantidade de produtos criados", example = "998") int created,
+
+        @Schema(description = "Quantidade de itens rejeitados", example = "2") int rejected,
+
+        @Schema(description = "Resultado de cada item, na ordem do payload") List<ProductImportLineResult> results) {
+
+    public static ProductImportResponse of(List<ProductImportLineResult> results) {
+        int rejected = (int) results.stream().filter(result -> result.error() != null).count();
+        return new ProductImportResponse(results.size() - rejected, rejected, results);
+    }
+}
@@ -0,0 +1,10 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Estoque do produto após a atualização")
+public record StockResponse(
+        @Schema(description = "ID do produto", example = "1") Long productId,
+        @Schema(description = "Quantidade disponível em estoque", example = "48") Integer availableQuantity,
+        @Schema(description = "Versão do produto após a atualização", example = "4") Long version) {
+}
@@ -0,0 +1,13 @@
+package com.jozias.product.catalog.infrastructure.api.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Atualização de estoque de um produto")
+public record UpdateStockRequest(
+                @Schema(description = "ABSOLUTE define a quantidade em estoque; DELTA soma a quantidade (negativa para baixa)", example = "DELTA", allowableValues = {
+                                "ABSOLUTE", "DELTA" }) @NotBlank(message = "Mode is required") String mode,
+
+                @Schema(description = "Quantidade (ABSOLUTE) ou variação (DELTA)", example = "-2") @NotNull(message = "Quantity is required") Integer quantity) {
+}
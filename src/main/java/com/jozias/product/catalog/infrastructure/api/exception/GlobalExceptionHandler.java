@@ -4,13 +4,16 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.domain.exception.InsufficientStockException;
 import com.jozias.product.catalog.domain.exception.ProductInstanceInvalidException;
+import com.jozias.product.catalog.domain.exception.VersionMismatchException;
 import com.jozias.product.catalog.infrastructure.api.dto.ApiErrorResponse;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -30,6 +33,7 @@ public class GlobalExceptionHandler {
         private static final String VALIDATION_ERROR_TYPE = "https://api.example.com/errors/validation";
         private static final String NOT_FOUND_TYPE = "https://api.example.com/errors/not-found";
         private static final String BUSINESS_ERROR_TYPE = "https://api.example.com/errors/business";
+        private static final String CONFLICT_TYPE = "https://api.example.com/errors/conflict";
         private static final String INTERNAL_ERROR_TYPE = "https://api.example.com/errors/internal";
         private static final String UNKNOWN_TYPE = "unknown";
 
@@ -63,6 +67,51 @@ public class GlobalExceptionHandler {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
         }
 
+        @ExceptionHandler(InsufficientStockException.class)
+        public ResponseEntity<ApiErrorResponse> handleInsufficientStock(
+                        InsufficientStockException ex,
+                        HttpServletRequest request) {
+                logger.warn("Stock update rejected: {}", ex.getMessage());
+
+                ApiErrorResponse response = ApiErrorResponse.of(
+                                BUSINESS_ERROR_TYPE,
+                                "Insufficient Stock",
+                                HttpStatus.CONFLICT.value(),
+                                ex.getMessage(),
+                                request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+
+        @ExceptionHandler(VersionMismatchException.class)
+        public ResponseEntity<ApiErrorResponse> handleVersionMismatch(
+                        VersionMismatchException ex,
+                        HttpServletRequest request) {
+                logger.warn("Conditional update rejected: {}", ex.getMessage());
+
+                ApiErrorResponse response = ApiErrorResponse.of(
+                                CONFLICT_TYPE,
+                                "Precondition Failed",
+                                HttpStatus.PRECONDITION_FAILED.value(),
+                                ex.getMessage(),
+                                request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(response);
+        }
+
+        @ExceptionHandler(OptimisticLockingFailureException.class)
+        public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(
+                        OptimisticLockingFailureException ex,
+                        HttpServletRequest request) {
+                logger.warn("Concurrent modification detected: {}", ex.getMessage());
+
+                ApiErrorResponse response = ApiErrorResponse.of(
+                                CONFLICT_TYPE,
+                                "Concurrent Modification",
+                                HttpStatus.CONFLICT.value(),
+                                "The product was modified by another request; reload it and try again",
+                                request.getRequestURI());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+        }
+
         @ExceptionHandler(MethodArgumentNotValidException.class)
         public ResponseEntity<ApiErrorResponse> handleValidationErrors(
                         MethodArgumentNotValidException ex,
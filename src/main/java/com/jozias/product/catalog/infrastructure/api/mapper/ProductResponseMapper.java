@@ -3,6 +3,7 @@ package com.jozias.product.catalog.infrastructure.api.mapper;
 import org.springframework.stereotype.Component;
 
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.entity.ProductVariant;
 import com.jozias.product.catalog.domain.entity.ProductVariantValue;
 import com.jozias.product.catalog.domain.entity.Seller;
@@ -26,6 +27,13 @@ public class ProductResponseMapper {
                 product.getPrice());
     }
 
+    public ProductDTO toDto(ProductSummary summary) {
+        return new ProductDTO(
+                summary.id(),
+                summary.name(),
+                summary.price());
+    }
+
     public ProductDetailDTO toDetailDto(Product product) {
         return new ProductDetailDTO(
                 product.getId(),
@@ -36,7 +44,8 @@ public class ProductResponseMapper {
                 product.getCondition(),
                 product.getCategory(),
                 mapVariants(product.getVariants()),
-                mapSeller(product.getSeller()));
+                mapSeller(product.getSeller()),
+                product.getVersion());
     }
 
     public ProductResponse toResponse(Product product) {
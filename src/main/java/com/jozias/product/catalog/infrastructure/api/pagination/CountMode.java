@@ -0,0 +1,13 @@
+package com.jozias.product.catalog.infrastructure.api.pagination;
+
+/**
+ * How the listing computes its totals.
+ */
+public enum CountMode {
+    /** Runs {@code count(*)} with the page query (cached per page with the listing). */
+    EXACT,
+    /** Fetches one extra row to know whether a next page exists and omits the totals. */
+    NONE,
+    /** Fetches a slice and takes the total from the periodically refreshed count cache. */
+    CACHED
+}
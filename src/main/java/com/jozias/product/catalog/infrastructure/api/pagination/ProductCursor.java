@@ -0,0 +1,87 @@
+package com.jozias.product.catalog.infrastructure.api.pagination;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset cursor for the product listing. It carries the sort the scroll was
+ * started with plus the sort key and id of the last product returned, encoded as
+ * URL-safe Base64 so clients treat it as a token.
+ */
+public record ProductCursor(Sort.Order order, KeysetScrollPosition position) {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = ",";
+
+    private static final Map<String, Function<String, Object>> KEY_PARSERS = Map.of(
+            ID, Long::valueOf,
+            "name", value -> value,
+            "price", BigDecimal::new);
+
+    /**
+     * Starts a scroll from the requested sort. Only a single property is accepted (an
+     * explicit {@code id} tiebreaker is tolerated), defaulting to ascending id.
+     */
+    public static ProductCursor first(Sort sort) {
+        List<Sort.Order> orders = sort.stream()
+                .filter(order -> !ID.equals(order.getProperty()))
+                .toList();
+        if (orders.size() > 1) {
+            throw new IllegalArgumentException("Cursor pagination supports a single sort property");
+        }
+        Sort.Order order = orders.isEmpty() ? idOrder(sort) : orders.get(0);
+        requireSupported(order.getProperty());
+        return new ProductCursor(order, ScrollPosition.keyset());
+    }
+
+    public static ProductCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 4);
+            String property = parts[0];
+            requireSupported(property);
+            Sort.Order order = new Sort.Order(Sort.Direction.fromString(parts[1]), property);
+            Long id = Long.valueOf(parts[2]);
+            Map<String, Object> keys = ID.equals(property)
+                    ? Map.of(ID, id)
+                    : Map.of(property, KEY_PARSERS.get(property).apply(parts[3]), ID, id);
+            return new ProductCursor(order, ScrollPosition.forward(keys));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor: %s".formatted(cursor));
+        }
+    }
+
+    public String encode() {
+        Map<String, Object> keys = position.getKeys();
+        StringBuilder raw = new StringBuilder()
+                .append(order.getProperty()).append(SEPARATOR)
+                .append(order.getDirection()).append(SEPARATOR)
+                .append(keys.get(ID));
+        if (!ID.equals(order.getProperty())) {
+            Object value = keys.get(order.getProperty());
+            raw.append(SEPARATOR).append(value instanceof BigDecimal decimal ? decimal.toPlainString() : value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Sort.Order idOrder(Sort sort) {
+        Sort.Order id = sort.getOrderFor(ID);
+        return id != null ? id : Sort.Order.asc(ID);
+    }
+
+    private static void requireSupported(String property) {
+        if (!KEY_PARSERS.containsKey(property)) {
+            throw new IllegalArgumentException(
+                    "Cursor pagination supports sorting by %s only".formatted(KEY_PARSERS.keySet()));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.springframework.data.domain.Slice;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.ProductVariantValue;
+import com.jozias.product.catalog.domain.entity.Seller;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates the retained heap of a cache entry in bytes, assuming a 64-bit JVM with
+ * compressed references and compact (Latin-1) strings. The figures are deliberately
+ * rough; they only need to rank a listing page against a detail entry correctly.
+ */
+public final class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    public static final CacheEntryWeigher INSTANCE = new CacheEntryWeigher();
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int ARRAY_HEADER = 16;
+    private static final int STRING_OVERHEAD = 24 + ARRAY_HEADER;
+    private static final int BIG_DECIMAL = 40;
+    private static final int BOXED = 16;
+    private static final int UNKNOWN = 64;
+
+    private CacheEntryWeigher() {
+    }
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(key) + estimate(value));
+    }
+
+    public static long estimate(Object value) {
+        if (value == null || value instanceof Enum<?>) {
+            return 0;
+        }
+        if (value instanceof String string) {
+            return STRING_OVERHEAD + string.length();
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            return BOXED;
+        }
+        if (value instanceof BigDecimal) {
+            return BIG_DECIMAL;
+        }
+        if (value instanceof byte[] bytes) {
+            return ARRAY_HEADER + bytes.length;
+        }
+        if (value instanceof EncodedProductDetail detail) {
+            return OBJECT_HEADER + 2L * REFERENCE + estimate(detail.body()) + estimate(detail.etag());
+        }
+        if (value instanceof ProductSummary summary) {
+            return OBJECT_HEADER + 8L * REFERENCE + BOXED * 4L + estimate(summary.name())
+                    + estimate(summary.price()) + estimate(summary.category());
+        }
+        if (value instanceof Product product) {
+            return OBJECT_HEADER + 9L * REFERENCE + BOXED * 2L + estimate(product.getName())
+                    + estimate(product.getDescription()) + estimate(product.getPrice())
+                    + estimate(product.getCategory()) + estimate(product.getVariants())
+                    + estimate(product.getSeller());
+        }
+        if (value instanceof ProductVariant variant) {
+            return OBJECT_HEADER + 3L * REFERENCE + BOXED + estimate(variant.getType())
+                    + estimate(variant.getValues());
+        }
+        if (value instanceof ProductVariantValue variantValue) {
+            return OBJECT_HEADER + 2L * REFERENCE + BOXED + estimate(variantValue.getValue());
+        }
+        if (value instanceof Seller seller) {
+            return OBJECT_HEADER + 3L * REFERENCE + Integer.BYTES + BOXED + estimate(seller.getName())
+                    + estimate(seller.getDescription());
+        }
+        if (value instanceof ProductListingKey key) {
+            // Key and filter records plus the Pageable and Sort; the filter's numbers are shared
+            return 4L * OBJECT_HEADER + 9L * REFERENCE + estimate(key.query())
+                    + estimate(key.filter().category());
+        }
+        if (value instanceof ProductFilter filter) {
+            return OBJECT_HEADER + 6L * REFERENCE + estimate(filter.category()) + estimate(filter.minPrice())
+                    + estimate(filter.maxPrice()) + estimate(filter.sellerId());
+        }
+        if (value instanceof ProductFacets facets) {
+            return OBJECT_HEADER + 4L * REFERENCE + estimate(facets.conditions()) + estimate(facets.categories())
+                    + estimate(facets.sellers()) + estimate(facets.priceRanges());
+        }
+        if (value instanceof ProductFacets.PriceRange) {
+            // The bounds are the shared ProductFacets.PRICE_BOUNDS instances
+            return OBJECT_HEADER + 2L * REFERENCE + Long.BYTES;
+        }
+        if (value instanceof Slice<?> slice) {
+            // Page/Slice wrapper plus its Pageable and Sort
+            return 3L * OBJECT_HEADER + 6L * REFERENCE + estimate(slice.getContent());
+        }
+        if (value instanceof Map<?, ?> map) {
+            // One node (or enum slot) per entry plus the keys and boxed values
+            long size = OBJECT_HEADER + ARRAY_HEADER + (long) map.size() * (OBJECT_HEADER + 3L * REFERENCE);
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = OBJECT_HEADER + ARRAY_HEADER + (long) collection.size() * REFERENCE;
+            for (Object element : collection) {
+                size += estimate(element);
+            }
+            return size;
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,82 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator view of the Caffeine statistics of every cache, exposed at
+ * {@code /actuator/caches-stats}, to tune the specs in {@code catalog.cache.specs}.
+ */
+@Endpoint(id = "cachesstats")
+public class CacheStatsEndpoint {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsEndpoint(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @ReadOperation
+    public Map<String, CacheStatsView> caches() {
+        Map<String, CacheStatsView> caches = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CacheStatsView view = cache(name);
+            if (view != null) {
+                caches.put(name, view);
+            }
+        }
+        return caches;
+    }
+
+    @ReadOperation
+    public CacheStatsView cache(@Selector String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            return null;
+        }
+        CacheStats stats = nativeCache.stats();
+        Policy.Eviction<?, ?> eviction = nativeCache.policy().eviction().orElse(null);
+        return new CacheStatsView(
+                stats.requestCount(),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / 1_000_000.0,
+                stats.evictionCount(),
+                stats.evictionWeight(),
+                nativeCache.estimatedSize(),
+                eviction != null && eviction.isWeighted() ? eviction.weightedSize().orElse(0L) : null,
+                eviction != null ? eviction.getMaximum() : null,
+                eviction != null && eviction.isWeighted());
+    }
+
+    /**
+     * Statistics of a single cache. {@code weightedSize} and {@code maximum} are in
+     * bytes for weighted caches and in entries otherwise.
+     */
+    public record CacheStatsView(
+            long requests,
+            long hits,
+            long misses,
+            double hitRate,
+            long loadSuccesses,
+            long loadFailures,
+            double averageLoadMillis,
+            long evictions,
+            long evictionWeight,
+            long estimatedSize,
+            Long weightedSize,
+            Long maximum,
+            boolean weighted) {
+    }
+}
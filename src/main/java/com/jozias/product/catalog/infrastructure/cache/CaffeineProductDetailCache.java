@@ -0,0 +1,97 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.jozias.product.catalog.application.cache.ProductDetailCache;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * {@link ProductDetailCache} over the {@code productDetails} cache that
+ * {@link com.jozias.product.catalog.application.usecase.FindProductUseCase#findById}
+ * fills, so single and bulk reads share entries. With Caffeine the lookup is one
+ * {@code getAll} and stock patches are applied atomically to the entry; other
+ * providers fall back to a get per key and to eviction.
+ */
+public class CaffeineProductDetailCache implements ProductDetailCache {
+
+    public static final String CACHE_NAME = "productDetails";
+
+    private final CacheManager cacheManager;
+
+    public CaffeineProductDetailCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Map<Long, Product> getAll(Collection<Long> ids, Function<Set<Long>, Map<Long, Product>> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return loader.apply(new LinkedHashSet<>(ids));
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> found = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache)
+                    .getAll(ids, missing -> loader.apply(missing.stream()
+                            .map(Long.class::cast)
+                            .collect(Collectors.toCollection(LinkedHashSet::new))));
+            Map<Long, Product> products = new HashMap<>(found.size());
+            found.forEach((id, value) -> {
+                if (value instanceof Product product) {
+                    products.put((Long) id, product);
+                }
+            });
+            return products;
+        }
+
+        Map<Long, Product> products = new HashMap<>(ids.size());
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long id : ids) {
+            Product product = cache.get(id, Product.class);
+            if (product != null) {
+                products.put(id, product);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            loader.apply(misses).forEach((id, product) -> {
+                cache.put(id, product);
+                products.put(id, product);
+            });
+        }
+        return products;
+    }
+
+    @Override
+    public void patchStockLevel(Long id, StockLevel stockLevel) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        if (cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> entries = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache)
+                    .asMap();
+            entries.computeIfPresent(id, (key, value) -> value instanceof Product product
+                    && isOlder(product, stockLevel)
+                    ? product.withStockLevel(stockLevel)
+                    : value);
+            return;
+        }
+        cache.evict(id);
+    }
+
+    private static boolean isOlder(Product product, StockLevel stockLevel) {
+        return product.getVersion() == null || product.getVersion() < stockLevel.version();
+    }
+}
@@ -0,0 +1,8 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+/**
+ * A product detail already serialized to JSON, together with its strong ETag, which
+ * is derived from the product version.
+ */
+public record EncodedProductDetail(byte[] body, String etag) {
+}
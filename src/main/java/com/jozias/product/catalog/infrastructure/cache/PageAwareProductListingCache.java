@@ -0,0 +1,294 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * {@link ProductListingCache} that inspects every cached listing page and only evicts
+ * the pages a write can change. Pages whose content is untouched but whose totals
+ * move (create/delete) are replaced with a copy carrying the adjusted total. Slices
+ * have no total, so they are kept only when their has-next flag cannot change. Pages
+ * of a filtered listing (see {@link ProductListingKey}) are left alone by writes whose
+ * previous and new states both fall outside the filter.
+ * <p>
+ * The facet counts shown next to a listing are cached per {@link ProductFilter} and
+ * follow the same rule, so a write only evicts the counts of the category (and other
+ * criteria) it touches, plus the unfiltered ones, and the counts of every filter the
+ * product enters or leaves.
+ */
+@Slf4j
+public class PageAwareProductListingCache implements ProductListingCache {
+
+    public static final String CACHE_NAME = "products";
+    public static final String FACETS_CACHE_NAME = "productFacets";
+
+    private static final String AVAILABLE_QUANTITY = "availableQuantity";
+
+    private enum Impact {
+        NONE, TOTAL_ONLY, CONTENT
+    }
+
+    private final CacheManager cacheManager;
+
+    public PageAwareProductListingCache(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public void evictCreated(ProductSummary created) {
+        invalidate(null, created);
+    }
+
+    @Override
+    public void evictUpdated(ProductSummary before, ProductSummary after) {
+        invalidate(before, after);
+    }
+
+    @Override
+    public void evictDeleted(ProductSummary deleted) {
+        invalidate(deleted, null);
+    }
+
+    /**
+     * Stock writes reach the cache after their transaction commits and may arrive out of
+     * order; a page whose row already carries the version of the write, or a later one,
+     * is left alone so an older quantity never overwrites a newer one. Pages filtered by
+     * stock or ordered by quantity are evicted even when they do not hold the product,
+     * since it may enter, leave or move across them.
+     */
+    @Override
+    public void patchStockLevel(Long id, StockLevel stockLevel) {
+        // Only in-stock counts depend on the quantity; the product's category is unknown here
+        evictFacets(ProductFilter::inStock);
+        Map<Object, Object> entries = nativeEntries(CACHE_NAME);
+        if (entries == null) {
+            return;
+        }
+        int patched = 0;
+        int evicted = 0;
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (!(entry.getValue() instanceof Slice<?> slice)
+                    || !slice.getContent().stream().allMatch(ProductSummary.class::isInstance)) {
+                entries.remove(entry.getKey(), entry.getValue());
+                evicted++;
+                continue;
+            }
+            ProductSummary row = rowOf(slice.getContent(), id);
+            if (row != null && !isOlder(row, stockLevel)) {
+                continue;
+            }
+            if (filterOf(entry.getKey()).inStock() || slice.getSort().getOrderFor(AVAILABLE_QUANTITY) != null) {
+                entries.remove(entry.getKey(), slice);
+                evicted++;
+            } else if (row != null) {
+                entries.replace(entry.getKey(), slice, withStockLevel(slice, id, stockLevel));
+                patched++;
+            }
+        }
+        log.debug("Stock patch of product {} rewrote {} cached pages and evicted {}", id, patched, evicted);
+    }
+
+    /**
+     * Applies a write to every cached page. Seen through the filter of a page, the write
+     * is a creation, an update, a deletion or nothing at all, depending on which of the
+     * previous and new states match that filter.
+     */
+    private void invalidate(ProductSummary before, ProductSummary after) {
+        boolean facetValuesKept = before != null && after != null && sameFacetValues(before, after);
+        evictFacets(filter -> {
+            boolean matchedBefore = before != null && filter.matches(before);
+            boolean matchesAfter = after != null && filter.matches(after);
+            // Entering or leaving a filter changes its counts even when the facet values stay the same,
+            // e.g. a price moving across a minPrice that lies inside a price range
+            return matchedBefore != matchesAfter || (!facetValuesKept && matchedBefore);
+        });
+        Map<Object, Object> entries = nativeEntries(CACHE_NAME);
+        if (entries == null) {
+            return;
+        }
+        int evicted = 0;
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            ProductFilter filter = filterOf(entry.getKey());
+            ProductSummary removed = before != null && filter.matches(before) ? before : null;
+            ProductSummary added = after != null && filter.matches(after) ? after : null;
+            if (removed == null && added == null) {
+                continue;
+            }
+            long totalDelta = (added != null ? 1 : 0) - (removed != null ? 1 : 0);
+            Impact impact = impactOn(entry.getValue(), (page, order) -> {
+                if (removed == null) {
+                    return createdImpact(page, order, added);
+                }
+                return added == null ? deletedImpact(page, order, removed) : updatedImpact(page, order, removed, added);
+            });
+            if (impact == Impact.CONTENT) {
+                entries.remove(entry.getKey(), entry.getValue());
+                evicted++;
+            } else if (impact == Impact.TOTAL_ONLY && totalDelta != 0) {
+                if (entry.getValue() instanceof Page<?> page) {
+                    entries.replace(entry.getKey(), page, withTotal(page, page.getTotalElements() + totalDelta));
+                } else if (!((Slice<?>) entry.getValue()).hasNext() || totalDelta < 0) {
+                    // A row added after the last slice, or removed past a slice, may flip has-next
+                    entries.remove(entry.getKey(), entry.getValue());
+                    evicted++;
+                }
+            }
+        }
+        log.debug("Listing cache invalidation evicted {} cached pages", evicted);
+    }
+
+    private static Impact createdImpact(Slice<?> page, Comparator<ProductSummary> order, ProductSummary created) {
+        List<?> content = page.getContent();
+        if (content.isEmpty() || order.compare(created, summaryOf(content.get(content.size() - 1))) < 0) {
+            return Impact.CONTENT;
+        }
+        // Appended to a last page that still has room
+        if (page.isLast() && page.getNumberOfElements() < page.getSize()) {
+            return Impact.CONTENT;
+        }
+        return Impact.TOTAL_ONLY;
+    }
+
+    private static Impact updatedImpact(Slice<?> page, Comparator<ProductSummary> order, ProductSummary before,
+            ProductSummary after) {
+        List<?> content = page.getContent();
+        if (content.isEmpty()) {
+            return Impact.NONE;
+        }
+        if (contains(content, before.id())) {
+            return Impact.CONTENT;
+        }
+        boolean afterMovesUp = order.compare(after, before) < 0;
+        ProductSummary low = afterMovesUp ? after : before;
+        ProductSummary high = afterMovesUp ? before : after;
+        // Only the rows between the old and the new position shift
+        if (order.compare(high, summaryOf(content.get(0))) < 0
+                || order.compare(low, summaryOf(content.get(content.size() - 1))) > 0) {
+            return Impact.NONE;
+        }
+        return Impact.CONTENT;
+    }
+
+    private static Impact deletedImpact(Slice<?> page, Comparator<ProductSummary> order, ProductSummary deleted) {
+        List<?> content = page.getContent();
+        if (content.isEmpty()) {
+            return Impact.TOTAL_ONLY;
+        }
+        if (contains(content, deleted.id())
+                || order.compare(deleted, summaryOf(content.get(content.size() - 1))) < 0) {
+            return Impact.CONTENT;
+        }
+        return Impact.TOTAL_ONLY;
+    }
+
+    private void evictFacets(Predicate<ProductFilter> affected) {
+        Map<Object, Object> entries = nativeEntries(FACETS_CACHE_NAME);
+        if (entries == null) {
+            return;
+        }
+        int before = entries.size();
+        entries.keySet().removeIf(key -> !(key instanceof ProductFilter filter) || affected.test(filter));
+        log.debug("Facet cache invalidation evicted {} cached filters", before - entries.size());
+    }
+
+    // An update that keeps every facet value (and the stock status) leaves all counts as they are
+    private static boolean sameFacetValues(ProductSummary before, ProductSummary after) {
+        return before.condition() == after.condition()
+                && Objects.equals(before.category(), after.category())
+                && Objects.equals(before.sellerId(), after.sellerId())
+                && before.price() != null && after.price() != null
+                && ProductFacets.priceRangeOf(before.price()) == ProductFacets.priceRangeOf(after.price())
+                && inStock(before) == inStock(after);
+    }
+
+    private static boolean inStock(ProductSummary summary) {
+        return summary.availableQuantity() != null && summary.availableQuantity() > 0;
+    }
+
+    private Map<Object, Object> nativeEntries(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return null;
+        }
+        if (!(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+            cache.clear();
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Object, Object> entries = ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap();
+        return entries;
+    }
+
+    private Impact impactOn(Object value,
+            BiFunction<Slice<?>, Comparator<ProductSummary>, Impact> impactOf) {
+        if (!(value instanceof Slice<?> slice) || slice.getPageable().isUnpaged()) {
+            return Impact.CONTENT;
+        }
+        Optional<Comparator<ProductSummary>> order = ProductListingOrder.comparatorFor(slice.getSort());
+        if (order.isEmpty() || !slice.getContent().stream().allMatch(ProductSummary.class::isInstance)) {
+            return Impact.CONTENT;
+        }
+        return impactOf.apply(slice, order.get());
+    }
+
+    private static Slice<Object> withStockLevel(Slice<?> slice, Long id, StockLevel stockLevel) {
+        List<Object> content = slice.getContent().stream()
+                .map(item -> id.equals(summaryOf(item).id())
+                        ? summaryOf(item).withStockLevel(stockLevel)
+                        : item)
+                .toList();
+        if (slice instanceof Page<?> page) {
+            return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+        }
+        return new SliceImpl<>(content, slice.getPageable(), slice.hasNext());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Page<Object> withTotal(Page<?> page, long total) {
+        return new PageImpl<>((List<Object>) page.getContent(), page.getPageable(), total);
+    }
+
+    // Keys of another shape are treated as pages of the whole catalog
+    private static ProductFilter filterOf(Object key) {
+        return key instanceof ProductListingKey listingKey ? listingKey.filter() : ProductFilter.NONE;
+    }
+
+    private static boolean contains(List<?> content, Long id) {
+        return content.stream().anyMatch(item -> id.equals(((ProductSummary) item).id()));
+    }
+
+    private static ProductSummary rowOf(List<?> content, Long id) {
+        return content.stream()
+                .map(PageAwareProductListingCache::summaryOf)
+                .filter(summary -> id.equals(summary.id()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static boolean isOlder(ProductSummary summary, StockLevel stockLevel) {
+        return summary.version() == null || summary.version() < stockLevel.version();
+    }
+
+    private static ProductSummary summaryOf(Object item) {
+        return (ProductSummary) item;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import com.jozias.product.catalog.infrastructure.api.conditional.ProductETags;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductDetailDTO;
+
+import java.util.function.Supplier;
+
+/**
+ * Near-cache in front of {@code productDetails} holding the encoded response body, so
+ * a hit skips both the DTO mapping and the Jackson serialization. Entries are evicted
+ * together with {@code productDetails} by the update and delete use cases. A miss is
+ * encoded while holding the entry, so an eviction racing it waits for the encoding and
+ * then removes it, instead of being undone by a late put of the old body.
+ */
+public class ProductDetailJsonCache {
+
+    public static final String CACHE_NAME = "productDetailsJson";
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    public ProductDetailJsonCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Returns the cached encoding of the product, or encodes and caches the detail
+     * produced by {@code loader}. Exceptions thrown by the loader propagate unwrapped.
+     */
+    public EncodedProductDetail get(Long id, Supplier<ProductDetailDTO> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return encode(loader.get());
+        }
+        try {
+            return cache.get(id, () -> encode(loader.get()));
+        } catch (Cache.ValueRetrievalException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private EncodedProductDetail encode(ProductDetailDTO detail) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(detail);
+            return new EncodedProductDetail(body, ProductETags.of(detail.version()));
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not encode product %s".formatted(detail.id()), ex);
+        }
+    }
+}
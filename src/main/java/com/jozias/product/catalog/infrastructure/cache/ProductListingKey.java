@@ -0,0 +1,15 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import org.springframework.data.domain.Pageable;
+
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+
+/**
+ * Key of a cached listing page. The filter is kept as a value rather than folded into
+ * a string, so {@link PageAwareProductListingCache} can read it back and skip the
+ * pages of a filter a write does not match.
+ *
+ * @param query the listing method, since a page and a slice of the same request differ
+ */
+public record ProductListingKey(String query, ProductFilter filter, Pageable pageable) {
+}
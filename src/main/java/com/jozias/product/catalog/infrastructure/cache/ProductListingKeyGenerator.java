@@ -0,0 +1,32 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+
+import java.lang.reflect.Method;
+
+/**
+ * Builds a {@link ProductListingKey} from the {@link ProductFilter} and
+ * {@link Pageable} arguments of a listing method; a missing filter means the whole
+ * catalog.
+ */
+public class ProductListingKeyGenerator implements KeyGenerator {
+
+    public static final String BEAN_NAME = "productListingKeyGenerator";
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        ProductFilter filter = ProductFilter.NONE;
+        Pageable pageable = Pageable.unpaged();
+        for (Object param : params) {
+            if (param instanceof ProductFilter productFilter) {
+                filter = productFilter;
+            } else if (param instanceof Pageable page) {
+                pageable = page;
+            }
+        }
+        return new ProductListingKey(method.getName(), filter, pageable);
+    }
+}
@@ -0,0 +1,58 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import org.springframework.data.domain.Sort;
+
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Reproduces in memory the ORDER BY applied by the listing query, so a product can
+ * be positioned relative to the boundaries of a cached page.
+ */
+final class ProductListingOrder {
+
+    private static final String ID = "id";
+
+    private static final Map<String, Comparator<ProductSummary>> ASCENDING = Map.of(
+            ID, ascending(ProductSummary::id),
+            "name", ascending(ProductSummary::name),
+            "price", ascending(ProductSummary::price),
+            "availableQuantity", ascending(ProductSummary::availableQuantity),
+            "condition", ascending(summary -> summary.condition() != null ? summary.condition().name() : null),
+            "category", ascending(ProductSummary::category));
+
+    private ProductListingOrder() {
+    }
+
+    /**
+     * Builds a comparator equivalent to the given sort. It is only available when
+     * every property is known and the sort reaches the unique {@code id} column,
+     * otherwise ties would make the position of a product in the page undefined.
+     */
+    static Optional<Comparator<ProductSummary>> comparatorFor(Sort sort) {
+        Comparator<ProductSummary> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<ProductSummary> next = ASCENDING.get(order.getProperty());
+            if (next == null || order.isIgnoreCase() || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                return Optional.empty();
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+            if (ID.equals(order.getProperty())) {
+                return Optional.of(comparator);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<ProductSummary> ascending(
+            Function<ProductSummary, T> key) {
+        return Comparator.comparing(key, Comparator.nullsFirst(Comparator.<T>naturalOrder()));
+    }
+}
@@ -1,28 +1,135 @@
 package com.jozias.product.catalog.infrastructure.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.unit.DataSize;
+
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import com.jozias.product.catalog.infrastructure.cache.CacheEntryWeigher;
+import com.jozias.product.catalog.infrastructure.cache.ProductListingKeyGenerator;
+import com.jozias.product.catalog.infrastructure.config.CatalogCacheProperties.CacheSpec;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CatalogCacheProperties.class)
 public class CacheConfig {
 
-    private static final int CACHE_MAX_SIZE = 1000;
-    private static final int CACHE_EXPIRE_MINUTES = 10;
+    private static final int REFRESH_THREADS = 2;
+    private static final int REFRESH_QUEUE_CAPACITY = 100;
+
+    // Used when application.yaml has no spec for a cache
+    private static final CacheSpec DEFAULT_SPEC = new CacheSpec(
+            1000L, null, Duration.ofMinutes(10), null, null, false);
+    private static final Map<String, CacheSpec> DEFAULT_SPECS = Map.of(
+            "productDetails", new CacheSpec(1000L, null, Duration.ofMinutes(10), null, Duration.ofMinutes(1), false),
+            "productCount", new CacheSpec(1L, null, Duration.ofSeconds(30), null, null, false));
+    private static final List<String> CACHE_NAMES = List.of(
+            "products", "productDetails", "productDetailsJson", "productCount", "productFacets");
+
+    // Bounded on purpose: a refresh rejected when the queue is full is simply retried on
+    // the next read, while the stale value keeps being served until it expires
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(
+            REFRESH_THREADS, REFRESH_THREADS, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(REFRESH_QUEUE_CAPACITY),
+            refreshThreadFactory());
 
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager("products", "productDetails");
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofMinutes(CACHE_EXPIRE_MINUTES))
-                .maximumSize(CACHE_MAX_SIZE)
-                .recordStats());
+    public CacheManager cacheManager(CatalogCacheProperties properties,
+            ObjectProvider<FindProductGateway> findProductGateway) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+
+        Map<String, CacheSpec> specs = new LinkedHashMap<>();
+        for (String name : CACHE_NAMES) {
+            CacheSpec spec = properties.specFor(name, DEFAULT_SPECS.getOrDefault(name, DEFAULT_SPEC));
+            specs.put(name, spec);
+            if ("productDetails".equals(name)) {
+                // Loading cache: concurrent misses on one id share a single load (see
+                // sync = true on FindProductUseCase.findById) and, when refresh-after-write
+                // is set, hot entries are reloaded in the background before they expire
+                cacheManager.registerCustomCache(name, caffeine(spec)
+                        .executor(refreshExecutor)
+                        .build(id -> findProductGateway.getObject().findById((Long) id).orElse(null)));
+            } else {
+                cacheManager.registerCustomCache(name, caffeine(spec).build());
+            }
+        }
+        logMemoryBudget(specs);
         return cacheManager;
     }
+
+    @Bean(ProductListingKeyGenerator.BEAN_NAME)
+    public KeyGenerator productListingKeyGenerator() {
+        return new ProductListingKeyGenerator();
+    }
+
+    @PreDestroy
+    void shutdownRefreshExecutor() {
+        refreshExecutor.shutdown();
+    }
+
+    private static Caffeine<Object, Object> caffeine(CacheSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.maximumWeight() != null) {
+            builder = builder.maximumWeight(spec.maximumWeight().toBytes()).weigher(CacheEntryWeigher.INSTANCE);
+        } else if (spec.maximumSize() != null) {
+            builder = builder.maximumSize(spec.maximumSize());
+        }
+        if (spec.expireAfterWrite() != null) {
+            builder = builder.expireAfterWrite(spec.expireAfterWrite());
+        }
+        if (spec.expireAfterAccess() != null) {
+            builder = builder.expireAfterAccess(spec.expireAfterAccess());
+        }
+        if (spec.refreshAfterWrite() != null) {
+            builder = builder.refreshAfterWrite(spec.refreshAfterWrite());
+        }
+        if (spec.softValues()) {
+            builder = builder.softValues();
+        }
+        return builder;
+    }
+
+    private static void logMemoryBudget(Map<String, CacheSpec> specs) {
+        long budget = 0;
+        for (Map.Entry<String, CacheSpec> entry : specs.entrySet()) {
+            CacheSpec spec = entry.getValue();
+            String bound = spec.maximumWeight() != null
+                    ? "max " + spec.maximumWeight().toMegabytes() + "MB"
+                    : "max " + spec.maximumSize() + " entries (unweighted)";
+            log.info("Cache {}: {}, expire-after-write={}, expire-after-access={}, refresh-after-write={}, soft-values={}",
+                    entry.getKey(), bound, spec.expireAfterWrite(), spec.expireAfterAccess(),
+                    spec.refreshAfterWrite(), spec.softValues());
+            if (spec.maximumWeight() != null) {
+                budget += spec.maximumWeight().toBytes();
+            }
+        }
+        log.info("Cache memory budget: {}MB across weighted caches, {}MB max heap",
+                DataSize.ofBytes(budget).toMegabytes(), DataSize.ofBytes(Runtime.getRuntime().maxMemory()).toMegabytes());
+    }
+
+    private static CustomizableThreadFactory refreshThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("product-details-refresh-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
 }
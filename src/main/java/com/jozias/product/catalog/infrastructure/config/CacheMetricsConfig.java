@@ -0,0 +1,46 @@
+package com.jozias.product.catalog.infrastructure.config;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jozias.product.catalog.infrastructure.cache.CacheStatsEndpoint;
+
+@Configuration
+public class CacheMetricsConfig {
+
+    /**
+     * Spring Boot already binds the Caffeine meters (gets by result, puts, evictions,
+     * load duration, size) of every cache known at startup. This adds the estimated
+     * weight of the weighted caches, so memory can be scraped next to the hit ratios.
+     */
+    @Bean
+    public MeterBinder cacheWeightMeterBinder(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                Cache cache = cacheManager.getCache(name);
+                if (cache == null
+                        || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache)) {
+                    continue;
+                }
+                nativeCache.policy().eviction()
+                        .filter(Policy.Eviction::isWeighted)
+                        .ifPresent(eviction -> Gauge.builder("cache.weighted.size",
+                                        () -> eviction.weightedSize().orElse(0L))
+                                .tag("cache", name)
+                                .baseUnit("bytes")
+                                .description("Estimated heap retained by the cache entries")
+                                .register(registry));
+            }
+        };
+    }
+
+    @Bean
+    public CacheStatsEndpoint cacheStatsEndpoint(CacheManager cacheManager) {
+        return new CacheStatsEndpoint(cacheManager);
+    }
+}
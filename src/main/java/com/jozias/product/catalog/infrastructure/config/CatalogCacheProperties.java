@@ -0,0 +1,44 @@
+package com.jozias.product.catalog.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-cache Caffeine specs bound from {@code catalog.cache.specs.<cache name>}.
+ *
+ * @param specs the spec of each cache, keyed by cache name
+ */
+@ConfigurationProperties(prefix = "catalog.cache")
+public record CatalogCacheProperties(Map<String, CacheSpec> specs) {
+
+    public CatalogCacheProperties {
+        specs = specs == null ? Map.of() : Map.copyOf(specs);
+    }
+
+    public CacheSpec specFor(String cacheName, CacheSpec fallback) {
+        return specs.getOrDefault(cacheName, fallback);
+    }
+
+    /**
+     * Bounds and expiry of a single cache. Exactly one of {@code maximumSize} and
+     * {@code maximumWeight} should be set; the weight is the estimated heap of the
+     * entries. {@code refreshAfterWrite} only applies to loading caches.
+     */
+    public record CacheSpec(
+            Long maximumSize,
+            DataSize maximumWeight,
+            Duration expireAfterWrite,
+            Duration expireAfterAccess,
+            Duration refreshAfterWrite,
+            boolean softValues) {
+
+        public CacheSpec {
+            if (maximumSize != null && maximumWeight != null) {
+                throw new IllegalArgumentException("Set either maximum-size or maximum-weight, not both");
+            }
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.jozias.product.catalog.infrastructure.config;
+
+import java.time.Duration;
+
+/**
+ * Limits applied to the data source in virtual-thread mode, bound from
+ * {@code catalog.datasource}.
+ *
+ * @param concurrencyLimit connections that can be checked out at once; defaults to the
+ *                         Hikari maximum pool size
+ * @param acquireTimeout   how long a request waits for a permit before failing
+ */
+public record DataSourceConcurrencyProperties(Integer concurrencyLimit, Duration acquireTimeout) {
+
+    public DataSourceConcurrencyProperties {
+        acquireTimeout = acquireTimeout == null ? Duration.ofSeconds(30) : acquireTimeout;
+    }
+}
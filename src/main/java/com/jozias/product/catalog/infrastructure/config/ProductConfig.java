@@ -1,35 +1,79 @@
 package com.jozias.product.catalog.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.jozias.product.catalog.domain.gateway.DeleteProductGateway;
+import com.jozias.product.catalog.domain.gateway.ExportProductGateway;
 import com.jozias.product.catalog.domain.gateway.FindProductGateway;
 import com.jozias.product.catalog.domain.gateway.FindSellerGateway;
+import com.jozias.product.catalog.domain.gateway.ProductStockGateway;
 import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
+import com.jozias.product.catalog.application.cache.ProductDetailCache;
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.application.usecase.CountProductUseCase;
 import com.jozias.product.catalog.application.usecase.CreateProductUseCase;
 import com.jozias.product.catalog.application.usecase.DeleteProductUsecase;
+import com.jozias.product.catalog.application.usecase.ExportProductsUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductFacetsUseCase;
 import com.jozias.product.catalog.application.usecase.FindProductUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductsByIdsUseCase;
+import com.jozias.product.catalog.application.usecase.ImportProductsUseCase;
+import com.jozias.product.catalog.application.usecase.PatchProductUseCase;
+import com.jozias.product.catalog.application.usecase.SearchProductsUseCase;
 import com.jozias.product.catalog.application.usecase.UpdateProductUseCase;
+import com.jozias.product.catalog.application.usecase.UpdateStockUseCase;
+import com.jozias.product.catalog.infrastructure.cache.CaffeineProductDetailCache;
+import com.jozias.product.catalog.infrastructure.cache.PageAwareProductListingCache;
+import com.jozias.product.catalog.infrastructure.cache.ProductDetailJsonCache;
+import com.jozias.product.catalog.infrastructure.gateway.ColumnarFindProductGateway;
 import com.jozias.product.catalog.infrastructure.gateway.DeleteProductGatewayImpl;
+import com.jozias.product.catalog.infrastructure.gateway.ExportProductGatewayImpl;
 import com.jozias.product.catalog.infrastructure.gateway.FindProductGatewayImpl;
+import com.jozias.product.catalog.infrastructure.gateway.ProductStockGatewayImpl;
 import com.jozias.product.catalog.infrastructure.gateway.SaveProductGatewayImpl;
 import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapper;
 import com.jozias.product.catalog.infrastructure.persistence.repository.ProductRepository;
+import com.jozias.product.catalog.infrastructure.readmodel.ColumnarProductReadModel;
+import com.jozias.product.catalog.infrastructure.readmodel.ProductReadModelLoader;
+import com.jozias.product.catalog.infrastructure.search.InMemoryProductSearchIndex;
+import com.jozias.product.catalog.infrastructure.search.ProductSearchIndexLoader;
 
 @Configuration
 public class ProductConfig {
 
     @Bean
     public FindProductGateway productGateway(ProductRepository productRepository,
-            ProductEntityMapper productEntityMapper) {
-        return new FindProductGatewayImpl(productRepository, productEntityMapper);
+            ProductEntityMapper productEntityMapper, ProductReadModel productReadModel) {
+        FindProductGateway database = new FindProductGatewayImpl(productRepository, productEntityMapper);
+        if (productReadModel instanceof ColumnarProductReadModel columnar) {
+            return new ColumnarFindProductGateway(database, columnar);
+        }
+        return database;
+    }
+
+    @Bean
+    public ProductReadModel productReadModel(@Value("${catalog.read-model.enabled:false}") boolean enabled) {
+        return enabled ? new ColumnarProductReadModel() : ProductReadModel.NONE;
+    }
+
+    @Bean
+    public ProductReadModelLoader productReadModelLoader(FindProductGateway findProductGateway,
+            ProductReadModel productReadModel, @Value("${catalog.export.chunk-size:500}") int chunkSize) {
+        return new ProductReadModelLoader(findProductGateway, productReadModel, chunkSize);
     }
 
     @Bean
     public SaveProductGateway saveProductGateway(ProductRepository productRepository,
-            ProductEntityMapper productEntityMapper) {
-        return new SaveProductGatewayImpl(productRepository, productEntityMapper);
+            ProductEntityMapper productEntityMapper, EntityManager entityManager) {
+        return new SaveProductGatewayImpl(productRepository, productEntityMapper, entityManager);
     }
 
     @Bean
@@ -37,25 +81,122 @@ public class ProductConfig {
         return new DeleteProductGatewayImpl(productRepository);
     }
 
+    @Bean
+    public ProductStockGateway productStockGateway(ProductRepository productRepository) {
+        return new ProductStockGatewayImpl(productRepository);
+    }
+
+    @Bean
+    public ExportProductGateway exportProductGateway(ProductRepository productRepository,
+            ProductEntityMapper productEntityMapper, EntityManager entityManager,
+            PlatformTransactionManager transactionManager) {
+        return new ExportProductGatewayImpl(productRepository, productEntityMapper, entityManager,
+                transactionManager);
+    }
+
+    @Bean
+    public ProductListingCache productListingCache(CacheManager cacheManager) {
+        return new PageAwareProductListingCache(cacheManager);
+    }
+
+    @Bean
+    public ProductDetailCache productDetailCache(CacheManager cacheManager) {
+        return new CaffeineProductDetailCache(cacheManager);
+    }
+
+    @Bean
+    public ProductDetailJsonCache productDetailJsonCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        return new ProductDetailJsonCache(cacheManager, objectMapper);
+    }
+
+    @Bean
+    public ProductSearchIndex productSearchIndex() {
+        return new InMemoryProductSearchIndex();
+    }
+
+    @Bean
+    public ProductSearchIndexLoader productSearchIndexLoader(ExportProductGateway exportProductGateway,
+            ProductSearchIndex productSearchIndex, @Value("${catalog.export.chunk-size:500}") int chunkSize) {
+        return new ProductSearchIndexLoader(exportProductGateway, productSearchIndex, chunkSize);
+    }
+
     @Bean
     public FindProductUseCase productUseCase(FindProductGateway findProductGateway) {
         return new FindProductUseCase(findProductGateway);
     }
 
+    @Bean
+    public FindProductsByIdsUseCase findProductsByIdsUseCase(FindProductGateway findProductGateway,
+            ProductDetailCache productDetailCache) {
+        return new FindProductsByIdsUseCase(findProductGateway, productDetailCache);
+    }
+
+    @Bean
+    public SearchProductsUseCase searchProductsUseCase(ProductSearchIndex productSearchIndex) {
+        return new SearchProductsUseCase(productSearchIndex);
+    }
+
+    @Bean
+    public CountProductUseCase countProductUseCase(FindProductGateway findProductGateway) {
+        return new CountProductUseCase(findProductGateway);
+    }
+
+    @Bean
+    public FindProductFacetsUseCase findProductFacetsUseCase(FindProductGateway findProductGateway) {
+        return new FindProductFacetsUseCase(findProductGateway);
+    }
+
     @Bean
     public CreateProductUseCase createProductUseCase(SaveProductGateway saveProductGateway,
-            FindSellerGateway findSellerGateway) {
-        return new CreateProductUseCase(saveProductGateway, findSellerGateway);
+            FindSellerGateway findSellerGateway, ProductListingCache productListingCache,
+            ProductSearchIndex productSearchIndex, ProductReadModel productReadModel) {
+        return new CreateProductUseCase(saveProductGateway, findSellerGateway, productListingCache,
+                productSearchIndex, productReadModel);
+    }
+
+    @Bean
+    public ImportProductsUseCase importProductsUseCase(SaveProductGateway saveProductGateway,
+            FindSellerGateway findSellerGateway, ProductSearchIndex productSearchIndex,
+            ProductReadModel productReadModel) {
+        return new ImportProductsUseCase(saveProductGateway, findSellerGateway, productSearchIndex,
+                productReadModel);
+    }
+
+    @Bean
+    public ExportProductsUseCase exportProductsUseCase(ExportProductGateway exportProductGateway,
+            @Value("${catalog.export.chunk-size:500}") int chunkSize) {
+        return new ExportProductsUseCase(exportProductGateway, chunkSize);
     }
 
     @Bean
     public UpdateProductUseCase updateProductUseCase(SaveProductGateway saveProductGateway,
-            FindProductGateway findProductGateway) {
-        return new UpdateProductUseCase(saveProductGateway, findProductGateway);
+            FindProductGateway findProductGateway, ProductListingCache productListingCache,
+            ProductSearchIndex productSearchIndex, ProductReadModel productReadModel) {
+        return new UpdateProductUseCase(saveProductGateway, findProductGateway, productListingCache,
+                productSearchIndex, productReadModel);
+    }
+
+    @Bean
+    public PatchProductUseCase patchProductUseCase(SaveProductGateway saveProductGateway,
+            FindProductGateway findProductGateway, ProductListingCache productListingCache,
+            ProductSearchIndex productSearchIndex, ProductReadModel productReadModel) {
+        return new PatchProductUseCase(saveProductGateway, findProductGateway, productListingCache,
+                productSearchIndex, productReadModel);
+    }
+
+    @Bean
+    public UpdateStockUseCase updateStockUseCase(ProductStockGateway productStockGateway,
+            ProductDetailCache productDetailCache, ProductListingCache productListingCache,
+            ProductReadModel productReadModel) {
+        return new UpdateStockUseCase(productStockGateway, productDetailCache, productListingCache,
+                productReadModel);
     }
 
     @Bean
-    public DeleteProductUsecase deleteProductUsecase(DeleteProductGateway deleteProductGateway) {
-        return new DeleteProductUsecase(deleteProductGateway);
+    public DeleteProductUsecase deleteProductUsecase(DeleteProductGateway deleteProductGateway,
+            FindProductGateway findProductGateway, ProductListingCache productListingCache,
+            ProductSearchIndex productSearchIndex, ProductReadModel productReadModel) {
+        return new DeleteProductUsecase(deleteProductGateway, findProductGateway, productListingCache,
+                productSearchIndex, productReadModel);
     }
 }
@@ -0,0 +1,55 @@
+package com.jozias.product.catalog.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.jozias.product.catalog.infrastructure.persistence.datasource.ConcurrencyLimitedDataSource;
+
+/**
+ * Active only with {@code spring.threads.virtual.enabled=true}, which already moves
+ * Tomcat and the task executors onto virtual threads. Adds the connection permit gate
+ * in front of the Hikari pool.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor() {
+        return new ConcurrencyLimitingPostProcessor();
+    }
+
+    static class ConcurrencyLimitingPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+        private DataSourceConcurrencyProperties properties = new DataSourceConcurrencyProperties(null, null);
+
+        @Override
+        public void setEnvironment(Environment environment) {
+            properties = Binder.get(environment)
+                    .bind("catalog.datasource", DataSourceConcurrencyProperties.class)
+                    .orElse(properties);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof HikariDataSource hikari)) {
+                return bean;
+            }
+            int limit = properties.concurrencyLimit() != null
+                    ? properties.concurrencyLimit()
+                    : hikari.getMaximumPoolSize();
+            log.info("Virtual threads enabled: limiting data source '{}' to {} concurrent connections (pool size {})",
+                    beanName, limit, hikari.getMaximumPoolSize());
+            return new ConcurrencyLimitedDataSource(hikari, limit, properties.acquireTimeout());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.jozias.product.catalog.infrastructure.gateway;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import com.jozias.product.catalog.infrastructure.readmodel.ColumnarProductReadModel;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Answers listings and the catalog count from the {@link ColumnarProductReadModel}
+ * and everything else, including listings the read model cannot order and reads
+ * issued before its startup load finishes, from the database gateway it wraps.
+ */
+@Slf4j
+public class ColumnarFindProductGateway implements FindProductGateway {
+
+    private final FindProductGateway database;
+    private final ColumnarProductReadModel readModel;
+
+    public ColumnarFindProductGateway(FindProductGateway database, ColumnarProductReadModel readModel) {
+        this.database = database;
+        this.readModel = readModel;
+    }
+
+    @Override
+    public Page<ProductSummary> listSummaries(ProductFilter filter, Pageable pageable) {
+        return readModel.findPage(filter, FindProductGatewayImpl.withStableOrder(pageable))
+                .orElseGet(() -> {
+                    log.debug("Listing sorted by {} read from the database", pageable.getSort());
+                    return database.listSummaries(filter, pageable);
+                });
+    }
+
+    @Override
+    public Slice<ProductSummary> sliceSummaries(ProductFilter filter, Pageable pageable) {
+        return readModel.findSlice(filter, FindProductGatewayImpl.withStableOrder(pageable))
+                .orElseGet(() -> {
+                    log.debug("Listing sorted by {} read from the database", pageable.getSort());
+                    return database.sliceSummaries(filter, pageable);
+                });
+    }
+
+    @Override
+    public long count() {
+        return readModel.count().orElseGet(database::count);
+    }
+
+    @Override
+    public ProductFacets facets(ProductFilter filter) {
+        return database.facets(filter);
+    }
+
+    @Override
+    public Window<ProductSummary> scrollSummaries(ProductFilter filter, KeysetScrollPosition position,
+            Sort.Order order, int size) {
+        return database.scrollSummaries(filter, position, order, size);
+    }
+
+    @Override
+    public Optional<Product> findById(Long id) {
+        return database.findById(id);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return database.findAllByIds(ids);
+    }
+
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return database.findSummaryById(id);
+    }
+}
@@ -0,0 +1,83 @@
+package com.jozias.product.catalog.infrastructure.gateway;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.gateway.ExportProductGateway;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.jozias.product.catalog.infrastructure.persistence.repository.ProductRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ExportProductGatewayImpl implements ExportProductGateway {
+
+    private final ProductRepository productRepository;
+    private final ProductEntityMapper productEntityMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportProductGatewayImpl(ProductRepository productRepository, ProductEntityMapper productEntityMapper,
+            EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productEntityMapper = productEntityMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Seeks the next chunk of ids after the last one exported and loads it with its
+     * variants in two statements, as the listing does, all in one short read-only
+     * transaction. The consumer runs after that transaction has ended, so a slow reader
+     * of the export never holds a pooled connection, and the persistence context is
+     * cleared after every chunk, so memory stays flat however large the catalog is.
+     */
+    @Override
+    public void exportAll(int chunkSize, Consumer<List<Product>> chunkConsumer) {
+        long after = Long.MIN_VALUE;
+        Chunk chunk;
+        do {
+            long lastExported = after;
+            chunk = readOnlyTransaction.execute(status -> readChunk(lastExported, chunkSize));
+            if (!chunk.products().isEmpty()) {
+                chunkConsumer.accept(chunk.products());
+            }
+            after = chunk.lastId();
+        } while (chunk.full());
+    }
+
+    private Chunk readChunk(long after, int chunkSize) {
+        List<Long> ids = productRepository.findIdsAfter(after, PageRequest.ofSize(chunkSize));
+        if (ids.isEmpty()) {
+            return new Chunk(List.of(), after, false);
+        }
+        List<ProductEntity> entities = productRepository.findAllWithVariantsByIdIn(ids);
+        productRepository.fetchVariantValues(ids);
+        Map<Long, ProductEntity> byId = entities.stream()
+                .collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+        // A product deleted after its id was read is skipped
+        List<Product> products = ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(productEntityMapper::toDomain)
+                .toList();
+        entityManager.clear();
+        return new Chunk(products, ids.getLast(), ids.size() == chunkSize);
+    }
+
+    /**
+     * @param lastId last id read, where the next chunk starts
+     * @param full   whether the chunk filled up, so more ids may follow
+     */
+    private record Chunk(List<Product> products, long lastId, boolean full) {
+    }
+}
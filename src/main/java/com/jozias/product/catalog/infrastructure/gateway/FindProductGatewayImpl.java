@@ -1,17 +1,41 @@
 package com.jozias.product.catalog.infrastructure.gateway;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jozias.product.catalog.domain.gateway.FindProductGateway;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
 import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapper;
 import com.jozias.product.catalog.infrastructure.persistence.repository.ProductRepository;
+import com.jozias.product.catalog.infrastructure.persistence.repository.ProductSpecifications;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class FindProductGatewayImpl implements FindProductGateway {
 
+    private static final String ID = "id";
+
+    private static final Map<String, Function<ProductSummary, Object>> SEEK_KEYS = Map.of(
+            ID, ProductSummary::id,
+            "name", ProductSummary::name,
+            "price", ProductSummary::price);
+
     private final ProductRepository productRepository;
     private final ProductEntityMapper productEntityMapper;
 
@@ -20,14 +44,104 @@ public class FindProductGatewayImpl implements FindProductGateway {
         this.productEntityMapper = productEntityMapper;
     }
 
+    /**
+     * The unfiltered listing keeps its static query; a filter switches to the criteria
+     * query built from {@link ProductSpecifications}.
+     */
+    @Override
+    public Page<ProductSummary> listSummaries(ProductFilter filter, Pageable pageable) {
+        if (filter.isEmpty()) {
+            return productRepository.findSummaries(withStableOrder(pageable));
+        }
+        return productRepository.findFilteredSummaries(ProductSpecifications.matching(filter),
+                withStableOrder(pageable));
+    }
+
+    @Override
+    public Slice<ProductSummary> sliceSummaries(ProductFilter filter, Pageable pageable) {
+        if (filter.isEmpty()) {
+            return productRepository.findSummarySlice(withStableOrder(pageable));
+        }
+        return productRepository.findFilteredSummarySlice(ProductSpecifications.matching(filter),
+                withStableOrder(pageable));
+    }
+
+    @Override
+    public long count() {
+        return productRepository.count();
+    }
+
+    @Override
+    public ProductFacets facets(ProductFilter filter) {
+        return productRepository.countFacets(ProductSpecifications.matching(filter));
+    }
+
+    /**
+     * Keyset read: fetches one row past the window to know whether another window
+     * follows, without the count query and OFFSET scan of {@link #listSummaries}.
+     */
     @Override
-    public Page<Product> list(Pageable pageable) {
-        return productRepository.findAll(pageable).map(productEntityMapper::toDomain);
+    public Window<ProductSummary> scrollSummaries(ProductFilter filter, KeysetScrollPosition position,
+            Sort.Order order, int size) {
+        Function<ProductSummary, Object> seekKey = SEEK_KEYS.get(order.getProperty());
+        if (seekKey == null) {
+            throw new IllegalArgumentException(
+                    "Cursor pagination supports sorting by %s only".formatted(SEEK_KEYS.keySet()));
+        }
+        List<ProductSummary> rows = productRepository.findSummariesAfter(ProductSpecifications.matching(filter), order,
+                position.getKeys(), size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ProductSummary> content = hasNext ? rows.subList(0, size) : rows;
+        return Window.from(content, index -> {
+            ProductSummary last = content.get(index);
+            return ScrollPosition.forward(ID.equals(order.getProperty())
+                    ? Map.of(ID, last.id())
+                    : Map.of(order.getProperty(), seekKey.apply(last), ID, last.id()));
+        }, hasNext);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findById(Long id) {
-        return productRepository.findById(id).map(productEntityMapper::toDomain);
+        return Optional.ofNullable(loadWithVariants(List.of(id)).get(id)).map(productEntityMapper::toDomain);
+    }
+
+    /**
+     * Loads every requested product with its variants in the same two statements as a
+     * single detail, whatever the number of ids. The order of the result is unspecified.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return loadWithVariants(ids).values().stream().map(productEntityMapper::toDomain).toList();
+    }
+
+    @Override
+    public Optional<ProductSummary> findSummaryById(Long id) {
+        return productRepository.findSummaryById(id);
+    }
+
+    private Map<Long, ProductEntity> loadWithVariants(Collection<Long> ids) {
+        List<ProductEntity> products = productRepository.findAllWithVariantsByIdIn(ids);
+        if (!products.isEmpty()) {
+            productRepository.fetchVariantValues(ids);
+        }
+        return products.stream().collect(Collectors.toMap(ProductEntity::getId, Function.identity()));
+    }
+
+    /**
+     * Appends the id as a tiebreaker so every page has a deterministic order, which the
+     * listing cache relies on to locate a product relative to a cached page.
+     */
+    static Pageable withStableOrder(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor(ID) != null) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().and(Sort.by(ID)));
     }
 
 }
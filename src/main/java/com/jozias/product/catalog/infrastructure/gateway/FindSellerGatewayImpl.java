@@ -1,5 +1,7 @@
 package com.jozias.product.catalog.infrastructure.gateway;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import com.jozias.product.catalog.domain.gateway.FindSellerGateway;
@@ -21,4 +23,9 @@ public class FindSellerGatewayImpl implements FindSellerGateway {
     public Optional<Seller> findById(Long id) {
         return sellerRepository.findById(id).map(sellerEntityMapper::toDomain);
     }
+
+    @Override
+    public List<Seller> findAllById(Collection<Long> ids) {
+        return sellerRepository.findAllById(ids).stream().map(sellerEntityMapper::toDomain).toList();
+    }
 }
@@ -0,0 +1,52 @@
+package com.jozias.product.catalog.infrastructure.gateway;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.domain.exception.InsufficientStockException;
+import com.jozias.product.catalog.domain.gateway.ProductStockGateway;
+import com.jozias.product.catalog.infrastructure.persistence.repository.ProductRepository;
+
+/**
+ * Each write is a single conditional {@code UPDATE}; the database applies the delta
+ * atomically, so concurrent adjustments never lose one another. The resulting quantity
+ * and version are read back in the same transaction.
+ */
+public class ProductStockGatewayImpl implements ProductStockGateway {
+
+    private final ProductRepository productRepository;
+
+    public ProductStockGatewayImpl(ProductRepository productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @Override
+    @Transactional
+    public StockLevel setAvailableQuantity(Long productId, int quantity) {
+        if (productRepository.setAvailableQuantity(productId, quantity) == 0) {
+            throw notFound(productId);
+        }
+        return stockLevel(productId);
+    }
+
+    @Override
+    @Transactional
+    public StockLevel adjustAvailableQuantity(Long productId, int delta) {
+        if (productRepository.adjustAvailableQuantity(productId, delta) == 0) {
+            // Nothing matched: either the product is gone or the stock is too low
+            StockLevel current = stockLevel(productId);
+            throw new InsufficientStockException("Insufficient stock for product %s: %d available, %d requested"
+                    .formatted(productId, current.availableQuantity(), -delta));
+        }
+        return stockLevel(productId);
+    }
+
+    private StockLevel stockLevel(Long productId) {
+        return productRepository.findStockLevelById(productId).orElseThrow(() -> notFound(productId));
+    }
+
+    private static EntityNotFoundException notFound(Long productId) {
+        return new EntityNotFoundException("Product not found with id: " + productId);
+    }
+}
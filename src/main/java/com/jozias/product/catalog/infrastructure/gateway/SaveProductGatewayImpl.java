@@ -1,22 +1,93 @@
 package com.jozias.product.catalog.infrastructure.gateway;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+
 import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductField;
+import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
 import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapper;
 import com.jozias.product.catalog.infrastructure.persistence.repository.ProductRepository;
 
+import java.util.EnumSet;
+import java.util.List;
+
 public class SaveProductGatewayImpl implements SaveProductGateway {
 
     private final ProductRepository productRepository;
     private final ProductEntityMapper productEntityMapper;
+    private final EntityManager entityManager;
 
-    public SaveProductGatewayImpl(ProductRepository productRepository, ProductEntityMapper productEntityMapper) {
+    public SaveProductGatewayImpl(ProductRepository productRepository, ProductEntityMapper productEntityMapper,
+            EntityManager entityManager) {
         this.productRepository = productRepository;
         this.productEntityMapper = productEntityMapper;
+        this.entityManager = entityManager;
     }
 
+    /**
+     * Merging an existing product checks its version, so a write based on a stale read
+     * fails instead of overwriting a newer one. The row is flushed before mapping so the
+     * returned product carries the version it reached.
+     */
     @Override
+    @Transactional
     public Product save(Product product) {
-        return productEntityMapper.toDomain(productRepository.save(productEntityMapper.toEntity(product)));
+        ProductEntity saved = productRepository.saveAndFlush(productEntityMapper.toEntity(product));
+        if (onlyVariantsChanged(product)) {
+            // Variant rows have no version of their own: bump the product's so the change is visible
+            entityManager.lock(saved, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        }
+        return productEntityMapper.toDomain(saved);
+    }
+
+    /**
+     * Scalar changes are copied onto the managed row, so the dynamic update only sets
+     * those columns. A variant change merges the whole aggregate like {@link #save}.
+     */
+    @Override
+    @Transactional
+    public Product saveChanges(Product product) {
+        if (product.getChangedFields().contains(ProductField.VARIANTS)) {
+            return save(product);
+        }
+        ProductEntity entity = productRepository.findById(product.getId())
+                .orElseThrow(() -> new EntityNotFoundException("Product not found with id: " + product.getId()));
+        if (!entity.getVersion().equals(product.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(ProductEntity.class, product.getId());
+        }
+        for (ProductField field : product.getChangedFields()) {
+            switch (field) {
+                case NAME -> entity.setName(product.getName());
+                case DESCRIPTION -> entity.setDescription(product.getDescription());
+                case PRICE -> entity.setPrice(product.getPrice());
+                case AVAILABLE_QUANTITY -> entity.setAvailableQuantity(product.getAvailableQuantity());
+                case CONDITION -> entity.setCondition(product.getCondition());
+                case CATEGORY -> entity.setCategory(product.getCategory());
+                case VARIANTS -> throw new IllegalStateException("Variant changes are saved with the aggregate");
+            }
+        }
+        productRepository.flush();
+        return product.withVersion(entity.getVersion());
+    }
+
+    private static boolean onlyVariantsChanged(Product product) {
+        return product.getChangedFields().equals(EnumSet.of(ProductField.VARIANTS));
+    }
+
+    /**
+     * Persists the whole list in one transaction, so the inserts go out in JDBC batches.
+     */
+    @Override
+    @Transactional
+    public List<Product> saveAll(List<Product> products) {
+        return productRepository.saveAll(products.stream().map(productEntityMapper::toEntity).toList())
+                .stream()
+                .map(productEntityMapper::toDomain)
+                .toList();
     }
 }
@@ -2,6 +2,7 @@ package com.jozias.product.catalog.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -9,7 +10,15 @@ import java.util.List;
 import com.jozias.product.catalog.domain.entity.Condition;
 
 @Entity
-@Table(name = "product")
+@DynamicUpdate
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_name_id", columnList = "name, id"),
+        @Index(name = "idx_product_price_id", columnList = "price, id"),
+        // Filtered listings: equality on the leading column, then the sort column and id
+        @Index(name = "idx_product_category_price_id", columnList = "category, price, id"),
+        @Index(name = "idx_product_category_name_id", columnList = "category, name, id"),
+        @Index(name = "idx_product_seller_price_id", columnList = "seller_id, price, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,7 +26,8 @@ import com.jozias.product.catalog.domain.entity.Condition;
 public class ProductEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -40,11 +50,15 @@ public class ProductEntity {
     @Column(nullable = false)
     private String category;
 
-    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ProductVariantEntity> variants;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "seller_id", nullable = false)
     private SellerEntity seller;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
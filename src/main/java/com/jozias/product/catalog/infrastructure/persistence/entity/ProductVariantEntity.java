@@ -2,10 +2,12 @@ package com.jozias.product.catalog.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.List;
 
 @Entity
+@DynamicUpdate
 @Table(name = "product_variant")
 @Getter
 @Setter
@@ -15,7 +17,8 @@ import java.util.List;
 public class ProductVariantEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_variant_seq")
+    @SequenceGenerator(name = "product_variant_seq", sequenceName = "product_variant_seq", allocationSize = 50)
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -2,8 +2,10 @@ package com.jozias.product.catalog.infrastructure.persistence.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
+@DynamicUpdate
 @Table(name = "product_variant_value")
 @Getter
 @Setter
@@ -13,7 +15,8 @@ import lombok.*;
 public class ProductVariantValueEntity {
     @EqualsAndHashCode.Include
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_variant_value_seq")
+    @SequenceGenerator(name = "product_variant_value_seq", sequenceName = "product_variant_value_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, name = "\"value\"")
@@ -6,7 +6,8 @@ import jakarta.persistence.*;
 @Table(name = "seller")
 public class SellerEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "seller_seq")
+    @SequenceGenerator(name = "seller_seq", sequenceName = "seller_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
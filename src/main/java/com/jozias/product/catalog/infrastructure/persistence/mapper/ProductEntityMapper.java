@@ -8,6 +8,7 @@ import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntit
 @Mapper(componentModel = "spring", uses = { SellerEntityMapper.class, ProductVariantEntityMapper.class })
 public abstract class ProductEntityMapper {
 
+    // Built through Product.rehydrate(): rows were validated before they were stored
     public abstract Product toDomain(ProductEntity entity);
 
     public abstract ProductEntity toEntity(Product domain);
@@ -0,0 +1,32 @@
+package com.jozias.product.catalog.infrastructure.persistence.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+
+public interface ProductFilterRepository {
+
+    /**
+     * Same projection as {@link ProductRepository#findSummaries}, restricted by
+     * {@code filter}; the count query applies the same predicate.
+     */
+    Page<ProductSummary> findFilteredSummaries(Specification<ProductEntity> filter, Pageable pageable);
+
+    /**
+     * Filtered listing without the count query: reads one extra row to tell whether a
+     * next slice exists.
+     */
+    Slice<ProductSummary> findFilteredSummarySlice(Specification<ProductEntity> filter, Pageable pageable);
+
+    /**
+     * Facet counts of the products matching {@code filter} in a single statement: the
+     * rows are grouped by condition, category, seller and price range together and
+     * rolled up per facet in memory.
+     */
+    ProductFacets countFacets(Specification<ProductEntity> filter);
+}
@@ -0,0 +1,135 @@
+package com.jozias.product.catalog.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class ProductFilterRepositoryImpl implements ProductFilterRepository {
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProductSummary> findFilteredSummaries(Specification<ProductEntity> filter, Pageable pageable) {
+        List<ProductSummary> content = summaries(filter, pageable, pageable.isPaged() ? pageable.getPageSize() : -1);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(filter));
+    }
+
+    @Override
+    public Slice<ProductSummary> findFilteredSummarySlice(Specification<ProductEntity> filter, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(summaries(filter, pageable, -1), pageable, false);
+        }
+        List<ProductSummary> rows = summaries(filter, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public ProductFacets countFacets(Specification<ProductEntity> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProductEntity> product = query.from(ProductEntity.class);
+        Expression<Condition> condition = product.get("condition");
+        Expression<String> category = product.get("category");
+        Expression<Long> sellerId = product.get("seller").get(ID);
+        Expression<Integer> priceRange = priceRange(cb, product.get("price"));
+        query.multiselect(condition, category, sellerId, priceRange, cb.count(product))
+                .groupBy(condition, category, sellerId, priceRange);
+        Predicate predicate = filter.toPredicate(product, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        ProductFacets.Counter counter = ProductFacets.counter();
+        for (Tuple row : entityManager.createQuery(query).getResultList()) {
+            counter.add(row.get(0, Condition.class), row.get(1, String.class), row.get(2, Long.class),
+                    row.get(3, Integer.class), row.get(4, Long.class));
+        }
+        return counter.build();
+    }
+
+    /**
+     * Selects the listing columns into {@link ProductSummary}; shared with the keyset
+     * reads so both build the same projection.
+     */
+    static void selectSummary(CriteriaBuilder cb, CriteriaQuery<ProductSummary> query, Root<ProductEntity> product) {
+        query.select(cb.construct(ProductSummary.class,
+                product.get(ID),
+                product.get("name"),
+                product.get("price"),
+                product.get("availableQuantity"),
+                product.get("condition"),
+                product.get("category"),
+                product.get("seller").get(ID),
+                product.get("version")));
+    }
+
+    // Index of the ProductFacets.PRICE_BOUNDS range, with literal bounds so the grouped
+    // expression is rendered identically in the select and the group by
+    private static Expression<Integer> priceRange(CriteriaBuilder cb, Expression<BigDecimal> price) {
+        List<BigDecimal> bounds = ProductFacets.PRICE_BOUNDS;
+        CriteriaBuilder.Case<Integer> range = cb.selectCase();
+        for (int index = 0; index < bounds.size(); index++) {
+            range = range.when(cb.lessThan(price, cb.literal(bounds.get(index))), cb.literal(index));
+        }
+        return range.otherwise(cb.literal(bounds.size()));
+    }
+
+    // A negative limit reads every matching row
+    private List<ProductSummary> summaries(Specification<ProductEntity> filter, Pageable pageable, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = cb.createQuery(ProductSummary.class);
+        Root<ProductEntity> product = query.from(ProductEntity.class);
+        selectSummary(cb, query, product);
+        Predicate predicate = filter.toPredicate(product, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), product, cb));
+
+        TypedQuery<ProductSummary> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        }
+        if (limit >= 0) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private long count(Specification<ProductEntity> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ProductEntity> product = query.from(ProductEntity.class);
+        query.select(cb.count(product));
+        Predicate predicate = filter.toPredicate(product, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -1,8 +1,81 @@
 package com.jozias.product.catalog.infrastructure.persistence.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.StockLevel;
 import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductVariantEntity;
 
-public interface ProductRepository extends JpaRepository<ProductEntity, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepository extends JpaRepository<ProductEntity, Long>, ProductSeekRepository,
+        ProductFilterRepository {
+
+    String SUMMARY_PROJECTION = "select new com.jozias.product.catalog.domain.entity.ProductSummary("
+            + "p.id, p.name, p.price, p.availableQuantity, p.condition, p.category, p.seller.id, p.version) "
+            + "from ProductEntity p";
+
+    /**
+     * Listing read model: a constructor projection, so no entity is instantiated or
+     * attached to the persistence context and the description column is never read.
+     */
+    @Query(value = SUMMARY_PROJECTION, countQuery = "select count(p) from ProductEntity p")
+    Page<ProductSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Same projection without the count query: Spring Data reads one extra row to
+     * tell whether a next slice exists.
+     */
+    @Query(SUMMARY_PROJECTION)
+    Slice<ProductSummary> findSummarySlice(Pageable pageable);
+
+    @Query(SUMMARY_PROJECTION + " where p.id = :id")
+    Optional<ProductSummary> findSummaryById(@Param("id") Long id);
+
+    /**
+     * Next ids after {@code after} in id order, the size of {@code pageable} at most. A
+     * keyset seek on the primary key, so every chunk of a catalog walk costs the same.
+     */
+    @Query("select p.id from ProductEntity p where p.id > :after order by p.id")
+    List<Long> findIdsAfter(@Param("after") long after, Pageable pageable);
+
+    /**
+     * Loads the products with their variants and seller in a single statement. Variant
+     * values are a second bag, so they are fetched by {@link #fetchVariantValues}.
+     */
+    @Query("select p from ProductEntity p left join fetch p.variants join fetch p.seller where p.id in :ids")
+    List<ProductEntity> findAllWithVariantsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select v from ProductVariantEntity v left join fetch v.values where v.product.id in :productIds")
+    List<ProductVariantEntity> fetchVariantValues(@Param("productIds") Collection<Long> productIds);
+
+    @Query("select new com.jozias.product.catalog.domain.entity.StockLevel(p.availableQuantity, p.version) "
+            + "from ProductEntity p where p.id = :id")
+    Optional<StockLevel> findStockLevelById(@Param("id") Long id);
+
+    /**
+     * Bulk updates bypass {@code @Version}, so the stock writes bump it themselves and
+     * an aggregate loaded before them can no longer be saved over them.
+     */
+    @Modifying
+    @Query("update ProductEntity p set p.availableQuantity = :quantity, p.version = p.version + 1 where p.id = :id")
+    int setAvailableQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Applies the delta in the database; the guard makes it a no-op (0 rows) when the
+     * stock would go negative.
+     */
+    @Modifying
+    @Query("update ProductEntity p set p.availableQuantity = p.availableQuantity + :delta, p.version = p.version + 1 "
+            + "where p.id = :id and p.availableQuantity + :delta >= 0")
+    int adjustAvailableQuantity(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -0,0 +1,22 @@
+package com.jozias.product.catalog.infrastructure.persistence.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductSeekRepository {
+
+    /**
+     * Seeks the summaries that follow the given keys in {@code order} (tie-broken by id
+     * in the same direction), so the database walks the {@code (column, id)} index
+     * instead of skipping an OFFSET. Empty keys start from the beginning. Only rows
+     * matching {@code filter} are returned.
+     */
+    List<ProductSummary> findSummariesAfter(Specification<ProductEntity> filter, Sort.Order order,
+            Map<String, ?> after, int limit);
+}
@@ -0,0 +1,75 @@
+package com.jozias.product.catalog.infrastructure.persistence.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ProductSeekRepositoryImpl implements ProductSeekRepository {
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ProductSummary> findSummariesAfter(Specification<ProductEntity> filter, Sort.Order order,
+            Map<String, ?> after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductSummary> query = cb.createQuery(ProductSummary.class);
+        Root<ProductEntity> product = query.from(ProductEntity.class);
+        ProductFilterRepositoryImpl.selectSummary(cb, query, product);
+
+        Path<Comparable<Object>> key = product.get(order.getProperty());
+        Path<Comparable<Object>> id = product.get(ID);
+        boolean descending = order.isDescending();
+
+        List<Predicate> where = new ArrayList<>(2);
+        Predicate criteria = filter.toPredicate(product, query, cb);
+        if (criteria != null) {
+            where.add(criteria);
+        }
+        if (!after.isEmpty()) {
+            Predicate seek = beyond(cb, id, after.get(ID), descending);
+            if (!ID.equals(order.getProperty())) {
+                Object value = after.get(order.getProperty());
+                seek = cb.or(
+                        beyond(cb, key, value, descending),
+                        cb.and(cb.equal(key, value), seek));
+            }
+            where.add(seek);
+        }
+        query.where(where.toArray(Predicate[]::new));
+        if (ID.equals(order.getProperty())) {
+            query.orderBy(descending ? cb.desc(id) : cb.asc(id));
+        } else {
+            query.orderBy(
+                    descending ? cb.desc(key) : cb.asc(key),
+                    descending ? cb.desc(id) : cb.asc(id));
+        }
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate beyond(CriteriaBuilder cb, Expression<Comparable<Object>> path, Object value,
+            boolean descending) {
+        Comparable<Object> bound = (Comparable<Object>) value;
+        return descending ? cb.lessThan(path, bound) : cb.greaterThan(path, bound);
+    }
+}
@@ -0,0 +1,74 @@
+package com.jozias.product.catalog.infrastructure.persistence.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One predicate per listing criterion, composed by {@link #matching} into the WHERE
+ * clause of a filtered listing. Each criterion is a plain comparison on a column of
+ * {@code product}, so the composite indexes declared on {@link ProductEntity} apply.
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * ANDs the criteria set in {@code filter}. With no criterion the specification adds
+     * no predicate at all.
+     */
+    public static Specification<ProductEntity> matching(ProductFilter filter) {
+        List<Specification<ProductEntity>> criteria = new ArrayList<>();
+        if (filter.category() != null) {
+            criteria.add(inCategory(filter.category()));
+        }
+        if (filter.condition() != null) {
+            criteria.add(inCondition(filter.condition()));
+        }
+        if (filter.minPrice() != null) {
+            criteria.add(priceAtLeast(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            criteria.add(priceAtMost(filter.maxPrice()));
+        }
+        if (filter.sellerId() != null) {
+            criteria.add(soldBy(filter.sellerId()));
+        }
+        if (filter.inStock()) {
+            criteria.add(inStock());
+        }
+        return Specification.allOf(criteria);
+    }
+
+    public static Specification<ProductEntity> inCategory(String category) {
+        return (product, query, cb) -> cb.equal(product.get("category"), category);
+    }
+
+    public static Specification<ProductEntity> inCondition(Condition condition) {
+        return (product, query, cb) -> cb.equal(product.get("condition"), condition);
+    }
+
+    public static Specification<ProductEntity> priceAtLeast(BigDecimal minPrice) {
+        return (product, query, cb) -> cb.greaterThanOrEqualTo(product.get("price"), minPrice);
+    }
+
+    public static Specification<ProductEntity> priceAtMost(BigDecimal maxPrice) {
+        return (product, query, cb) -> cb.lessThanOrEqualTo(product.get("price"), maxPrice);
+    }
+
+    // Compares the foreign key column; no join to seller is needed
+    public static Specification<ProductEntity> soldBy(Long sellerId) {
+        return (product, query, cb) -> cb.equal(product.get("seller").get("id"), sellerId);
+    }
+
+    public static Specification<ProductEntity> inStock() {
+        return (product, query, cb) -> cb.greaterThan(product.get("availableQuantity"), 0);
+    }
+}
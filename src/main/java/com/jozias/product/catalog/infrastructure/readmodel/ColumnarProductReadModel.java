@@ -0,0 +1,620 @@
+package com.jozias.product.catalog.infrastructure.readmodel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntPredicate;
+
+/**
+ * {@link ProductReadModel} holding each listing column in its own primitive array:
+ * ids, prices in cents, quantities, condition ordinals, dictionary-encoded categories,
+ * seller ids and row versions, plus the names. A row lives in a slot of every array,
+ * and the slot of a deleted row is reused.
+ * <p>
+ * Three permutations of the live slots stay sorted by {@code id}, {@code (name, id)}
+ * and {@code (price, id)}. A listing walks one of them in order, tests the filter
+ * against the columns and builds a {@link ProductSummary} only for the rows of the
+ * requested page. Writes shift the permutations with {@link System#arraycopy}, which
+ * is linear in the catalog size but rare next to reads. Listings the permutations
+ * cannot order (other sort properties, ignore-case) are left to the database.
+ * <p>
+ * Writes reach the model after their transaction commits and may arrive out of order,
+ * so a write carrying an older version than the row held for its id is dropped. A
+ * deleted row leaves its version behind, so a delayed write cannot bring it back.
+ * Reads are answered only once the startup load has finished. Writes applied while it
+ * runs win over the rows it reads afterwards, so a product updated or deleted during
+ * the load is never replaced by its older copy.
+ */
+@Slf4j
+public class ColumnarProductReadModel implements ProductReadModel {
+
+    private static final String ID = "id";
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int PRICE_SCALE = 2;
+    private static final long NO_SELLER = Long.MIN_VALUE;
+    private static final int NO_CATEGORY = -1;
+    private static final byte NO_CONDITION = -1;
+    private static final long NO_VERSION = Long.MIN_VALUE;
+    private static final Condition[] CONDITIONS = Condition.values();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private byte[] conditions = new byte[INITIAL_CAPACITY];
+    private int[] categories = new int[INITIAL_CAPACITY];
+    private long[] sellerIds = new long[INITIAL_CAPACITY];
+    private long[] versions = new long[INITIAL_CAPACITY];
+    private int slotCount;
+
+    private final Map<Long, Integer> slotsById = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<String, Integer> categoryCodes = new HashMap<>();
+    private final List<String> categoryNames = new ArrayList<>();
+    // One entry per deleted product, kept for good since ids are never reused
+    private final Map<Long, Long> deletedVersions = new HashMap<>();
+
+    private final SortedSlots byId = new SortedSlots(
+            (a, b) -> Long.compare(ids[a], ids[b]),
+            (a, b) -> Long.compare(ids[a], ids[b]));
+    private final SortedSlots byName = new SortedSlots(
+            (a, b) -> names[a].compareTo(names[b]),
+            (a, b) -> {
+                int byKey = names[a].compareTo(names[b]);
+                return byKey != 0 ? byKey : Long.compare(ids[a], ids[b]);
+            });
+    private final SortedSlots byPrice = new SortedSlots(
+            (a, b) -> Long.compare(prices[a], prices[b]),
+            (a, b) -> {
+                int byKey = Long.compare(prices[a], prices[b]);
+                return byKey != 0 ? byKey : Long.compare(ids[a], ids[b]);
+            });
+    private final Map<String, SortedSlots> orderedBy = Map.of(ID, byId, "name", byName, "price", byPrice);
+
+    // Startup load state: rows written meanwhile, and stock set on rows not loaded yet
+    private boolean loading;
+    private volatile boolean ready;
+    private final Set<Long> writtenDuringLoad = new HashSet<>();
+    private final Map<Long, StockLevel> pendingStockLevels = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void upsert(ProductSummary summary) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(summary.id());
+            if (slot != null && isOlder(summary.version(), versions[slot])) {
+                log.debug("Dropped write of product {} at version {} older than the held row", summary.id(),
+                        summary.version());
+                return;
+            }
+            Long deletedVersion = deletedVersions.get(summary.id());
+            if (deletedVersion != null && !isNewer(summary.version(), deletedVersion)) {
+                log.debug("Dropped write of deleted product {} at version {}", summary.id(), summary.version());
+                return;
+            }
+            deletedVersions.remove(summary.id());
+            if (loading) {
+                writtenDuringLoad.add(summary.id());
+                pendingStockLevels.remove(summary.id());
+            }
+            if (slot == null) {
+                insert(summary);
+                return;
+            }
+            // The id, and so the position in byId, does not change
+            if (!loading) {
+                byName.remove(slot);
+                byPrice.remove(slot);
+            }
+            write(slot, summary);
+            if (!loading) {
+                byName.insert(slot);
+                byPrice.insert(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id, Long version) {
+        lock.writeLock().lock();
+        try {
+            deletedVersions.merge(id, version(version), Math::max);
+            if (loading) {
+                writtenDuringLoad.add(id);
+                pendingStockLevels.remove(id);
+            }
+            Integer slot = slotsById.get(id);
+            if (slot == null) {
+                return;
+            }
+            if (!loading) {
+                byId.remove(slot);
+                byName.remove(slot);
+                byPrice.remove(slot);
+            }
+            slotsById.remove(id);
+            names[slot] = null;
+            freeSlots.push(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void updateStockLevel(Long id, StockLevel stockLevel) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotsById.get(id);
+            if (slot != null) {
+                if (!isOlder(stockLevel.version(), versions[slot])) {
+                    quantities[slot] = stockLevel.availableQuantity();
+                    versions[slot] = version(stockLevel.version());
+                }
+            } else if (loading && !writtenDuringLoad.contains(id)) {
+                pendingStockLevels.merge(id, stockLevel,
+                        (held, incoming) -> isOlder(incoming.version(), version(held.version())) ? held : incoming);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Empties the model and stops serving reads until {@link #finishLoad()}.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            loading = true;
+            slotsById.clear();
+            freeSlots.clear();
+            categoryCodes.clear();
+            categoryNames.clear();
+            Arrays.fill(names, 0, slotCount, null);
+            slotCount = 0;
+            byId.clear();
+            byName.clear();
+            byPrice.clear();
+            writtenDuringLoad.clear();
+            pendingStockLevels.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds rows read from the database, skipping those a write has touched since
+     * {@link #beginLoad()}.
+     */
+    public void load(List<ProductSummary> chunk) {
+        lock.writeLock().lock();
+        try {
+            for (ProductSummary summary : chunk) {
+                if (writtenDuringLoad.contains(summary.id()) || slotsById.containsKey(summary.id())) {
+                    continue;
+                }
+                StockLevel stockLevel = pendingStockLevels.remove(summary.id());
+                insert(stockLevel != null && !isOlder(stockLevel.version(), version(summary.version()))
+                        ? summary.withStockLevel(stockLevel)
+                        : summary);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Sorts the permutations in one pass and starts serving reads.
+     */
+    public void finishLoad() {
+        lock.writeLock().lock();
+        try {
+            int[] live = slotsById.values().stream().mapToInt(Integer::intValue).toArray();
+            byId.rebuild(live);
+            byName.rebuild(live);
+            byPrice.rebuild(live);
+            loading = false;
+            writtenDuringLoad.clear();
+            pendingStockLevels.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Same page as the database listing, or empty when the model is not loaded yet or
+     * cannot reproduce the order of {@code pageable}.
+     */
+    public Optional<Page<ProductSummary>> findPage(ProductFilter filter, Pageable pageable) {
+        return select(filter, pageable, true)
+                .map(rows -> new PageImpl<>(rows.content(), pageable, rows.matches()));
+    }
+
+    /**
+     * Same slice as the database listing; stops walking at the first row past the slice.
+     */
+    public Optional<Slice<ProductSummary>> findSlice(ProductFilter filter, Pageable pageable) {
+        return select(filter, pageable, false)
+                .map(rows -> new SliceImpl<>(rows.content(), pageable, rows.hasNext()));
+    }
+
+    public OptionalLong count() {
+        if (!ready) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(size());
+    }
+
+    private Optional<Rows> select(ProductFilter filter, Pageable pageable, boolean countAll) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            Walk walk = walkFor(pageable.getSort());
+            if (walk == null) {
+                return Optional.empty();
+            }
+            long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+            int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+            PageCollector collector = new PageCollector(matcher(filter), offset, limit,
+                    Math.min(limit, slotsById.size()), countAll);
+            walk.forEach(collector);
+
+            List<ProductSummary> content = new ArrayList<>(collector.picked);
+            for (int i = 0; i < collector.picked; i++) {
+                content.add(summaryAt(collector.slots[i]));
+            }
+            return Optional.of(new Rows(content, collector.matches, collector.hasNext));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Maps a sort to a permutation. The listing always ends with the {@code id}
+     * tie-breaker (ascending when the request did not name it), so only a single
+     * {@code name} or {@code price} key before it, or {@code id} alone, is supported.
+     */
+    private Walk walkFor(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        for (Sort.Order order : orders) {
+            if (order.isIgnoreCase() || order.getNullHandling() != Sort.NullHandling.NATIVE) {
+                return null;
+            }
+        }
+        if (orders.isEmpty()) {
+            return new Walk(byId, false, false);
+        }
+        Sort.Order first = orders.get(0);
+        SortedSlots index = orderedBy.get(first.getProperty());
+        if (index == null) {
+            return null;
+        }
+        if (index == byId) {
+            return new Walk(byId, first.isDescending(), first.isDescending());
+        }
+        if (orders.size() == 1) {
+            return new Walk(index, first.isDescending(), false);
+        }
+        Sort.Order second = orders.get(1);
+        if (!ID.equals(second.getProperty())) {
+            return null;
+        }
+        return new Walk(index, first.isDescending(), second.isDescending());
+    }
+
+    private IntPredicate matcher(ProductFilter filter) {
+        IntPredicate matcher = slot -> true;
+        if (filter.category() != null) {
+            Integer code = categoryCodes.get(filter.category());
+            if (code == null) {
+                return slot -> false;
+            }
+            int category = code;
+            matcher = matcher.and(slot -> categories[slot] == category);
+        }
+        if (filter.condition() != null) {
+            byte condition = (byte) filter.condition().ordinal();
+            matcher = matcher.and(slot -> conditions[slot] == condition);
+        }
+        if (filter.minPrice() != null) {
+            long minPrice = cents(filter.minPrice(), RoundingMode.CEILING);
+            matcher = matcher.and(slot -> prices[slot] >= minPrice);
+        }
+        if (filter.maxPrice() != null) {
+            long maxPrice = cents(filter.maxPrice(), RoundingMode.FLOOR);
+            matcher = matcher.and(slot -> prices[slot] <= maxPrice);
+        }
+        if (filter.sellerId() != null) {
+            long sellerId = filter.sellerId();
+            matcher = matcher.and(slot -> sellerIds[slot] == sellerId);
+        }
+        if (filter.inStock()) {
+            matcher = matcher.and(slot -> quantities[slot] > 0);
+        }
+        return matcher;
+    }
+
+    private void insert(ProductSummary summary) {
+        int slot = freeSlots.isEmpty() ? nextSlot() : freeSlots.pop();
+        write(slot, summary);
+        slotsById.put(summary.id(), slot);
+        if (!loading) {
+            byId.insert(slot);
+            byName.insert(slot);
+            byPrice.insert(slot);
+        }
+    }
+
+    private int nextSlot() {
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+            quantities = Arrays.copyOf(quantities, capacity);
+            conditions = Arrays.copyOf(conditions, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            sellerIds = Arrays.copyOf(sellerIds, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void write(int slot, ProductSummary summary) {
+        ids[slot] = summary.id();
+        names[slot] = summary.name();
+        prices[slot] = cents(summary.price(), RoundingMode.HALF_UP);
+        quantities[slot] = summary.availableQuantity() != null ? summary.availableQuantity() : 0;
+        conditions[slot] = summary.condition() != null ? (byte) summary.condition().ordinal() : NO_CONDITION;
+        categories[slot] = summary.category() != null ? categoryCode(summary.category()) : NO_CATEGORY;
+        sellerIds[slot] = summary.sellerId() != null ? summary.sellerId() : NO_SELLER;
+        versions[slot] = version(summary.version());
+    }
+
+    private ProductSummary summaryAt(int slot) {
+        return new ProductSummary(
+                ids[slot],
+                names[slot],
+                BigDecimal.valueOf(prices[slot], PRICE_SCALE),
+                quantities[slot],
+                conditions[slot] != NO_CONDITION ? CONDITIONS[conditions[slot]] : null,
+                categories[slot] != NO_CATEGORY ? categoryNames.get(categories[slot]) : null,
+                sellerIds[slot] != NO_SELLER ? sellerIds[slot] : null,
+                versions[slot] != NO_VERSION ? versions[slot] : null);
+    }
+
+    // A write or a row without a version cannot be ordered and is taken as it comes
+    private static boolean isOlder(Long version, long heldVersion) {
+        return version != null && heldVersion != NO_VERSION && version < heldVersion;
+    }
+
+    // A deleted row without a version accepts no later write
+    private static boolean isNewer(Long version, long deletedVersion) {
+        return version != null && deletedVersion != NO_VERSION && version > deletedVersion;
+    }
+
+    private static long version(Long version) {
+        return version != null ? version : NO_VERSION;
+    }
+
+    // Codes are never released: the number of categories stays small
+    private int categoryCode(String category) {
+        return categoryCodes.computeIfAbsent(category, name -> {
+            categoryNames.add(name);
+            return categoryNames.size() - 1;
+        });
+    }
+
+    private static long cents(BigDecimal price, RoundingMode rounding) {
+        BigDecimal cents = price.movePointRight(PRICE_SCALE).setScale(0, rounding);
+        return cents.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) > 0 ? Long.MAX_VALUE : cents.longValue();
+    }
+
+    private record Rows(List<ProductSummary> content, long matches, boolean hasNext) {
+    }
+
+    /**
+     * Visits the slots of a permutation sorted by {@code (key, id)}: runs of equal keys
+     * in key order and, inside a run, rows in id order, so a descending key can still
+     * be followed by an ascending id.
+     */
+    private record Walk(SortedSlots index, boolean keyDescending, boolean idDescending) {
+
+        void forEach(IntPredicate visitor) {
+            int[] slots = index.slots;
+            int size = index.size;
+            if (keyDescending == idDescending) {
+                for (int i = 0; i < size; i++) {
+                    if (!visitor.test(slots[keyDescending ? size - 1 - i : i])) {
+                        return;
+                    }
+                }
+                return;
+            }
+            if (keyDescending) {
+                for (int end = size; end > 0;) {
+                    int start = end - 1;
+                    while (start > 0 && index.keyOrder.applyAsInt(slots[start - 1], slots[end - 1]) == 0) {
+                        start--;
+                    }
+                    for (int i = start; i < end; i++) {
+                        if (!visitor.test(slots[i])) {
+                            return;
+                        }
+                    }
+                    end = start;
+                }
+            } else {
+                for (int start = 0; start < size;) {
+                    int end = start + 1;
+                    while (end < size && index.keyOrder.applyAsInt(slots[start], slots[end]) == 0) {
+                        end++;
+                    }
+                    for (int i = end - 1; i >= start; i--) {
+                        if (!visitor.test(slots[i])) {
+                            return;
+                        }
+                    }
+                    start = end;
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the matching slots of the requested page and counts every match; without
+     * {@code countAll} it stops at the first match past the page.
+     */
+    private static final class PageCollector implements IntPredicate {
+
+        private final IntPredicate matcher;
+        private final long offset;
+        private final long end;
+        private final boolean countAll;
+        private final int[] slots;
+        private int picked;
+        private long matches;
+        private boolean hasNext;
+
+        PageCollector(IntPredicate matcher, long offset, int limit, int capacity, boolean countAll) {
+            this.matcher = matcher;
+            this.offset = offset;
+            this.end = offset + limit;
+            this.countAll = countAll;
+            this.slots = new int[capacity];
+        }
+
+        @Override
+        public boolean test(int slot) {
+            if (!matcher.test(slot)) {
+                return true;
+            }
+            long position = matches++;
+            if (position >= end) {
+                hasNext = true;
+                return countAll;
+            }
+            if (position >= offset) {
+                slots[picked++] = slot;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Live slots sorted by a total order over the columns. {@code keyOrder} compares the
+     * sort key alone and tells the runs of equal keys apart.
+     */
+    private static final class SortedSlots {
+
+        private final IntBinaryOperator keyOrder;
+        private final IntBinaryOperator order;
+        private int[] slots = new int[INITIAL_CAPACITY];
+        private int size;
+
+        SortedSlots(IntBinaryOperator keyOrder, IntBinaryOperator order) {
+            this.keyOrder = keyOrder;
+            this.order = order;
+        }
+
+        void insert(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            int position = search(slot);
+            int insertAt = position < 0 ? -position - 1 : position;
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        // Must run before the columns of the slot change, while its position is still valid
+        void remove(int slot) {
+            int position = search(slot);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(slots, position + 1, slots, position, size - position - 1);
+            size--;
+        }
+
+        void rebuild(int[] live) {
+            Integer[] sorted = Arrays.stream(live).boxed().toArray(Integer[]::new);
+            Arrays.sort(sorted, order::applyAsInt);
+            slots = new int[Math.max(INITIAL_CAPACITY, sorted.length * 2)];
+            for (int i = 0; i < sorted.length; i++) {
+                slots[i] = sorted[i];
+            }
+            size = sorted.length;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        private int search(int slot) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = order.applyAsInt(slots[middle], slot);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.jozias.product.catalog.infrastructure.readmodel;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+/**
+ * Rebuilds the columnar read model from the database when the application starts.
+ * The catalog is read as summaries in id order through the keyset scroll, one chunk
+ * per statement, so no entity is loaded. Listings keep reading the database until the
+ * load finishes. Does nothing when the read model is disabled.
+ */
+@Slf4j
+public class ProductReadModelLoader implements ApplicationRunner {
+
+    private static final Sort.Order BY_ID = Sort.Order.asc("id");
+
+    private final FindProductGateway findProductGateway;
+    private final ProductReadModel productReadModel;
+    private final int chunkSize;
+
+    public ProductReadModelLoader(FindProductGateway findProductGateway, ProductReadModel productReadModel,
+            int chunkSize) {
+        this.findProductGateway = findProductGateway;
+        this.productReadModel = productReadModel;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!(productReadModel instanceof ColumnarProductReadModel readModel)) {
+            return;
+        }
+        long start = System.nanoTime();
+        readModel.beginLoad();
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        Window<ProductSummary> window;
+        do {
+            window = findProductGateway.scrollSummaries(ProductFilter.NONE, position, BY_ID, chunkSize);
+            readModel.load(window.getContent());
+            if (!window.isEmpty()) {
+                position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+        readModel.finishLoad();
+        log.info("Columnar read model built with {} products in {} ms", readModel.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,249 @@
+package com.jozias.product.catalog.infrastructure.search;
+
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.ProductVariantValue;
+
+import java.text.Normalizer;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index held on the heap: each term maps to the ids of the products containing
+ * it, with a weight that favours matches in the name over the category, the variant
+ * values and the description. Terms are lower-cased and stripped of accents, so
+ * "eletronico" finds "Eletrônicos", and every query term matches as a prefix, so
+ * "smart" finds "Smartphone". A product is indexed under its current text only: the
+ * terms of its previous version are removed before the new ones are added.
+ * <p>
+ * Writes reach the index after their transaction commits and may arrive out of order,
+ * so the version indexed for each product is kept and a write carrying an older one is
+ * ignored. A removed product leaves its version behind, so a delayed write cannot bring
+ * it back.
+ * <p>
+ * While the startup load runs, ids indexed or removed by regular writes are recorded
+ * and the loader's rows for them are skipped, since the chunk read from the database
+ * may be older than the write and would otherwise bring back a stale or deleted product.
+ */
+public class InMemoryProductSearchIndex implements ProductSearchIndex {
+
+    static final int NAME_WEIGHT = 8;
+    static final int CATEGORY_WEIGHT = 4;
+    static final int VARIANT_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final long NO_VERSION = Long.MIN_VALUE;
+
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Long> versions = new HashMap<>();
+    // One entry per removed product, kept for good since ids are never reused
+    private final Map<Long, Long> removedVersions = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private boolean loading;
+    private final Set<Long> writtenDuringLoad = new HashSet<>();
+
+    @Override
+    public void index(Product product) {
+        Map<String, Integer> terms = termsOf(product);
+        lock.writeLock().lock();
+        try {
+            if (isStale(product.getId(), product.getVersion())) {
+                return;
+            }
+            removedVersions.remove(product.getId());
+            if (loading) {
+                writtenDuringLoad.add(product.getId());
+            }
+            addDocument(product.getId(), terms, product.getVersion());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long id, Long version) {
+        lock.writeLock().lock();
+        try {
+            removedVersions.merge(id, version(version), Math::max);
+            if (loading) {
+                writtenDuringLoad.add(id);
+            }
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Starts recording the ids written by regular writes, so {@link #load} leaves them alone.
+     */
+    public void beginLoad() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            writtenDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes a chunk read by the startup load, skipping the products indexed or removed
+     * since {@link #beginLoad}.
+     */
+    public void load(List<Product> chunk) {
+        List<Map<String, Integer>> terms = chunk.stream().map(InMemoryProductSearchIndex::termsOf).toList();
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < chunk.size(); i++) {
+                Product product = chunk.get(i);
+                if (!writtenDuringLoad.contains(product.getId())) {
+                    addDocument(product.getId(), terms.get(i), product.getVersion());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void finishLoad() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            writtenDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query).distinct().toList();
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String queryTerm : queryTerms) {
+                Map<Long, Integer> matches = prefixMatches(queryTerm);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((id, score) -> score + matches.get(id));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Best weight per product among the indexed terms starting with the query term
+    private Map<Long, Integer> prefixMatches(String queryTerm) {
+        Map<Long, Integer> matches = new HashMap<>();
+        for (Map<Long, Integer> products : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false)
+                .values()) {
+            products.forEach((id, weight) -> matches.merge(id, weight, Math::max));
+        }
+        return matches;
+    }
+
+    // A write without a version cannot be ordered and is taken as it comes, unless the product was removed
+    private boolean isStale(Long id, Long version) {
+        Long removed = removedVersions.get(id);
+        if (removed != null) {
+            return version == null || removed == NO_VERSION || version <= removed;
+        }
+        return version != null && version < versions.getOrDefault(id, NO_VERSION);
+    }
+
+    private void addDocument(Long id, Map<String, Integer> terms, Long version) {
+        removeDocument(id);
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(id, weight));
+        documents.put(id, terms);
+        versions.put(id, version(version));
+    }
+
+    private void removeDocument(Long id) {
+        versions.remove(id);
+        Map<String, Integer> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<Long, Integer> products = postings.get(term);
+            products.remove(id);
+            if (products.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static long version(Long version) {
+        return version != null ? version : NO_VERSION;
+    }
+
+    // A term keeps the weight of the most important field it appears in
+    private static Map<String, Integer> termsOf(Product product) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, product.getName(), NAME_WEIGHT);
+        addTerms(terms, product.getCategory(), CATEGORY_WEIGHT);
+        if (product.getVariants() != null) {
+            for (ProductVariant variant : product.getVariants()) {
+                for (ProductVariantValue value : variant.getValues()) {
+                    addTerms(terms, value.getValue(), VARIANT_WEIGHT);
+                }
+            }
+        }
+        addTerms(terms, product.getDescription(), DESCRIPTION_WEIGHT);
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        tokenize(text).forEach(term -> terms.merge(term, weight, Math::max));
+    }
+
+    static Stream<String> tokenize(String text) {
+        if (text == null) {
+            return Stream.empty();
+        }
+        String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return SEPARATORS.splitAsStream(folded).filter(term -> !term.isEmpty());
+    }
+}
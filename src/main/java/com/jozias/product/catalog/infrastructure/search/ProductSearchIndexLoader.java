@@ -0,0 +1,45 @@
+package com.jozias.product.catalog.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.domain.gateway.ExportProductGateway;
+
+/**
+ * Fills the search index from the database when the application starts, since the
+ * index lives on the heap and does not survive a restart. The catalog is read through
+ * the export walk in chunks, so startup memory does not grow with the catalog beyond
+ * the index itself. Products written while the load runs keep the state of that write.
+ */
+@Slf4j
+public class ProductSearchIndexLoader implements ApplicationRunner {
+
+    private final ExportProductGateway exportProductGateway;
+    private final ProductSearchIndex productSearchIndex;
+    private final int chunkSize;
+
+    public ProductSearchIndexLoader(ExportProductGateway exportProductGateway, ProductSearchIndex productSearchIndex,
+            int chunkSize) {
+        this.exportProductGateway = exportProductGateway;
+        this.productSearchIndex = productSearchIndex;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!(productSearchIndex instanceof InMemoryProductSearchIndex index)) {
+            return;
+        }
+        long start = System.nanoTime();
+        index.beginLoad();
+        try {
+            exportProductGateway.exportAll(chunkSize, index::load);
+        } finally {
+            index.finishLoad();
+        }
+        log.info("Search index built with {} products in {} ms", index.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,39 @@
+package com.jozias.product.catalog.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CountProductUseCase")
+class CountProductUseCaseTest {
+
+    @Mock
+    private FindProductGateway findProductGateway;
+
+    @InjectMocks
+    private CountProductUseCase countProductUseCase;
+
+    @Test
+    @DisplayName("given products exist when count then should return gateway total")
+    void givenProductsExist_whenCount_thenShouldReturnGatewayTotal() {
+        // given
+        when(findProductGateway.count()).thenReturn(42L);
+
+        // when
+        long result = countProductUseCase.count();
+
+        // then
+        assertThat(result).isEqualTo(42L);
+        verify(findProductGateway).count();
+    }
+}
@@ -1,10 +1,14 @@
 package com.jozias.product.catalog.application.usecase;
 
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
 import com.jozias.product.catalog.application.dto.CreateProductDTO;
 import com.jozias.product.catalog.domain.gateway.FindSellerGateway;
 import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.entity.Seller;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +41,15 @@ class CreateProductUseCaseTest {
     @Mock
     private FindSellerGateway findSellerGateway;
 
+    @Mock
+    private ProductListingCache productListingCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductReadModel productReadModel;
+
     @InjectMocks
     private CreateProductUseCase createProductUseCase;
 
@@ -89,6 +103,9 @@ class CreateProductUseCaseTest {
 
         Product capturedProduct = productCaptor.getValue();
         assertThat(capturedProduct.getSeller()).isEqualTo(seller);
+        verify(productListingCache).evictCreated(ProductSummary.from(savedProduct));
+        verify(productSearchIndex).index(savedProduct);
+        verify(productReadModel).upsert(ProductSummary.from(savedProduct));
     }
 
     @Test
@@ -103,5 +120,6 @@ class CreateProductUseCaseTest {
                 .hasMessageContaining("Seller not found");
 
         verify(findSellerGateway).findById(1L);
+        verifyNoInteractions(productListingCache, productSearchIndex, productReadModel);
     }
 }
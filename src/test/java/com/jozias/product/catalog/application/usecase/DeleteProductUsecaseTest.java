@@ -7,9 +7,20 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.gateway.DeleteProductGateway;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+import java.math.BigDecimal;
+import java.util.Optional;
 
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("DeleteProductUsecase")
@@ -18,6 +29,18 @@ class DeleteProductUsecaseTest {
     @Mock
     private DeleteProductGateway deleteProductGateway;
 
+    @Mock
+    private FindProductGateway findProductGateway;
+
+    @Mock
+    private ProductListingCache productListingCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductReadModel productReadModel;
+
     @InjectMocks
     private DeleteProductUsecase deleteProductUsecase;
 
@@ -46,4 +69,36 @@ class DeleteProductUsecaseTest {
         // then
         verify(deleteProductGateway).deleteById(999L);
     }
+
+    @Test
+    @DisplayName("given existing product when deleteById then should evict affected listing pages")
+    void givenExistingProduct_whenDeleteById_thenShouldEvictAffectedListingPages() {
+        // given
+        ProductSummary summary = new ProductSummary(1L, "Smartphone", new BigDecimal("999.99"), 10, Condition.NEW,
+                "Electronics", 1L, 3L);
+        when(findProductGateway.findSummaryById(1L)).thenReturn(Optional.of(summary));
+
+        // when
+        deleteProductUsecase.deleteById(1L);
+
+        // then
+        verify(deleteProductGateway).deleteById(1L);
+        verify(productListingCache).evictDeleted(summary);
+        verify(productSearchIndex).remove(1L, 3L);
+        verify(productReadModel).remove(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("given non-existent product when deleteById then should not touch listing cache")
+    void givenNonExistentProduct_whenDeleteById_thenShouldNotTouchListingCache() {
+        // given
+        when(findProductGateway.findSummaryById(999L)).thenReturn(Optional.empty());
+
+        // when
+        deleteProductUsecase.deleteById(999L);
+
+        // then
+        verify(deleteProductGateway).deleteById(999L);
+        verifyNoInteractions(productListingCache);
+    }
 }
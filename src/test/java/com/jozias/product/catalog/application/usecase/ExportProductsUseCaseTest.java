@@ -0,0 +1,50 @@
+package com.jozias.product.catalog.application.usecase;
+
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.gateway.ExportProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportProductsUseCase")
+class ExportProductsUseCaseTest {
+
+    @Mock
+    private ExportProductGateway exportProductGateway;
+
+    @Test
+    @DisplayName("given chunks from the gateway when execute then should forward them and count the products")
+    void givenChunksFromTheGateway_whenExecute_thenShouldForwardThemAndCountTheProducts() {
+        // given
+        ExportProductsUseCase exportProductsUseCase = new ExportProductsUseCase(exportProductGateway, 2);
+        List<Product> first = List.of(mock(Product.class), mock(Product.class));
+        List<Product> second = List.of(mock(Product.class));
+        doAnswer(invocation -> {
+            Consumer<List<Product>> consumer = invocation.getArgument(1);
+            consumer.accept(first);
+            consumer.accept(second);
+            return null;
+        }).when(exportProductGateway).exportAll(eq(2), any());
+        List<List<Product>> received = new ArrayList<>();
+
+        // when
+        long exported = exportProductsUseCase.execute(received::add);
+
+        // then
+        assertThat(exported).isEqualTo(3);
+        assertThat(received).containsExactly(first, second);
+    }
+}
@@ -0,0 +1,44 @@
+package com.jozias.product.catalog.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindProductFacetsUseCase")
+class FindProductFacetsUseCaseTest {
+
+    @Mock
+    private FindProductGateway findProductGateway;
+
+    @InjectMocks
+    private FindProductFacetsUseCase findProductFacetsUseCase;
+
+    @Test
+    @DisplayName("given filter when execute then should return gateway facets for that filter")
+    void givenFilter_whenExecute_thenShouldReturnGatewayFacetsForThatFilter() {
+        // given
+        ProductFilter filter = new ProductFilter("Electronics", null, null, null, null, false);
+        ProductFacets facets = ProductFacets.counter().add(Condition.NEW, "Electronics", 1L, 0, 3).build();
+        when(findProductGateway.facets(filter)).thenReturn(facets);
+
+        // when
+        ProductFacets result = findProductFacetsUseCase.execute(filter);
+
+        // then
+        assertThat(result).isSameAs(facets);
+        verify(findProductGateway).facets(filter);
+    }
+}
@@ -11,10 +11,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import com.jozias.product.catalog.domain.gateway.FindProductGateway;
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.entity.Seller;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
 
@@ -63,17 +67,18 @@ class FindProductUseCaseTest {
     void givenProductsExist_whenFindAll_thenShouldReturnPageOfProducts() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Product> expectedPage = new PageImpl<>(List.of(product), pageable, 1);
-        when(findProductGateway.list(pageable)).thenReturn(expectedPage);
+        ProductSummary summary = ProductSummary.from(product);
+        Page<ProductSummary> expectedPage = new PageImpl<>(List.of(summary), pageable, 1);
+        when(findProductGateway.listSummaries(ProductFilter.NONE, pageable)).thenReturn(expectedPage);
 
         // when
-        Page<Product> result = findProductUseCase.findAll(pageable);
+        Page<ProductSummary> result = findProductUseCase.findAll(ProductFilter.NONE, pageable);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0)).isEqualTo(product);
-        verify(findProductGateway).list(pageable);
+        assertThat(result.getContent().get(0)).isEqualTo(summary);
+        verify(findProductGateway).listSummaries(ProductFilter.NONE, pageable);
     }
 
     @Test
@@ -81,17 +86,33 @@ class FindProductUseCaseTest {
     void givenEmptyResult_whenFindAll_thenShouldReturnEmptyPage() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Product> emptyPage = new PageImpl<>(List.of(), pageable, 0);
-        when(findProductGateway.list(pageable)).thenReturn(emptyPage);
+        Page<ProductSummary> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        when(findProductGateway.listSummaries(ProductFilter.NONE, pageable)).thenReturn(emptyPage);
 
         // when
-        Page<Product> result = findProductUseCase.findAll(pageable);
+        Page<ProductSummary> result = findProductUseCase.findAll(ProductFilter.NONE, pageable);
 
         // then
         assertThat(result).isNotNull();
         assertThat(result.getContent()).isEmpty();
     }
 
+    @Test
+    @DisplayName("given products exist when findSlice then should return slice from gateway")
+    void givenProductsExist_whenFindSlice_thenShouldReturnSliceFromGateway() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<ProductSummary> expectedSlice = new SliceImpl<>(List.of(ProductSummary.from(product)), pageable, false);
+        when(findProductGateway.sliceSummaries(ProductFilter.NONE, pageable)).thenReturn(expectedSlice);
+
+        // when
+        Slice<ProductSummary> result = findProductUseCase.findSlice(ProductFilter.NONE, pageable);
+
+        // then
+        assertThat(result).isSameAs(expectedSlice);
+        verify(findProductGateway).sliceSummaries(ProductFilter.NONE, pageable);
+    }
+
     @Test
     @DisplayName("given existing id when findById then should return product")
     void givenExistingId_whenFindById_thenShouldReturnProduct() {
@@ -0,0 +1,109 @@
+package com.jozias.product.catalog.application.usecase;
+
+import com.jozias.product.catalog.application.cache.ProductDetailCache;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FindProductsByIdsUseCase")
+class FindProductsByIdsUseCaseTest {
+
+    @Mock
+    private FindProductGateway findProductGateway;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @InjectMocks
+    private FindProductsByIdsUseCase findProductsByIdsUseCase;
+
+    private Seller seller;
+
+    @BeforeEach
+    void setUp() {
+        seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+    }
+
+    @Test
+    @DisplayName("given cached and missing ids when execute then should load misses together and keep request order")
+    @SuppressWarnings("unchecked")
+    void givenCachedAndMissingIds_whenExecute_thenShouldLoadMissesTogetherAndKeepRequestOrder() {
+        // given
+        Product cached = product(3L);
+        Product loaded = product(1L);
+        when(findProductGateway.findAllByIds(Set.of(1L, 7L))).thenReturn(List.of(loaded));
+        when(productDetailCache.getAll(any(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            Function<Set<Long>, Map<Long, Product>> loader = invocation.getArgument(1);
+            assertThat(ids).containsExactly(3L, 1L, 7L);
+            Map<Long, Product> result = new HashMap<>(loader.apply(Set.of(1L, 7L)));
+            result.put(3L, cached);
+            return result;
+        });
+
+        // when
+        List<Product> result = findProductsByIdsUseCase.execute(Arrays.asList(3L, 1L, null, 7L, 3L));
+
+        // then
+        assertThat(result).containsExactly(cached, loaded);
+    }
+
+    @Test
+    @DisplayName("given too many ids when execute then should throw IllegalArgumentException")
+    void givenTooManyIds_whenExecute_thenShouldThrowIllegalArgumentException() {
+        // given
+        List<Long> ids = LongStream.rangeClosed(1, FindProductsByIdsUseCase.MAX_IDS + 1).boxed().toList();
+
+        // when / then
+        assertThatThrownBy(() -> findProductsByIdsUseCase.execute(ids))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(productDetailCache, findProductGateway);
+    }
+
+    @Test
+    @DisplayName("given no ids when execute then should return empty without touching the cache")
+    void givenNoIds_whenExecute_thenShouldReturnEmpty() {
+        assertThat(findProductsByIdsUseCase.execute(List.of())).isEmpty();
+        verifyNoInteractions(productDetailCache, findProductGateway);
+    }
+
+    private Product product(Long id) {
+        return new Product(
+                id,
+                "Smartphone " + id,
+                "A great smartphone with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(),
+                seller);
+    }
+}
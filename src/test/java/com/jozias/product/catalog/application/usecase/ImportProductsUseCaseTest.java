@@ -0,0 +1,136 @@
+package com.jozias.product.catalog.application.usecase;
+
+import com.jozias.product.catalog.application.dto.CreateProductDTO;
+import com.jozias.product.catalog.application.dto.ProductImportResult;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.gateway.FindSellerGateway;
+import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportProductsUseCase")
+class ImportProductsUseCaseTest {
+
+    @Mock
+    private SaveProductGateway saveProductGateway;
+
+    @Mock
+    private FindSellerGateway findSellerGateway;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductReadModel productReadModel;
+
+    @InjectMocks
+    private ImportProductsUseCase importProductsUseCase;
+
+    private Seller seller;
+
+    @BeforeEach
+    void setUp() {
+        seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+    }
+
+    @Test
+    @DisplayName("given a mixed chunk when execute then should resolve sellers once and keep results in order")
+    void givenAMixedChunk_whenExecute_thenShouldResolveSellersOnceAndKeepResultsInOrder() {
+        // given
+        List<CreateProductDTO> chunk = List.of(
+                dto(1L, "Smartphone"),
+                dto(7L, "Tablet"),
+                dto(1L, "No"),
+                dto(1L, "Notebook"));
+        when(findSellerGateway.findAllById(List.of(1L, 7L))).thenReturn(List.of(seller));
+        when(saveProductGateway.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            List<Product> saved = new ArrayList<>();
+            for (int i = 0; i < products.size(); i++) {
+                Product product = products.get(i);
+                saved.add(new Product((long) (100 + i), product.getName(), product.getDescription(),
+                        product.getPrice(), product.getAvailableQuantity(), product.getCondition(),
+                        product.getCategory(), product.getVariants(), product.getSeller()));
+            }
+            return saved;
+        });
+
+        // when
+        List<ProductImportResult> results = importProductsUseCase.execute(chunk);
+
+        // then
+        assertThat(results).hasSize(4);
+        assertThat(results.get(0)).isEqualTo(ProductImportResult.created(100L));
+        assertThat(results.get(1).error()).isEqualTo("Seller not found with id: 7");
+        assertThat(results.get(2).isCreated()).isFalse();
+        assertThat(results.get(2).error()).contains("name");
+        assertThat(results.get(3)).isEqualTo(ProductImportResult.created(101L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Product>> saved = ArgumentCaptor.forClass(List.class);
+        verify(saveProductGateway).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(Product::getName).containsExactly("Smartphone", "Notebook");
+        verify(findSellerGateway, never()).findById(any());
+
+        ArgumentCaptor<Product> indexed = ArgumentCaptor.forClass(Product.class);
+        verify(productSearchIndex, times(2)).index(indexed.capture());
+        assertThat(indexed.getAllValues()).extracting(Product::getId).containsExactly(100L, 101L);
+
+        ArgumentCaptor<ProductSummary> upserted = ArgumentCaptor.forClass(ProductSummary.class);
+        verify(productReadModel, times(2)).upsert(upserted.capture());
+        assertThat(upserted.getAllValues()).extracting(ProductSummary::id).containsExactly(100L, 101L);
+    }
+
+    @Test
+    @DisplayName("given a chunk with no valid product when execute then should not call saveAll")
+    void givenAChunkWithNoValidProduct_whenExecute_thenShouldNotCallSaveAll() {
+        // given
+        when(findSellerGateway.findAllById(List.of(7L))).thenReturn(List.of());
+
+        // when
+        List<ProductImportResult> results = importProductsUseCase.execute(List.of(dto(7L, "Smartphone")));
+
+        // then
+        assertThat(results).extracting(ProductImportResult::isCreated).containsExactly(false);
+        verify(saveProductGateway, never()).saveAll(anyList());
+        verifyNoInteractions(productSearchIndex, productReadModel);
+    }
+
+    private static CreateProductDTO dto(Long sellerId, String name) {
+        return new CreateProductDTO(
+                sellerId,
+                name,
+                "A great product with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>());
+    }
+}
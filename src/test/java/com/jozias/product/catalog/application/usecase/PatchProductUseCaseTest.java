@@ -0,0 +1,216 @@
+package com.jozias.product.catalog.application.usecase;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.application.dto.PatchProductDTO;
+import com.jozias.product.catalog.application.dto.ProductPatchResult;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductField;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.domain.exception.VersionMismatchException;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatchProductUseCase")
+class PatchProductUseCaseTest {
+
+    @Mock
+    private SaveProductGateway saveProductGateway;
+
+    @Mock
+    private FindProductGateway findProductGateway;
+
+    @Mock
+    private ProductListingCache productListingCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductReadModel productReadModel;
+
+    @InjectMocks
+    private PatchProductUseCase patchProductUseCase;
+
+    private Product existingProduct;
+
+    @BeforeEach
+    void setUp() {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+
+        existingProduct = new Product(
+                1L,
+                "Smartphone",
+                "A great smartphone with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(List.of(new ProductVariant(7L, "Color", new ArrayList<>()))),
+                seller);
+    }
+
+    @Test
+    @DisplayName("given patch with some fields when execute then should change only those fields")
+    void givenPatchWithSomeFields_whenExecute_thenShouldChangeOnlyThoseFields() {
+        // given
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct));
+        when(saveProductGateway.saveChanges(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PatchProductDTO dto = new PatchProductDTO(1L, null, null, new BigDecimal("899.99"), 3, null, null, null, null);
+
+        // when
+        ProductPatchResult result = patchProductUseCase.execute(dto);
+
+        // then
+        assertThat(result.changed()).isTrue();
+        assertThat(result.changedFields()).containsExactlyInAnyOrder(ProductField.PRICE, ProductField.AVAILABLE_QUANTITY);
+        assertThat(result.product().getName()).isEqualTo("Smartphone");
+        assertThat(result.product().getPrice()).isEqualByComparingTo("899.99");
+        assertThat(result.product().getVariants()).hasSize(1);
+        verify(saveProductGateway).saveChanges(existingProduct);
+    }
+
+    @Test
+    @DisplayName("given patch with the stored values when execute then should not save nor evict")
+    void givenPatchWithTheStoredValues_whenExecute_thenShouldNotSaveNorEvict() {
+        // given
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct));
+        PatchProductDTO dto = new PatchProductDTO(
+                1L, "Smartphone", null, new BigDecimal("999.990"), 10, Condition.NEW, null,
+                List.of(new ProductVariant(7L, "Color", List.of())), null);
+
+        // when
+        ProductPatchResult result = patchProductUseCase.execute(dto);
+
+        // then
+        assertThat(result.changed()).isFalse();
+        assertThat(result.product()).isSameAs(existingProduct);
+        verify(saveProductGateway, never()).saveChanges(any(Product.class));
+        verifyNoInteractions(productListingCache, productSearchIndex, productReadModel);
+    }
+
+    @Test
+    @DisplayName("given patch when execute then should evict listing pages using previous and new state")
+    void givenPatch_whenExecute_thenShouldEvictListingPagesUsingPreviousAndNewState() {
+        // given
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct));
+        when(saveProductGateway.saveChanges(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PatchProductDTO dto = new PatchProductDTO(1L, "Smartphone X", null, null, null, null, null, null, null);
+
+        // when
+        patchProductUseCase.execute(dto);
+
+        // then
+        verify(productListingCache).evictUpdated(
+                new ProductSummary(1L, "Smartphone", new BigDecimal("999.99"), 10, Condition.NEW, "Electronics", 1L, null),
+                new ProductSummary(1L, "Smartphone X", new BigDecimal("999.99"), 10, Condition.NEW, "Electronics", 1L, null));
+        verify(productSearchIndex).index(existingProduct);
+        verify(productReadModel).upsert(
+                new ProductSummary(1L, "Smartphone X", new BigDecimal("999.99"), 10, Condition.NEW, "Electronics", 1L, null));
+    }
+
+    @Test
+    @DisplayName("given patch of price only when execute then should not reindex the product")
+    void givenPatchOfPriceOnly_whenExecute_thenShouldNotReindexTheProduct() {
+        // given
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct));
+        when(saveProductGateway.saveChanges(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PatchProductDTO dto = new PatchProductDTO(1L, null, null, new BigDecimal("899.99"), null, null, null, null,
+                null);
+
+        // when
+        ProductPatchResult result = patchProductUseCase.execute(dto);
+
+        // then
+        assertThat(result.changed()).isTrue();
+        verifyNoInteractions(productSearchIndex);
+    }
+
+    @Test
+    @DisplayName("given patch removing variants when execute then should report the variant change")
+    void givenPatchRemovingVariants_whenExecute_thenShouldReportTheVariantChange() {
+        // given
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct));
+        when(saveProductGateway.saveChanges(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        PatchProductDTO dto = new PatchProductDTO(1L, null, null, null, null, null, null, List.of(), null);
+
+        // when
+        ProductPatchResult result = patchProductUseCase.execute(dto);
+
+        // then
+        assertThat(result.changedFields()).containsExactly(ProductField.VARIANTS);
+        assertThat(result.product().getVariants()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("given matching expected version when execute then should apply the patch")
+    void givenMatchingExpectedVersion_whenExecute_thenShouldApplyThePatch() {
+        // given
+        Product stored = existingProduct.withVersion(3L);
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(stored));
+        when(saveProductGateway.saveChanges(any(Product.class)))
+                .thenAnswer(invocation -> invocation.<Product>getArgument(0).withVersion(4L));
+        PatchProductDTO dto = new PatchProductDTO(1L, "Smartphone X", null, null, null, null, null, null, 3L);
+
+        // when
+        ProductPatchResult result = patchProductUseCase.execute(dto);
+
+        // then
+        assertThat(result.product().getVersion()).isEqualTo(4L);
+        assertThat(result.product().getName()).isEqualTo("Smartphone X");
+    }
+
+    @Test
+    @DisplayName("given stale expected version when execute then should throw VersionMismatchException without saving")
+    void givenStaleExpectedVersion_whenExecute_thenShouldThrowVersionMismatchExceptionWithoutSaving() {
+        // given
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct.withVersion(3L)));
+        PatchProductDTO dto = new PatchProductDTO(1L, "Smartphone X", null, null, null, null, null, null, 2L);
+
+        // when & then
+        assertThatThrownBy(() -> patchProductUseCase.execute(dto))
+                .isInstanceOf(VersionMismatchException.class);
+        verifyNoInteractions(saveProductGateway, productListingCache, productSearchIndex);
+    }
+
+    @Test
+    @DisplayName("given non-existent product when execute then should throw EntityNotFoundException")
+    void givenNonExistentProduct_whenExecute_thenShouldThrowEntityNotFoundException() {
+        // given
+        when(findProductGateway.findById(99L)).thenReturn(Optional.empty());
+        PatchProductDTO dto = new PatchProductDTO(99L, "Name", null, null, null, null, null, null, null);
+
+        // when & then
+        assertThatThrownBy(() -> patchProductUseCase.execute(dto))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("99");
+    }
+}
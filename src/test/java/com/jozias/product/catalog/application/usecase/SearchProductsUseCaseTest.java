@@ -0,0 +1,60 @@
+package com.jozias.product.catalog.application.usecase;
+
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchProductsUseCase")
+class SearchProductsUseCaseTest {
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @InjectMocks
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @Test
+    @DisplayName("given a query when execute then should return the ranked ids from the index")
+    void givenQuery_whenExecute_thenShouldReturnRankedIdsFromTheIndex() {
+        // given
+        when(productSearchIndex.search("smartphone", 20)).thenReturn(List.of(3L, 1L));
+
+        // when
+        List<Long> result = searchProductsUseCase.execute("smartphone", 20);
+
+        // then
+        assertThat(result).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("given a blank query when execute then should throw IllegalArgumentException")
+    void givenBlankQuery_whenExecute_thenShouldThrowIllegalArgumentException() {
+        // when & then
+        assertThatThrownBy(() -> searchProductsUseCase.execute("  ", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Search query cannot be blank");
+        verifyNoInteractions(productSearchIndex);
+    }
+
+    @Test
+    @DisplayName("given a size above the maximum when execute then should throw IllegalArgumentException")
+    void givenSizeAboveMaximum_whenExecute_thenShouldThrowIllegalArgumentException() {
+        // when & then
+        assertThatThrownBy(() -> searchProductsUseCase.execute("smartphone", SearchProductsUseCase.MAX_RESULTS + 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Search size must be between 1 and 100");
+        verifyNoInteractions(productSearchIndex);
+    }
+}
@@ -8,13 +8,18 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
 import com.jozias.product.catalog.application.dto.UpdateProductDTO;
 import com.jozias.product.catalog.domain.gateway.FindProductGateway;
 import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.entity.Seller;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.domain.exception.VersionMismatchException;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -24,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +42,15 @@ class UpdateProductUseCaseTest {
     @Mock
     private FindProductGateway findProductGateway;
 
+    @Mock
+    private ProductListingCache productListingCache;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductReadModel productReadModel;
+
     @InjectMocks
     private UpdateProductUseCase updateProductUseCase;
 
@@ -67,7 +82,8 @@ class UpdateProductUseCaseTest {
                 5,
                 Condition.REFURBISHED,
                 "Mobile Devices",
-                new ArrayList<>());
+                new ArrayList<>(),
+                null);
     }
 
     @Test
@@ -90,6 +106,24 @@ class UpdateProductUseCaseTest {
         verify(saveProductGateway).save(any(Product.class));
     }
 
+    @Test
+    @DisplayName("given valid DTO when execute then should evict listing pages using previous and new state")
+    void givenValidDto_whenExecute_thenShouldEvictListingPagesUsingPreviousAndNewState() {
+        // given
+        ProductSummary before = ProductSummary.from(existingProduct);
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct));
+        when(saveProductGateway.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        Product result = updateProductUseCase.execute(updateDto);
+
+        // then
+        verify(productListingCache).evictUpdated(before, ProductSummary.from(result));
+        verify(productSearchIndex).index(result);
+        verify(productReadModel).upsert(ProductSummary.from(result));
+        assertThat(before.price()).isEqualByComparingTo(new BigDecimal("999.99"));
+    }
+
     @Test
     @DisplayName("given non-existent product when execute then should throw EntityNotFoundException")
     void givenNonExistentProduct_whenExecute_thenShouldThrowEntityNotFoundException() {
@@ -104,6 +138,21 @@ class UpdateProductUseCaseTest {
         verify(findProductGateway).findById(1L);
     }
 
+    @Test
+    @DisplayName("given stale expected version when execute then should throw VersionMismatchException without saving")
+    void givenStaleExpectedVersion_whenExecute_thenShouldThrowVersionMismatchExceptionWithoutSaving() {
+        // given
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(existingProduct.withVersion(3L)));
+        UpdateProductDTO staleDto = new UpdateProductDTO(1L, updateDto.name(), updateDto.description(),
+                updateDto.price(), updateDto.availableQuantity(), updateDto.condition(), updateDto.category(),
+                updateDto.variants(), 2L);
+
+        // when & then
+        assertThatThrownBy(() -> updateProductUseCase.execute(staleDto))
+                .isInstanceOf(VersionMismatchException.class);
+        verifyNoInteractions(saveProductGateway, productListingCache, productSearchIndex, productReadModel);
+    }
+
     @Test
     @DisplayName("given DTO with variants when execute then should update variants")
     void givenDtoWithVariants_whenExecute_thenShouldUpdateVariants() {
@@ -0,0 +1,99 @@
+package com.jozias.product.catalog.application.usecase;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jozias.product.catalog.application.cache.ProductDetailCache;
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.dto.StockUpdateMode;
+import com.jozias.product.catalog.application.dto.UpdateStockDTO;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import com.jozias.product.catalog.domain.exception.InsufficientStockException;
+import com.jozias.product.catalog.domain.gateway.ProductStockGateway;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateStockUseCase")
+class UpdateStockUseCaseTest {
+
+    @Mock
+    private ProductStockGateway productStockGateway;
+
+    @Mock
+    private ProductDetailCache productDetailCache;
+
+    @Mock
+    private ProductListingCache productListingCache;
+
+    @Mock
+    private ProductReadModel productReadModel;
+
+    @InjectMocks
+    private UpdateStockUseCase updateStockUseCase;
+
+    @Test
+    @DisplayName("given absolute quantity when execute then should set it and patch both caches")
+    void givenAbsoluteQuantity_whenExecute_thenShouldSetItAndPatchBothCaches() {
+        // given
+        StockLevel stockLevel = new StockLevel(25, 4L);
+        when(productStockGateway.setAvailableQuantity(1L, 25)).thenReturn(stockLevel);
+
+        // when
+        StockLevel result = updateStockUseCase.execute(new UpdateStockDTO(1L, StockUpdateMode.ABSOLUTE, 25));
+
+        // then
+        assertThat(result).isEqualTo(stockLevel);
+        verify(productDetailCache).patchStockLevel(1L, stockLevel);
+        verify(productListingCache).patchStockLevel(1L, stockLevel);
+        verify(productReadModel).updateStockLevel(1L, stockLevel);
+    }
+
+    @Test
+    @DisplayName("given delta when execute then should adjust it and patch caches with the new stock level")
+    void givenDelta_whenExecute_thenShouldAdjustItAndPatchCachesWithTheNewStockLevel() {
+        // given
+        StockLevel stockLevel = new StockLevel(7, 5L);
+        when(productStockGateway.adjustAvailableQuantity(1L, -3)).thenReturn(stockLevel);
+
+        // when
+        StockLevel result = updateStockUseCase.execute(new UpdateStockDTO(1L, StockUpdateMode.DELTA, -3));
+
+        // then
+        assertThat(result).isEqualTo(stockLevel);
+        verify(productDetailCache).patchStockLevel(1L, stockLevel);
+        verify(productListingCache).patchStockLevel(1L, stockLevel);
+    }
+
+    @Test
+    @DisplayName("given negative absolute quantity when execute then should throw without touching the database")
+    void givenNegativeAbsoluteQuantity_whenExecute_thenShouldThrowWithoutTouchingTheDatabase() {
+        // when / then
+        assertThatThrownBy(() -> updateStockUseCase.execute(new UpdateStockDTO(1L, StockUpdateMode.ABSOLUTE, -1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Available quantity cannot be negative");
+        verifyNoInteractions(productStockGateway, productDetailCache, productListingCache);
+    }
+
+    @Test
+    @DisplayName("given insufficient stock when execute then should propagate and leave caches untouched")
+    void givenInsufficientStock_whenExecute_thenShouldPropagateAndLeaveCachesUntouched() {
+        // given
+        when(productStockGateway.adjustAvailableQuantity(1L, -20))
+                .thenThrow(new InsufficientStockException("Insufficient stock"));
+
+        // when / then
+        assertThatThrownBy(() -> updateStockUseCase.execute(new UpdateStockDTO(1L, StockUpdateMode.DELTA, -20)))
+                .isInstanceOf(InsufficientStockException.class);
+        verifyNoInteractions(productDetailCache, productListingCache, productReadModel);
+    }
+}
@@ -0,0 +1,47 @@
+package com.jozias.product.catalog.domain.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductFacets")
+class ProductFacetsTest {
+
+    @Test
+    @DisplayName("given price on a bound when priceRangeOf then should fall in the range starting at that bound")
+    void givenPriceOnABound_whenPriceRangeOf_thenShouldFallInTheRangeStartingAtThatBound() {
+        // when / then
+        assertThat(ProductFacets.priceRangeOf(BigDecimal.ZERO)).isZero();
+        assertThat(ProductFacets.priceRangeOf(new BigDecimal("49.99"))).isZero();
+        assertThat(ProductFacets.priceRangeOf(new BigDecimal("50.00"))).isEqualTo(1);
+        assertThat(ProductFacets.priceRangeOf(new BigDecimal("999.99"))).isEqualTo(4);
+        assertThat(ProductFacets.priceRangeOf(new BigDecimal("1000"))).isEqualTo(ProductFacets.PRICE_BOUNDS.size());
+    }
+
+    @Test
+    @DisplayName("given rows grouped by every facet when counted then should roll up one count per facet value")
+    void givenRowsGroupedByEveryFacet_whenCounted_thenShouldRollUpOneCountPerFacetValue() {
+        // when
+        ProductFacets facets = ProductFacets.counter()
+                .add(Condition.NEW, "Electronics", 1L, 0, 3)
+                .add(Condition.USED, "Electronics", 2L, 0, 2)
+                .add(Condition.NEW, "Books", 1L, 5, 4)
+                .build();
+
+        // then
+        assertThat(facets.conditions()).containsExactly(
+                Map.entry(Condition.NEW, 7L), Map.entry(Condition.USED, 2L));
+        assertThat(facets.categories()).containsEntry("Electronics", 5L).containsEntry("Books", 4L);
+        assertThat(facets.sellers()).containsEntry(1L, 7L).containsEntry(2L, 2L);
+        assertThat(facets.priceRanges()).hasSize(ProductFacets.PRICE_BOUNDS.size() + 1);
+        assertThat(facets.priceRanges().get(0).count()).isEqualTo(5L);
+        assertThat(facets.priceRanges().get(0).min()).isEqualByComparingTo("0");
+        assertThat(facets.priceRanges().get(5).count()).isEqualTo(4L);
+        assertThat(facets.priceRanges().get(5).max()).isNull();
+        assertThat(facets.priceRanges().get(2).count()).isZero();
+    }
+}
@@ -0,0 +1,77 @@
+package com.jozias.product.catalog.domain.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductFilter")
+class ProductFilterTest {
+
+    private static final ProductSummary PHONE = new ProductSummary(
+            1L, "Smartphone", new BigDecimal("1500.00"), 3, Condition.NEW, "Electronics", 7L, null);
+
+    @Test
+    @DisplayName("given no criteria when matches then should match every product")
+    void givenNoCriteria_whenMatches_thenShouldMatchEveryProduct() {
+        // when / then
+        assertThat(ProductFilter.NONE.isEmpty()).isTrue();
+        assertThat(ProductFilter.NONE.matches(PHONE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("given all criteria when matches then should require every one of them")
+    void givenAllCriteria_whenMatches_thenShouldRequireEveryOneOfThem() {
+        // given
+        ProductFilter filter = new ProductFilter("Electronics", Condition.NEW,
+                new BigDecimal("1000"), new BigDecimal("1500"), 7L, true);
+
+        // when / then
+        assertThat(filter.isEmpty()).isFalse();
+        assertThat(filter.matches(PHONE)).isTrue();
+        assertThat(filter.matches(new ProductSummary(1L, "Smartphone", new BigDecimal("1500.01"), 3,
+                Condition.NEW, "Electronics", 7L, null))).isFalse();
+        assertThat(filter.matches(new ProductSummary(1L, "Smartphone", new BigDecimal("1500.00"), 0,
+                Condition.NEW, "Electronics", 7L, null))).isFalse();
+        assertThat(filter.matches(new ProductSummary(1L, "Smartphone", new BigDecimal("1500.00"), 3,
+                Condition.USED, "Electronics", 7L, null))).isFalse();
+        assertThat(filter.matches(new ProductSummary(1L, "Smartphone", new BigDecimal("1500.00"), 3,
+                Condition.NEW, "Electronics", 8L, null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("given prices with different scales when compared then should be equal filters")
+    void givenPricesWithDifferentScales_whenCompared_thenShouldBeEqualFilters() {
+        // given
+        ProductFilter ten = new ProductFilter(null, null, new BigDecimal("10"), null, null, false);
+        ProductFilter tenWithCents = new ProductFilter(null, null, new BigDecimal("10.00"), null, null, false);
+
+        // when / then
+        assertThat(ten).isEqualTo(tenWithCents);
+        assertThat(ten.hashCode()).isEqualTo(tenWithCents.hashCode());
+    }
+
+    @Test
+    @DisplayName("given negative price when created then should throw exception")
+    void givenNegativePrice_whenCreated_thenShouldThrowException() {
+        // when / then
+        assertThatThrownBy(() -> new ProductFilter(null, null, new BigDecimal("-1"), null, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Minimum price cannot be negative");
+        assertThatThrownBy(() -> new ProductFilter(null, null, null, new BigDecimal("-1"), null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Maximum price cannot be negative");
+    }
+
+    @Test
+    @DisplayName("given minimum above maximum when created then should throw exception")
+    void givenMinimumAboveMaximum_whenCreated_thenShouldThrowException() {
+        // when / then
+        assertThatThrownBy(() -> new ProductFilter(null, null, BigDecimal.TEN, BigDecimal.ONE, null, false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Minimum price cannot be greater than maximum price");
+    }
+}
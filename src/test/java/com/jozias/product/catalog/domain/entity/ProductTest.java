@@ -7,9 +7,12 @@ import org.junit.jupiter.api.Test;
 
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductField;
 import com.jozias.product.catalog.domain.entity.ProductVariant;
 import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.entity.StockLevel;
 import com.jozias.product.catalog.domain.exception.ProductInstanceInvalidException;
+import com.jozias.product.catalog.domain.exception.VersionMismatchException;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -219,6 +222,112 @@ class ProductTest {
         }
     }
 
+    @Nested
+    @DisplayName("Rehydration")
+    class Rehydrate {
+
+        @Test
+        @DisplayName("given persisted state when rehydrate then should build the product without validating")
+        void givenPersistedState_whenRehydrate_thenShouldBuildTheProductWithoutValidating() {
+            // when
+            Product product = Product.rehydrate()
+                    .id(7L)
+                    .name("TV")
+                    .description("Short")
+                    .price(new BigDecimal("10.00"))
+                    .availableQuantity(1)
+                    .condition(Condition.USED)
+                    .category("AV")
+                    .seller(validSeller)
+                    .build();
+
+            // then
+            assertThat(product.getId()).isEqualTo(7L);
+            assertThat(product.getName()).isEqualTo("TV");
+            assertThat(product.getDescription()).isEqualTo("Short");
+            assertThat(product.getCategory()).isEqualTo("AV");
+            assertThat(product.getSeller()).isSameAs(validSeller);
+            assertThat(product.getVariants()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given rehydrated product when update with invalid data then should still validate")
+        void givenRehydratedProduct_whenUpdateWithInvalidData_thenShouldStillValidate() {
+            // given
+            Product product = Product.rehydrate()
+                    .id(7L)
+                    .name("TV")
+                    .seller(validSeller)
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> product.update(
+                    "TV",
+                    "A television with a short name",
+                    new BigDecimal("10.00"),
+                    1,
+                    Condition.USED,
+                    "Electronics"))
+                    .isInstanceOf(ProductInstanceInvalidException.class)
+                    .hasMessageContaining("name");
+        }
+
+        @Test
+        @DisplayName("given product when withStockLevel then should return a copy with only the stock level changed")
+        void givenProduct_whenWithStockLevel_thenShouldReturnACopyWithOnlyTheStockLevelChanged() {
+            // given
+            Product product = createValidProduct().withVersion(4L);
+
+            // when
+            Product copy = product.withStockLevel(new StockLevel(3, 5L));
+
+            // then
+            assertThat(copy).isNotSameAs(product);
+            assertThat(copy.getAvailableQuantity()).isEqualTo(3);
+            assertThat(copy.getVersion()).isEqualTo(5L);
+            assertThat(product.getAvailableQuantity()).isEqualTo(10);
+            assertThat(product.getVersion()).isEqualTo(4L);
+            assertThat(copy.getName()).isEqualTo(product.getName());
+            assertThat(copy.getPrice()).isEqualTo(product.getPrice());
+            assertThat(copy.getSeller()).isSameAs(validSeller);
+            assertThat(copy.hasChanges()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Versioning")
+    class Versioning {
+
+        @Test
+        @DisplayName("given new product when getVersion then should be null until saved")
+        void givenNewProduct_whenGetVersion_thenShouldBeNullUntilSaved() {
+            assertThat(createValidProduct().getVersion()).isNull();
+        }
+
+        @Test
+        @DisplayName("given loaded version when requireVersion with same or no version then should pass")
+        void givenLoadedVersion_whenRequireVersionWithSameOrNoVersion_thenShouldPass() {
+            // given
+            Product product = createValidProduct().withVersion(3L);
+
+            // when & then
+            product.requireVersion(3L);
+            product.requireVersion(null);
+        }
+
+        @Test
+        @DisplayName("given loaded version when requireVersion with another version then should throw")
+        void givenLoadedVersion_whenRequireVersionWithAnotherVersion_thenShouldThrow() {
+            // given
+            Product product = createValidProduct().withVersion(3L);
+
+            // when & then
+            assertThatThrownBy(() -> product.requireVersion(2L))
+                    .isInstanceOf(VersionMismatchException.class)
+                    .hasMessage("Product 1 is at version 3, not 2");
+        }
+    }
+
     @Nested
     @DisplayName("Update")
     class Update {
@@ -266,6 +375,75 @@ class ProductTest {
         }
     }
 
+    @Nested
+    @DisplayName("Change tracking")
+    class ChangeTracking {
+
+        @Test
+        @DisplayName("given the current values when update then should not report changes")
+        void givenTheCurrentValues_whenUpdate_thenShouldNotReportChanges() {
+            // given
+            Product product = createValidProduct();
+
+            // when
+            product.update(
+                    "Smartphone",
+                    "A great smartphone with amazing features",
+                    new BigDecimal("999.990"),
+                    10,
+                    Condition.NEW,
+                    "Electronics");
+
+            // then
+            assertThat(product.hasChanges()).isFalse();
+            assertThat(product.getChangedFields()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("given some fields when patch then should change and report only those fields")
+        void givenSomeFields_whenPatch_thenShouldChangeAndReportOnlyThoseFields() {
+            // given
+            Product product = createValidProduct();
+
+            // when
+            product.patch(null, null, new BigDecimal("899.99"), null, Condition.USED, null);
+
+            // then
+            assertThat(product.getChangedFields()).containsExactlyInAnyOrder(ProductField.PRICE, ProductField.CONDITION);
+            assertThat(product.getName()).isEqualTo("Smartphone");
+            assertThat(product.getPrice()).isEqualByComparingTo(new BigDecimal("899.99"));
+            assertThat(product.getCondition()).isEqualTo(Condition.USED);
+        }
+
+        @Test
+        @DisplayName("given the same variants when updateVariants then should not report a variant change")
+        void givenTheSameVariants_whenUpdateVariants_thenShouldNotReportAVariantChange() {
+            // given
+            Product product = createValidProduct();
+            product.addVariant(new ProductVariant(1L, "Color", new ArrayList<>()));
+
+            // when
+            product.updateVariants(List.of(new ProductVariant(1L, "Color", List.of())));
+
+            // then
+            assertThat(product.hasChanges()).isFalse();
+        }
+
+        @Test
+        @DisplayName("given a renamed variant when updateVariants then should report a variant change")
+        void givenARenamedVariant_whenUpdateVariants_thenShouldReportAVariantChange() {
+            // given
+            Product product = createValidProduct();
+            product.addVariant(new ProductVariant(1L, "Color", new ArrayList<>()));
+
+            // when
+            product.updateVariants(List.of(new ProductVariant(1L, "Colour", List.of())));
+
+            // then
+            assertThat(product.getChangedFields()).containsExactly(ProductField.VARIANTS);
+        }
+    }
+
     @Nested
     @DisplayName("Variant Management")
     class VariantManagement {
@@ -0,0 +1,230 @@
+package com.jozias.product.catalog.domain.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Randomized equivalence of the hash-indexed merges in {@link Product#updateVariants}
+ * and {@link ProductVariant#update} against the former list-based algorithm, kept
+ * below as the oracle. Every seed builds the same inputs twice, once for each side.
+ */
+@DisplayName("Variant merge")
+class VariantMergeTest {
+
+    private static final int SEEDS = 500;
+
+    @Test
+    @DisplayName("given random value grids when update then should match the list-based merge")
+    void givenRandomValueGrids_whenUpdate_thenShouldMatchTheListBasedMerge() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            // given
+            Generator expectedInputs = new Generator(seed);
+            ProductVariant expected = expectedInputs.variant(1L);
+            List<ProductVariantValue> expectedIncoming = expectedInputs.incomingValues(expected.getValues());
+            Generator actualInputs = new Generator(seed);
+            ProductVariant actual = actualInputs.variant(1L);
+            List<ProductVariantValue> actualIncoming = actualInputs.incomingValues(actual.getValues());
+            if (!completes(() -> legacyUpdateValues(expected.getValues(), expectedIncoming))) {
+                continue;
+            }
+
+            // when
+            actual.update("Updated", actualIncoming);
+
+            // then
+            assertThat(snapshot(actual.getValues())).as("seed %d", seed).isEqualTo(snapshot(expected.getValues()));
+        }
+    }
+
+    @Test
+    @DisplayName("given random variant lists when updateVariants then should match the list-based merge")
+    void givenRandomVariantLists_whenUpdateVariants_thenShouldMatchTheListBasedMerge() {
+        for (long seed = 0; seed < SEEDS; seed++) {
+            // given
+            Generator expectedInputs = new Generator(seed);
+            Product expected = expectedInputs.product();
+            List<ProductVariant> expectedIncoming = expectedInputs.incomingVariants(expected.getVariants());
+            Generator actualInputs = new Generator(seed);
+            Product actual = actualInputs.product();
+            List<ProductVariant> actualIncoming = actualInputs.incomingVariants(actual.getVariants());
+            if (!completes(() -> legacyUpdateVariants(expected.getVariants(), expectedIncoming))) {
+                continue;
+            }
+
+            // when
+            actual.updateVariants(actualIncoming);
+
+            // then
+            assertThat(actual.getVariants()).as("seed %d", seed).hasSameSizeAs(expected.getVariants());
+            for (int i = 0; i < expected.getVariants().size(); i++) {
+                ProductVariant expectedVariant = expected.getVariants().get(i);
+                ProductVariant actualVariant = actual.getVariants().get(i);
+                assertThat(actualVariant.getId()).as("seed %d", seed).isEqualTo(expectedVariant.getId());
+                assertThat(actualVariant.getType()).as("seed %d", seed).isEqualTo(expectedVariant.getType());
+                assertThat(snapshot(actualVariant.getValues())).as("seed %d", seed)
+                        .isEqualTo(snapshot(expectedVariant.getValues()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("given an unknown id after a new variant when updateVariants then should ignore it")
+    void givenAnUnknownIdAfterANewVariant_whenUpdateVariants_thenShouldIgnoreIt() {
+        // given
+        Product product = new Generator(1).product();
+        product.getVariants().clear();
+        product.addVariant(new ProductVariant(100L, "Stored", new ArrayList<>()));
+        List<ProductVariant> incoming = List.of(
+                new ProductVariant(100L, "Kept", new ArrayList<>()),
+                new ProductVariant(null, "New", new ArrayList<>()),
+                new ProductVariant(-1L, "Unknown", new ArrayList<>()));
+
+        // when
+        product.updateVariants(incoming);
+
+        // then
+        assertThat(product.getVariants()).extracting(ProductVariant::getType).containsExactly("Kept", "New");
+    }
+
+    // The former list-based merges fail on an unknown id once a new entry was appended
+    private static boolean completes(Runnable merge) {
+        try {
+            merge.run();
+            return true;
+        } catch (NullPointerException e) {
+            return false;
+        }
+    }
+
+    // The former Product.updateVariants
+    private static void legacyUpdateVariants(List<ProductVariant> variants, List<ProductVariant> incomingVariants) {
+        List<Long> incomingIds = incomingVariants.stream()
+                .map(ProductVariant::getId)
+                .filter(id -> id != null)
+                .toList();
+        variants.removeIf(existing -> existing.getId() != null && !incomingIds.contains(existing.getId()));
+        for (ProductVariant incoming : incomingVariants) {
+            if (incoming.getId() == null) {
+                variants.add(incoming);
+            } else {
+                variants.stream()
+                        .filter(existing -> existing.getId().equals(incoming.getId()))
+                        .findFirst()
+                        .ifPresent(existing -> {
+                            existing.setType(incoming.getType());
+                            if (incoming.getValues() == null || incoming.getValues().isEmpty()) {
+                                existing.getValues().clear();
+                            } else {
+                                legacyUpdateValues(existing.getValues(), incoming.getValues());
+                            }
+                        });
+            }
+        }
+    }
+
+    // The former ProductVariant.updateValues
+    private static void legacyUpdateValues(List<ProductVariantValue> values, List<ProductVariantValue> incomingValues) {
+        List<Long> incomingIds = incomingValues.stream()
+                .map(ProductVariantValue::getId)
+                .filter(id -> id != null)
+                .toList();
+        values.removeIf(existing -> existing.getId() != null && !incomingIds.contains(existing.getId()));
+        for (ProductVariantValue incoming : incomingValues) {
+            if (incoming.getId() == null) {
+                values.add(incoming);
+            } else {
+                values.stream().filter(existing -> existing.getId().equals(incoming.getId())).findFirst()
+                        .ifPresent(existing -> existing.update(incoming.getValue()));
+            }
+        }
+    }
+
+    private static List<String> snapshot(List<ProductVariantValue> values) {
+        return values.stream().map(value -> value.getId() + "=" + value.getValue()).toList();
+    }
+
+    /**
+     * Deterministic inputs for a seed: stored grids with unique ids, and requests that
+     * keep, drop, repeat and reorder them, add new entries and reference unknown ids.
+     */
+    private static final class Generator {
+
+        private final Random random;
+
+        Generator(long seed) {
+            this.random = new Random(seed);
+        }
+
+        Product product() {
+            Seller seller = new Seller("Tech Store", "Best tech products", 95);
+            seller.setId(1L);
+            List<ProductVariant> variants = new ArrayList<>();
+            int count = random.nextInt(8);
+            for (int i = 0; i < count; i++) {
+                variants.add(variant(100L + i));
+            }
+            return new Product(1L, "Smartphone", "A great smartphone with amazing features",
+                    new BigDecimal("999.99"), 10, Condition.NEW, "Electronics", variants, seller);
+        }
+
+        ProductVariant variant(Long id) {
+            List<ProductVariantValue> values = new ArrayList<>();
+            int count = random.nextInt(40);
+            for (int i = 0; i < count; i++) {
+                values.add(new ProductVariantValue(id * 1000 + i, "Value " + i));
+            }
+            return new ProductVariant(id, "Type " + id, values);
+        }
+
+        List<ProductVariant> incomingVariants(List<ProductVariant> stored) {
+            List<ProductVariant> incoming = new ArrayList<>();
+            for (ProductVariant variant : stored) {
+                if (random.nextInt(4) > 0) {
+                    incoming.add(new ProductVariant(variant.getId(), "Changed " + variant.getId(),
+                            incomingValues(variant.getValues())));
+                }
+            }
+            for (int i = random.nextInt(3); i > 0; i--) {
+                incoming.add(new ProductVariant(null, "New " + i, new ArrayList<>()));
+            }
+            if (random.nextInt(5) == 0) {
+                incoming.add(new ProductVariant(9_999L, "Unknown", new ArrayList<>()));
+            }
+            if (!incoming.isEmpty() && random.nextInt(5) == 0) {
+                ProductVariant repeated = incoming.get(random.nextInt(incoming.size()));
+                incoming.add(new ProductVariant(repeated.getId(), "Repeated", new ArrayList<>()));
+            }
+            Collections.shuffle(incoming, random);
+            return incoming;
+        }
+
+        List<ProductVariantValue> incomingValues(List<ProductVariantValue> stored) {
+            List<ProductVariantValue> incoming = new ArrayList<>();
+            for (ProductVariantValue value : stored) {
+                if (random.nextInt(4) > 0) {
+                    incoming.add(new ProductVariantValue(value.getId(), value.getValue() + "'"));
+                }
+            }
+            for (int i = random.nextInt(4); i > 0; i--) {
+                incoming.add(new ProductVariantValue("New " + i));
+            }
+            if (random.nextInt(5) == 0) {
+                incoming.add(new ProductVariantValue(-1L, "Unknown"));
+            }
+            if (!incoming.isEmpty() && random.nextInt(5) == 0) {
+                ProductVariantValue repeated = incoming.get(random.nextInt(incoming.size()));
+                incoming.add(new ProductVariantValue(repeated.getId(), "Repeated"));
+            }
+            Collections.shuffle(incoming, random);
+            return incoming;
+        }
+    }
+}
@@ -4,11 +4,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import com.jozias.product.catalog.domain.util.StringUtils;
 
+import java.util.stream.Stream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DisplayName("StringUtils")
@@ -136,4 +140,59 @@ class StringUtilsTest {
             assertThat(result).isFalse();
         }
     }
+
+    static Stream<Arguments> whitespaceAndControlCharacters() {
+        return Stream.of(
+                Arguments.of(" a\tb\nc ", 3, true),
+                Arguments.of("a\u000Bb\fc\r", 3, true),
+                Arguments.of("\0abc\u001F", 3, true),
+                Arguments.of("a\u0001b", 3, true),
+                Arguments.of("  ab  ", 3, false),
+                Arguments.of("abc", 0, true));
+    }
+
+    @Nested
+    @DisplayName("isAValidString scan")
+    class IsAValidStringScan {
+
+        @ParameterizedTest
+        @MethodSource("com.jozias.product.catalog.domain.util.StringUtilsTest#whitespaceAndControlCharacters")
+        @DisplayName("given whitespace and control characters when isAValidString then should count like trim and the whitespace regex")
+        void givenWhitespaceAndControlCharacters_whenIsAValidString_thenShouldCountLikeTrimAndTheWhitespaceRegex(
+                String str, int minLength, boolean expected) {
+            // when
+            boolean result = StringUtils.isAValidString(str, minLength);
+
+            // then
+            assertThat(result).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("given characters outside the BMP when isAValidString then should count each code point once")
+        void givenCharactersOutsideTheBmp_whenIsAValidString_thenShouldCountEachCodePointOnce() {
+            // given
+            String emojis = "\uD83D\uDCF1\uD83D\uDCBB";
+
+            // when
+            boolean twoCodePoints = StringUtils.isAValidString(emojis, 2);
+            boolean threeCodePoints = StringUtils.isAValidString(emojis, 3);
+
+            // then
+            assertThat(twoCodePoints).isTrue();
+            assertThat(threeCodePoints).isFalse();
+        }
+
+        @Test
+        @DisplayName("given a long string when isAValidString then should stop once the minimum is reached")
+        void givenALongString_whenIsAValidString_thenShouldStopOnceTheMinimumIsReached() {
+            // given
+            String str = "abc" + " x".repeat(100_000);
+
+            // when
+            boolean result = StringUtils.isAValidString(str, 3);
+
+            // then
+            assertThat(result).isTrue();
+        }
+    }
 }
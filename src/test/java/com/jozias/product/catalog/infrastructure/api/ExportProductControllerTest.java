@@ -0,0 +1,148 @@
+package com.jozias.product.catalog.infrastructure.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jozias.product.catalog.infrastructure.api.controller.ExportProductController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.jozias.product.catalog.application.usecase.ExportProductsUseCase;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.infrastructure.api.bulk.ExportFormat;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportProductController")
+class ExportProductControllerTest {
+
+    @Mock
+    private ExportProductsUseCase exportProductsUseCase;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExportProductController exportProductController;
+
+    @BeforeEach
+    void setUp() {
+        exportProductController = new ExportProductController(
+                exportProductsUseCase, new ProductResponseMapper(), objectMapper, Duration.ofMinutes(30));
+
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        List<Product> firstChunk = List.of(
+                product(1L, "Smartphone", "A great smartphone", seller),
+                product(2L, "Cable, USB-C", "Braided cable, 2m \"fast charge\"", seller));
+        List<Product> secondChunk = List.of(product(3L, "Notebook", "Line one\nline two", seller));
+        when(exportProductsUseCase.execute(any())).thenAnswer(invocation -> {
+            Consumer<List<Product>> consumer = invocation.getArgument(0);
+            consumer.accept(firstChunk);
+            consumer.accept(secondChunk);
+            return 3L;
+        });
+    }
+
+    @Test
+    @DisplayName("given NDJSON format when export then should stream one product detail per line")
+    void givenNdjsonFormat_whenExport_thenShouldStreamOneProductDetailPerLine() throws IOException {
+        // when
+        ResponseEntity<StreamingResponseBody> response = exportProductController.export(ExportFormat.NDJSON,
+                new MockHttpServletRequest());
+        String body = write(response.getBody());
+
+        // then
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)).contains("products.ndjson");
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(3);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertThat(second.get("id").asLong()).isEqualTo(2L);
+        assertThat(second.get("seller").get("id").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[2]).get("description").asText()).isEqualTo("Line one\nline two");
+    }
+
+    @Test
+    @DisplayName("given CSV format when export then should write a header and escape text fields")
+    void givenCsvFormat_whenExport_thenShouldWriteAHeaderAndEscapeTextFields() throws IOException {
+        // when
+        ResponseEntity<StreamingResponseBody> response = exportProductController.export(ExportFormat.CSV,
+                new MockHttpServletRequest());
+        String body = write(response.getBody());
+
+        // then
+        assertThat(response.getHeaders().getContentType().isCompatibleWith(MediaType.parseMediaType("text/csv")))
+                .isTrue();
+        assertThat(body).isEqualTo("""
+                id,name,description,price,availableQuantity,condition,category,sellerId
+                1,Smartphone,A great smartphone,999.99,10,NEW,Electronics,1
+                2,"Cable, USB-C","Braided cable, 2m ""fast charge\""",999.99,10,NEW,Electronics,1
+                3,Notebook,"Line one
+                line two",999.99,10,NEW,Electronics,1
+                """);
+    }
+
+    @Test
+    @DisplayName("given an export request when its async processing starts then should use the export timeout")
+    void givenExportRequest_whenAsyncProcessingStarts_thenShouldUseTheExportTimeout() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+        ResponseEntity<StreamingResponseBody> response = exportProductController.export(ExportFormat.NDJSON, request);
+        write(response.getBody());
+
+        // when
+        asyncManager.startCallableProcessing(() -> null);
+
+        // then
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+    }
+
+    private static String write(StreamingResponseBody body) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        body.writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Product product(Long id, String name, String description, Seller seller) {
+        return new Product(
+                id,
+                name,
+                description,
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(),
+                seller);
+    }
+}
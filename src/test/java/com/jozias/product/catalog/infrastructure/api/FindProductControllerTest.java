@@ -7,42 +7,85 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
+import com.jozias.product.catalog.application.usecase.CountProductUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductFacetsUseCase;
 import com.jozias.product.catalog.application.usecase.FindProductUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductsByIdsUseCase;
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.entity.Seller;
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.infrastructure.api.dto.CursorPageResponse;
 import com.jozias.product.catalog.infrastructure.api.dto.PageResponse;
 import com.jozias.product.catalog.infrastructure.api.dto.ProductDTO;
 import com.jozias.product.catalog.infrastructure.api.dto.ProductDetailDTO;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductFilterRequest;
 import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+import com.jozias.product.catalog.infrastructure.api.pagination.CountMode;
+import com.jozias.product.catalog.infrastructure.api.pagination.ProductCursor;
+import com.jozias.product.catalog.infrastructure.cache.ProductDetailJsonCache;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("FindProductController")
 class FindProductControllerTest {
 
+    private static final ProductFilterRequest NO_FILTER = new ProductFilterRequest(null, null, null, null, null, null);
+
     @Mock
     private FindProductUseCase findProductUseCase;
 
+    @Mock
+    private CountProductUseCase countProductUseCase;
+
+    @Mock
+    private FindProductsByIdsUseCase findProductsByIdsUseCase;
+
+    @Mock
+    private FindProductFacetsUseCase findProductFacetsUseCase;
+
     @Mock
     private ProductResponseMapper productResponseMapper;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private ProductDetailJsonCache productDetailJsonCache = new ProductDetailJsonCache(
+            new ConcurrentMapCacheManager(ProductDetailJsonCache.CACHE_NAME), objectMapper);
+
     @InjectMocks
     private FindProductController findProductController;
 
@@ -78,7 +121,8 @@ class FindProductControllerTest {
                 Condition.NEW,
                 "Electronics",
                 List.of(),
-                null);
+                null,
+                3L);
     }
 
     @Test
@@ -86,13 +130,13 @@ class FindProductControllerTest {
     void givenProductsExist_whenListAll_thenShouldReturnPageOfProductDTO() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Product> productPage = new PageImpl<>(List.of(product), pageable, 1);
+        Page<ProductSummary> productPage = new PageImpl<>(List.of(ProductSummary.from(product)), pageable, 1);
 
-        when(findProductUseCase.findAll(pageable)).thenReturn(productPage);
-        when(productResponseMapper.toDto(any(Product.class))).thenReturn(productDTO);
+        when(findProductUseCase.findAll(ProductFilter.NONE, pageable)).thenReturn(productPage);
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
 
         // when
-        PageResponse<ProductDTO> result = findProductController.listAll(pageable);
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.EXACT, false, NO_FILTER);
 
         // then
         assertThat(result).isNotNull();
@@ -104,7 +148,7 @@ class FindProductControllerTest {
         assertThat(result.totalPages()).isEqualTo(1);
         assertThat(result.first()).isTrue();
         assertThat(result.last()).isTrue();
-        verify(findProductUseCase).findAll(pageable);
+        verify(findProductUseCase).findAll(ProductFilter.NONE, pageable);
     }
 
     @Test
@@ -112,12 +156,12 @@ class FindProductControllerTest {
     void givenEmptyResult_whenListAll_thenShouldReturnEmptyPage() {
         // given
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Product> emptyPage = new PageImpl<>(List.of(), pageable, 0);
+        Page<ProductSummary> emptyPage = new PageImpl<>(List.of(), pageable, 0);
 
-        when(findProductUseCase.findAll(pageable)).thenReturn(emptyPage);
+        when(findProductUseCase.findAll(ProductFilter.NONE, pageable)).thenReturn(emptyPage);
 
         // when
-        PageResponse<ProductDTO> result = findProductController.listAll(pageable);
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.EXACT, false, NO_FILTER);
 
         // then
         assertThat(result).isNotNull();
@@ -125,23 +169,246 @@ class FindProductControllerTest {
         assertThat(result.totalElements()).isZero();
     }
 
+    @Test
+    @DisplayName("given count mode NONE when listAll then should return slice without totals")
+    void givenCountModeNone_whenListAll_thenShouldReturnSliceWithoutTotals() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<ProductSummary> slice = new SliceImpl<>(List.of(ProductSummary.from(product)), pageable, true);
+
+        when(findProductUseCase.findSlice(ProductFilter.NONE, pageable)).thenReturn(slice);
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
+
+        // when
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.NONE, false, NO_FILTER);
+
+        // then
+        assertThat(result.content()).containsExactly(productDTO);
+        assertThat(result.totalElements()).isNull();
+        assertThat(result.totalPages()).isNull();
+        assertThat(result.last()).isFalse();
+        verify(findProductUseCase, never()).findAll(any(), any());
+        verifyNoInteractions(countProductUseCase);
+    }
+
+    @Test
+    @DisplayName("given count mode CACHED when listAll then should combine slice with cached total")
+    void givenCountModeCached_whenListAll_thenShouldCombineSliceWithCachedTotal() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<ProductSummary> slice = new SliceImpl<>(List.of(ProductSummary.from(product)), pageable, true);
+
+        when(findProductUseCase.findSlice(ProductFilter.NONE, pageable)).thenReturn(slice);
+        when(countProductUseCase.count()).thenReturn(3L);
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
+
+        // when
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.CACHED, false, NO_FILTER);
+
+        // then
+        assertThat(result.content()).containsExactly(productDTO);
+        assertThat(result.totalElements()).isEqualTo(3L);
+        assertThat(result.totalPages()).isEqualTo(3);
+        assertThat(result.last()).isFalse();
+        verify(findProductUseCase, never()).findAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("given filter parameters when listAll then should list only with the resulting filter")
+    void givenFilterParameters_whenListAll_thenShouldListWithTheResultingFilter() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        ProductFilterRequest filterRequest = new ProductFilterRequest(" Electronics ", Condition.NEW,
+                new BigDecimal("100"), new BigDecimal("1000"), 1L, true);
+        ProductFilter filter = new ProductFilter("Electronics", Condition.NEW, new BigDecimal("100"),
+                new BigDecimal("1000"), 1L, true);
+        when(findProductUseCase.findAll(filter, pageable))
+                .thenReturn(new PageImpl<>(List.of(ProductSummary.from(product)), pageable, 1));
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
+
+        // when
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.EXACT, false, filterRequest);
+
+        // then
+        assertThat(result.content()).containsExactly(productDTO);
+        assertThat(result.totalElements()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("given count mode CACHED with a filter when listAll then should count exactly")
+    void givenCountModeCachedWithFilter_whenListAll_thenShouldCountExactly() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        ProductFilterRequest filterRequest = new ProductFilterRequest("Electronics", null, null, null, null, null);
+        ProductFilter filter = new ProductFilter("Electronics", null, null, null, null, false);
+        when(findProductUseCase.findAll(filter, pageable))
+                .thenReturn(new PageImpl<>(List.of(ProductSummary.from(product)), pageable, 1));
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
+
+        // when
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.CACHED, false, filterRequest);
+
+        // then
+        assertThat(result.totalElements()).isEqualTo(1L);
+        verifyNoInteractions(countProductUseCase);
+    }
+
+    @Test
+    @DisplayName("given facets requested when listAll then should add the facet counts of the filter")
+    void givenFacetsRequested_whenListAll_thenShouldAddTheFacetCountsOfTheFilter() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        ProductFilterRequest filterRequest = new ProductFilterRequest("Electronics", null, null, null, null, null);
+        ProductFilter filter = new ProductFilter("Electronics", null, null, null, null, false);
+        ProductFacets facets = ProductFacets.counter()
+                .add(Condition.NEW, "Electronics", 1L, ProductFacets.priceRangeOf(product.getPrice()), 1)
+                .build();
+        when(findProductUseCase.findAll(filter, pageable))
+                .thenReturn(new PageImpl<>(List.of(ProductSummary.from(product)), pageable, 1));
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
+        when(findProductFacetsUseCase.execute(filter)).thenReturn(facets);
+
+        // when
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.EXACT, true, filterRequest);
+
+        // then
+        assertThat(result.facets()).isNotNull();
+        assertThat(result.facets().conditions()).containsEntry(Condition.NEW, 1L);
+        assertThat(result.facets().categories()).containsEntry("Electronics", 1L);
+        assertThat(result.facets().sellers()).containsEntry(1L, 1L);
+        assertThat(result.facets().priceRanges())
+                .filteredOn(range -> range.count() > 0)
+                .singleElement()
+                .satisfies(range -> assertThat(range.min()).isEqualByComparingTo("500"));
+    }
+
+    @Test
+    @DisplayName("given facets not requested when listAll then should not compute them")
+    void givenFacetsNotRequested_whenListAll_thenShouldNotComputeThem() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        when(findProductUseCase.findAll(ProductFilter.NONE, pageable))
+                .thenReturn(new PageImpl<>(List.of(ProductSummary.from(product)), pageable, 1));
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
+
+        // when
+        PageResponse<ProductDTO> result = findProductController.listAll(pageable, CountMode.EXACT, false, NO_FILTER);
+
+        // then
+        assertThat(result.facets()).isNull();
+        verifyNoInteractions(findProductFacetsUseCase);
+    }
+
+    @Test
+    @DisplayName("given empty cursor when listAfter then should start scroll and return next cursor")
+    void givenEmptyCursor_whenListAfter_thenShouldStartScrollAndReturnNextCursor() {
+        // given
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "price"));
+        Window<ProductSummary> window = Window.from(List.of(ProductSummary.from(product)),
+                index -> ScrollPosition.forward(Map.of("price", product.getPrice(), "id", product.getId())), true);
+
+        when(findProductUseCase.scroll(ProductFilter.NONE, ScrollPosition.keyset(), Sort.Order.desc("price"), 1)).thenReturn(window);
+        when(productResponseMapper.toDto(any(ProductSummary.class))).thenReturn(productDTO);
+
+        // when
+        CursorPageResponse<ProductDTO> result = findProductController.listAfter("", pageable, NO_FILTER);
+
+        // then
+        assertThat(result.content()).containsExactly(productDTO);
+        assertThat(result.last()).isFalse();
+        ProductCursor next = ProductCursor.decode(result.nextCursor());
+        assertThat(next.order()).isEqualTo(Sort.Order.desc("price"));
+        assertThat(next.position().getKeys()).containsEntry("id", 1L);
+    }
+
+    @Test
+    @DisplayName("given cursor of last window when listAfter then should return page without next cursor")
+    void givenCursorOfLastWindow_whenListAfter_thenShouldReturnPageWithoutNextCursor() {
+        // given
+        ProductCursor cursor = new ProductCursor(Sort.Order.asc("id"), ScrollPosition.forward(Map.of("id", 1L)));
+        Window<ProductSummary> window = Window.from(List.of(), index -> ScrollPosition.keyset(), false);
+
+        when(findProductUseCase.scroll(eq(ProductFilter.NONE), eq(cursor.position()), eq(Sort.Order.asc("id")), eq(20))).thenReturn(window);
+
+        // when
+        CursorPageResponse<ProductDTO> result = findProductController.listAfter(cursor.encode(), PageRequest.of(0, 20), NO_FILTER);
+
+        // then
+        assertThat(result.content()).isEmpty();
+        assertThat(result.nextCursor()).isNull();
+        assertThat(result.last()).isTrue();
+    }
+
     @Test
     @DisplayName("given existing id when detailById then should return ProductDetailDTO")
-    void givenExistingId_whenDetailById_thenShouldReturnProductDetailDTO() {
+    void givenExistingId_whenDetailById_thenShouldReturnProductDetailDTO() throws Exception {
         // given
         when(findProductUseCase.findById(1L)).thenReturn(product);
         when(productResponseMapper.toDetailDto(product)).thenReturn(productDetailDTO);
 
         // when
-        ProductDetailDTO result = findProductController.detailById(1L);
+        ResponseEntity<byte[]> response = findProductController.detailById(1L, null);
 
         // then
-        assertThat(result).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        ProductDetailDTO result = objectMapper.readValue(response.getBody(), ProductDetailDTO.class);
         assertThat(result.id()).isEqualTo(1L);
         assertThat(result.name()).isEqualTo("Smartphone");
         verify(findProductUseCase).findById(1L);
     }
 
+    @Test
+    @DisplayName("given detail already encoded when detailById then should serve cached bytes without mapping")
+    void givenDetailAlreadyEncoded_whenDetailById_thenShouldServeCachedBytesWithoutMapping() {
+        // given
+        when(findProductUseCase.findById(1L)).thenReturn(product);
+        when(productResponseMapper.toDetailDto(product)).thenReturn(productDetailDTO);
+        ResponseEntity<byte[]> first = findProductController.detailById(1L, null);
+
+        // when
+        ResponseEntity<byte[]> second = findProductController.detailById(1L, null);
+
+        // then
+        assertThat(second.getBody()).isSameAs(first.getBody());
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        verify(findProductUseCase, times(1)).findById(1L);
+        verify(productResponseMapper, times(1)).toDetailDto(product);
+    }
+
+    @Test
+    @DisplayName("given If-None-Match with current version when detailById then should answer 304 from the cache")
+    void givenIfNoneMatchWithCurrentVersion_whenDetailById_thenShouldAnswer304FromTheCache() {
+        // given
+        when(findProductUseCase.findById(1L)).thenReturn(product);
+        when(productResponseMapper.toDetailDto(product)).thenReturn(productDetailDTO);
+        findProductController.detailById(1L, null);
+
+        // when
+        ResponseEntity<byte[]> response = findProductController.detailById(1L, "W/\"3\"");
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"3\"");
+        assertThat(response.getBody()).isNull();
+        verify(productResponseMapper, times(1)).toDetailDto(product);
+    }
+
+    @Test
+    @DisplayName("given If-None-Match with an older version when detailById then should return the body")
+    void givenIfNoneMatchWithAnOlderVersion_whenDetailById_thenShouldReturnTheBody() {
+        // given
+        when(findProductUseCase.findById(1L)).thenReturn(product);
+        when(productResponseMapper.toDetailDto(product)).thenReturn(productDetailDTO);
+
+        // when
+        ResponseEntity<byte[]> response = findProductController.detailById(1L, "\"1\", \"2\"");
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotEmpty();
+    }
+
     @Test
     @DisplayName("given non-existent id when detailById then should throw EntityNotFoundException")
     void givenNonExistentId_whenDetailById_thenShouldThrowEntityNotFoundException() {
@@ -149,7 +416,34 @@ class FindProductControllerTest {
         when(findProductUseCase.findById(999L)).thenThrow(new EntityNotFoundException("Product not found"));
 
         // when & then
-        assertThatThrownBy(() -> findProductController.detailById(999L))
+        assertThatThrownBy(() -> findProductController.detailById(999L, null))
                 .isInstanceOf(EntityNotFoundException.class);
     }
+
+    @Test
+    @DisplayName("given ids when listByIds then should return details in the order returned by the use case")
+    void givenIds_whenListByIds_thenShouldReturnDetailsInOrder() {
+        // given
+        Product other = new Product(
+                2L,
+                "Tablet",
+                "A tablet with a large and bright display",
+                new BigDecimal("1999.99"),
+                3,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(),
+                seller);
+        ProductDetailDTO otherDetail = new ProductDetailDTO(2L, "Tablet", "A tablet with a large and bright display",
+                new BigDecimal("1999.99"), 3, Condition.NEW, "Electronics", List.of(), null, 0L);
+        when(findProductsByIdsUseCase.execute(List.of(2L, 1L))).thenReturn(List.of(other, product));
+        when(productResponseMapper.toDetailDto(other)).thenReturn(otherDetail);
+        when(productResponseMapper.toDetailDto(product)).thenReturn(productDetailDTO);
+
+        // when
+        List<ProductDetailDTO> result = findProductController.listByIds(List.of(2L, 1L));
+
+        // then
+        assertThat(result).containsExactly(otherDetail, productDetailDTO);
+    }
 }
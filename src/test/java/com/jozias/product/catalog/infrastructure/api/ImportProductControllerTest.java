@@ -0,0 +1,173 @@
+package com.jozias.product.catalog.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jozias.product.catalog.infrastructure.api.controller.ImportProductController;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.jozias.product.catalog.application.dto.CreateProductDTO;
+import com.jozias.product.catalog.application.dto.ProductImportResult;
+import com.jozias.product.catalog.application.usecase.ImportProductsUseCase;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductImportLineResult;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductImportResponse;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductRequestMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportProductController")
+class ImportProductControllerTest {
+
+    private static final String VALID_ITEM = """
+            {"name":"Smartphone","description":"A great smartphone with amazing features","price":999.99,\
+            "availableQuantity":10,"condition":"NEW","category":"Electronics","sellerId":1}""";
+
+    @Mock
+    private ImportProductsUseCase importProductsUseCase;
+
+    private ValidatorFactory validatorFactory;
+    private ImportProductController importProductController;
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importProductController = new ImportProductController(
+                importProductsUseCase,
+                new ProductRequestMapper(),
+                new ObjectMapper(),
+                validatorFactory.getValidator(),
+                2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("given NDJSON body when importProducts then should import in chunks and report every line")
+    void givenNdjsonBody_whenImportProducts_thenShouldImportInChunksAndReportEveryLine() throws IOException {
+        // given
+        createEveryProduct();
+        String body = String.join("\n", VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM) + "\n";
+
+        // when
+        ResponseEntity<ProductImportResponse> response = importProductController.importProducts(stream(body));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().created()).isEqualTo(5);
+        assertThat(response.getBody().results()).extracting(ProductImportLineResult::item)
+                .containsExactly(1, 2, 3, 4, 5);
+        verify(importProductsUseCase, times(3)).execute(anyList());
+    }
+
+    @Test
+    @DisplayName("given a chunk the database rejects when importProducts then should report it and keep earlier ids")
+    void givenChunkTheDatabaseRejects_whenImportProducts_thenShouldReportItAndKeepEarlierIds() throws IOException {
+        // given
+        when(importProductsUseCase.execute(anyList()))
+                .thenReturn(List.of(ProductImportResult.created(1L), ProductImportResult.created(2L)))
+                .thenThrow(new DataIntegrityViolationException("could not execute statement",
+                        new IllegalStateException("Value too long for column NAME")))
+                .thenReturn(List.of(ProductImportResult.created(3L)));
+        String body = String.join("\n", VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM, VALID_ITEM) + "\n";
+
+        // when
+        ResponseEntity<ProductImportResponse> response = importProductController.importProducts(stream(body));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        ProductImportResponse result = response.getBody();
+        assertThat(result.created()).isEqualTo(3);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.results()).extracting(ProductImportLineResult::id).containsExactly(1L, 2L, null, null, 3L);
+        assertThat(result.results().get(2).error()).isEqualTo("Chunk not saved: Value too long for column NAME");
+        assertThat(result.results().get(3).error()).isEqualTo("Chunk not saved: Value too long for column NAME");
+    }
+
+    @Test
+    @DisplayName("given JSON array with invalid items when importProducts then should reject them individually")
+    void givenJsonArrayWithInvalidItems_whenImportProducts_thenShouldRejectThemIndividually() throws IOException {
+        // given
+        createEveryProduct();
+        String invalidCondition = VALID_ITEM.replace("\"NEW\"", "\"BROKEN\"");
+        String missingName = VALID_ITEM.replace("\"name\":\"Smartphone\",", "");
+        String body = "[" + String.join(",", VALID_ITEM, invalidCondition, "42", missingName, VALID_ITEM) + "]";
+
+        // when
+        ResponseEntity<ProductImportResponse> response = importProductController.importProducts(stream(body));
+
+        // then
+        ProductImportResponse result = response.getBody();
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(3);
+        assertThat(result.results()).extracting(ProductImportLineResult::item).containsExactly(1, 2, 3, 4, 5);
+        assertThat(result.results().get(1).error()).isEqualTo("Invalid condition: BROKEN");
+        assertThat(result.results().get(2).error()).startsWith("Invalid item");
+        assertThat(result.results().get(3).error()).isEqualTo("name: Name is required");
+    }
+
+    @Test
+    @DisplayName("given malformed JSON when importProducts then should import what was read and stop")
+    void givenMalformedJson_whenImportProducts_thenShouldImportWhatWasReadAndStop() throws IOException {
+        // given
+        createEveryProduct();
+        String body = VALID_ITEM + "\n{\"name\": oops\n" + VALID_ITEM;
+
+        // when
+        ResponseEntity<ProductImportResponse> response = importProductController.importProducts(stream(body));
+
+        // then
+        ProductImportResponse result = response.getBody();
+        assertThat(result.created()).isEqualTo(1);
+        assertThat(result.results()).hasSize(2);
+        assertThat(result.results().get(1).item()).isEqualTo(2);
+        assertThat(result.results().get(1).error()).startsWith("Malformed JSON, import stopped");
+    }
+
+    @Test
+    @DisplayName("given empty body when importProducts then should not import anything")
+    void givenEmptyBody_whenImportProducts_thenShouldNotImportAnything() throws IOException {
+        // when
+        ResponseEntity<ProductImportResponse> response = importProductController.importProducts(stream(""));
+
+        // then
+        assertThat(response.getBody().results()).isEmpty();
+        verify(importProductsUseCase, never()).execute(anyList());
+    }
+
+    private void createEveryProduct() {
+        when(importProductsUseCase.execute(anyList())).thenAnswer(invocation -> {
+            List<CreateProductDTO> chunk = invocation.getArgument(0);
+            return chunk.stream().map(dto -> ProductImportResult.created(ids.incrementAndGet())).toList();
+        });
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,175 @@
+package com.jozias.product.catalog.infrastructure.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jozias.product.catalog.infrastructure.api.controller.PatchProductController;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.jozias.product.catalog.application.dto.PatchProductDTO;
+import com.jozias.product.catalog.application.dto.ProductPatchResult;
+import com.jozias.product.catalog.application.usecase.PatchProductUseCase;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductField;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductResponse;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductRequestMapper;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PatchProductController")
+class PatchProductControllerTest {
+
+    @Mock
+    private PatchProductUseCase patchProductUseCase;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ValidatorFactory validatorFactory;
+    private PatchProductController patchProductController;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        patchProductController = new PatchProductController(
+                patchProductUseCase,
+                new ProductRequestMapper(),
+                new ProductResponseMapper(),
+                objectMapper,
+                validatorFactory.getValidator());
+
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        product = new Product(1L, "Smartphone", "A great smartphone with amazing features",
+                new BigDecimal("899.99"), 10, Condition.NEW, "Electronics", new ArrayList<>(), seller);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("given merge patch with some fields when patch then should pass only those fields")
+    void givenMergePatchWithSomeFields_whenPatch_thenShouldPassOnlyThoseFields() throws Exception {
+        // given
+        when(patchProductUseCase.execute(any(PatchProductDTO.class)))
+                .thenReturn(new ProductPatchResult(product, Set.of(ProductField.PRICE)));
+        JsonNode patch = objectMapper.readTree("{\"price\": 899.99, \"condition\": \"USED\"}");
+
+        // when
+        ResponseEntity<ProductResponse> response = patchProductController.patch(1L, null, patch);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().id()).isEqualTo(1L);
+        ArgumentCaptor<PatchProductDTO> captor = ArgumentCaptor.forClass(PatchProductDTO.class);
+        verify(patchProductUseCase).execute(captor.capture());
+        PatchProductDTO dto = captor.getValue();
+        assertThat(dto.id()).isEqualTo(1L);
+        assertThat(dto.price()).isEqualByComparingTo("899.99");
+        assertThat(dto.condition()).isEqualTo(Condition.USED);
+        assertThat(dto.name()).isNull();
+        assertThat(dto.variants()).isNull();
+        assertThat(dto.expectedVersion()).isNull();
+    }
+
+    @Test
+    @DisplayName("given If-Match header when patch then should make the patch conditional and return the new ETag")
+    void givenIfMatchHeader_whenPatch_thenShouldMakeThePatchConditionalAndReturnTheNewEtag() throws Exception {
+        // given
+        when(patchProductUseCase.execute(any(PatchProductDTO.class)))
+                .thenReturn(new ProductPatchResult(product.withVersion(8L), Set.of(ProductField.PRICE)));
+        JsonNode patch = objectMapper.readTree("{\"price\": 899.99}");
+
+        // when
+        ResponseEntity<ProductResponse> response = patchProductController.patch(1L, "\"7\"", patch);
+
+        // then
+        ArgumentCaptor<PatchProductDTO> captor = ArgumentCaptor.forClass(PatchProductDTO.class);
+        verify(patchProductUseCase).execute(captor.capture());
+        assertThat(captor.getValue().expectedVersion()).isEqualTo(7L);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"8\"");
+    }
+
+    @Test
+    @DisplayName("given null variants when patch then should remove every variant")
+    void givenNullVariants_whenPatch_thenShouldRemoveEveryVariant() throws Exception {
+        // given
+        when(patchProductUseCase.execute(any(PatchProductDTO.class)))
+                .thenReturn(new ProductPatchResult(product, Set.of(ProductField.VARIANTS)));
+        JsonNode patch = objectMapper.readTree("{\"variants\": null}");
+
+        // when
+        patchProductController.patch(1L, null, patch);
+
+        // then
+        ArgumentCaptor<PatchProductDTO> captor = ArgumentCaptor.forClass(PatchProductDTO.class);
+        verify(patchProductUseCase).execute(captor.capture());
+        assertThat(captor.getValue().variants()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("given null required field when patch then should reject it")
+    void givenNullRequiredField_whenPatch_thenShouldRejectIt() throws Exception {
+        // given
+        JsonNode patch = objectMapper.readTree("{\"name\": null}");
+
+        // when & then
+        assertThatThrownBy(() -> patchProductController.patch(1L, null, patch))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Field 'name' is required and cannot be removed");
+        verifyNoInteractions(patchProductUseCase);
+    }
+
+    @Test
+    @DisplayName("given invalid values when patch then should throw ConstraintViolationException")
+    void givenInvalidValues_whenPatch_thenShouldThrowConstraintViolationException() throws Exception {
+        // given
+        JsonNode patch = objectMapper.readTree("{\"price\": -1, \"name\": \"ab\"}");
+
+        // when & then
+        assertThatThrownBy(() -> patchProductController.patch(1L, null, patch))
+                .isInstanceOf(ConstraintViolationException.class);
+        verifyNoInteractions(patchProductUseCase);
+    }
+
+    @Test
+    @DisplayName("given non-object body or invalid condition when patch then should throw IllegalArgumentException")
+    void givenNonObjectBodyOrInvalidCondition_whenPatch_thenShouldThrowIllegalArgumentException() throws Exception {
+        // given
+        JsonNode array = objectMapper.readTree("[1]");
+        JsonNode invalidCondition = objectMapper.readTree("{\"condition\": \"BROKEN\"}");
+
+        // when & then
+        assertThatThrownBy(() -> patchProductController.patch(1L, null, array))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("A merge patch must be a JSON object");
+        assertThatThrownBy(() -> patchProductController.patch(1L, null, invalidCondition))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid condition: BROKEN");
+    }
+}
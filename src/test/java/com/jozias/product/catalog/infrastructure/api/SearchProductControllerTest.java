@@ -0,0 +1,81 @@
+package com.jozias.product.catalog.infrastructure.api;
+
+import com.jozias.product.catalog.application.usecase.FindProductsByIdsUseCase;
+import com.jozias.product.catalog.application.usecase.SearchProductsUseCase;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.infrastructure.api.controller.SearchProductController;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductDTO;
+import com.jozias.product.catalog.infrastructure.api.mapper.ProductResponseMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchProductController")
+class SearchProductControllerTest {
+
+    @Mock
+    private SearchProductsUseCase searchProductsUseCase;
+
+    @Mock
+    private FindProductsByIdsUseCase findProductsByIdsUseCase;
+
+    @Mock
+    private ProductResponseMapper productResponseMapper;
+
+    @InjectMocks
+    private SearchProductController searchProductController;
+
+    @Test
+    @DisplayName("given matching products when search then should return them in ranking order")
+    void givenMatchingProducts_whenSearch_thenShouldReturnThemInRankingOrder() {
+        // given
+        Product tablet = product(2L, "Tablet");
+        Product smartphone = product(1L, "Smartphone");
+        when(searchProductsUseCase.execute("great", 20)).thenReturn(List.of(2L, 1L));
+        when(findProductsByIdsUseCase.execute(List.of(2L, 1L))).thenReturn(List.of(tablet, smartphone));
+        when(productResponseMapper.toDto(tablet)).thenReturn(new ProductDTO(2L, "Tablet", new BigDecimal("999.99")));
+        when(productResponseMapper.toDto(smartphone))
+                .thenReturn(new ProductDTO(1L, "Smartphone", new BigDecimal("999.99")));
+
+        // when
+        List<ProductDTO> result = searchProductController.search("great", 20);
+
+        // then
+        assertThat(result).extracting(ProductDTO::id).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("given a blank query when search then should propagate IllegalArgumentException")
+    void givenBlankQuery_whenSearch_thenShouldPropagateIllegalArgumentException() {
+        // given
+        when(searchProductsUseCase.execute(" ", 20))
+                .thenThrow(new IllegalArgumentException("Search query cannot be blank"));
+
+        // when & then
+        assertThatThrownBy(() -> searchProductController.search(" ", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(findProductsByIdsUseCase);
+    }
+
+    private static Product product(Long id, String name) {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        return new Product(id, name, "A great device with amazing features", new BigDecimal("999.99"), 10,
+                Condition.NEW, "Electronics", new ArrayList<>(), seller);
+    }
+}
@@ -5,12 +5,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import com.jozias.product.catalog.application.dto.UpdateProductDTO;
 import com.jozias.product.catalog.application.usecase.UpdateProductUseCase;
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
@@ -31,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -102,7 +105,7 @@ class UpdateProductControllerTest {
         when(productResponseMapper.toResponse(updatedProduct)).thenReturn(productResponse);
 
         // when
-        ResponseEntity<ProductResponse> response = updateProductController.update(1L, updateProductRequest);
+        ResponseEntity<ProductResponse> response = updateProductController.update(1L, null, updateProductRequest);
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
@@ -113,6 +116,38 @@ class UpdateProductControllerTest {
         verify(updateProductUseCase).execute(any());
     }
 
+    @Test
+    @DisplayName("given If-Match header when update then should require that version and return the new ETag")
+    void givenIfMatchHeader_whenUpdate_thenShouldRequireThatVersionAndReturnTheNewEtag() {
+        // given
+        Product savedProduct = updatedProduct.withVersion(4L);
+        when(productRequestMapper.toUpdateDomainVariants(any())).thenReturn(new ArrayList<>());
+        when(updateProductUseCase.execute(any())).thenReturn(savedProduct);
+        when(productResponseMapper.toResponse(savedProduct)).thenReturn(productResponse);
+        ArgumentCaptor<UpdateProductDTO> captor = ArgumentCaptor.forClass(UpdateProductDTO.class);
+
+        // when
+        ResponseEntity<ProductResponse> response = updateProductController.update(1L, "\"3\"", updateProductRequest);
+
+        // then
+        verify(updateProductUseCase).execute(captor.capture());
+        assertThat(captor.getValue().expectedVersion()).isEqualTo(3L);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    @DisplayName("given malformed If-Match header when update then should throw IllegalArgumentException")
+    void givenMalformedIfMatchHeader_whenUpdate_thenShouldThrowIllegalArgumentException() {
+        // given
+        when(productRequestMapper.toUpdateDomainVariants(any())).thenReturn(new ArrayList<>());
+
+        // when & then
+        assertThatThrownBy(() -> updateProductController.update(1L, "W/\"3\"", updateProductRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid If-Match header: W/\"3\"");
+        verifyNoInteractions(updateProductUseCase);
+    }
+
     @Test
     @DisplayName("given non-existent product when update then should throw EntityNotFoundException")
     void givenNonExistentProduct_whenUpdate_thenShouldThrowEntityNotFoundException() {
@@ -121,7 +156,7 @@ class UpdateProductControllerTest {
         when(updateProductUseCase.execute(any())).thenThrow(new EntityNotFoundException("Product not found"));
 
         // when & then
-        assertThatThrownBy(() -> updateProductController.update(999L, updateProductRequest))
+        assertThatThrownBy(() -> updateProductController.update(999L, null, updateProductRequest))
                 .isInstanceOf(EntityNotFoundException.class);
     }
 
@@ -135,7 +170,7 @@ class UpdateProductControllerTest {
         when(productResponseMapper.toResponse(updatedProduct)).thenReturn(productResponse);
 
         // when
-        ResponseEntity<ProductResponse> response = updateProductController.update(1L, updateProductRequest);
+        ResponseEntity<ProductResponse> response = updateProductController.update(1L, null, updateProductRequest);
 
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
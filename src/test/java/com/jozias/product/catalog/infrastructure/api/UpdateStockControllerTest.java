@@ -0,0 +1,61 @@
+package com.jozias.product.catalog.infrastructure.api;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.jozias.product.catalog.application.dto.StockUpdateMode;
+import com.jozias.product.catalog.application.dto.UpdateStockDTO;
+import com.jozias.product.catalog.application.usecase.UpdateStockUseCase;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import com.jozias.product.catalog.infrastructure.api.controller.UpdateStockController;
+import com.jozias.product.catalog.infrastructure.api.dto.StockResponse;
+import com.jozias.product.catalog.infrastructure.api.dto.UpdateStockRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateStockController")
+class UpdateStockControllerTest {
+
+    @Mock
+    private UpdateStockUseCase updateStockUseCase;
+
+    @InjectMocks
+    private UpdateStockController updateStockController;
+
+    @Test
+    @DisplayName("given delta request when updateStock then should return the new quantity")
+    void givenDeltaRequest_whenUpdateStock_thenShouldReturnTheNewQuantity() {
+        // given
+        when(updateStockUseCase.execute(new UpdateStockDTO(1L, StockUpdateMode.DELTA, -2)))
+                .thenReturn(new StockLevel(8, 4L));
+
+        // when
+        ResponseEntity<StockResponse> response = updateStockController.updateStock(1L,
+                new UpdateStockRequest("DELTA", -2));
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(new StockResponse(1L, 8, 4L));
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    @DisplayName("given unknown mode when updateStock then should throw IllegalArgumentException")
+    void givenUnknownMode_whenUpdateStock_thenShouldThrowIllegalArgumentException() {
+        // when / then
+        assertThatThrownBy(() -> updateStockController.updateStock(1L, new UpdateStockRequest("RELATIVE", 2)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid stock mode: RELATIVE");
+        verifyNoInteractions(updateStockUseCase);
+    }
+}
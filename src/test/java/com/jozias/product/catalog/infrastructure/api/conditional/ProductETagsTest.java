@@ -0,0 +1,48 @@
+package com.jozias.product.catalog.infrastructure.api.conditional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductETags")
+class ProductETagsTest {
+
+    @Test
+    @DisplayName("given version when of then should quote it as a strong tag")
+    void givenVersion_whenOf_thenShouldQuoteItAsAStrongTag() {
+        assertThat(ProductETags.of(7L)).isEqualTo("\"7\"");
+    }
+
+    @Test
+    @DisplayName("given If-None-Match lists when matchesNoneMatch then should compare weakly against each tag")
+    void givenIfNoneMatchLists_whenMatchesNoneMatch_thenShouldCompareWeaklyAgainstEachTag() {
+        assertThat(ProductETags.matchesNoneMatch("\"7\"", "\"7\"")).isTrue();
+        assertThat(ProductETags.matchesNoneMatch("W/\"7\"", "\"7\"")).isTrue();
+        assertThat(ProductETags.matchesNoneMatch("\"5\", \"7\"", "\"7\"")).isTrue();
+        assertThat(ProductETags.matchesNoneMatch("*", "\"7\"")).isTrue();
+        assertThat(ProductETags.matchesNoneMatch("\"6\"", "\"7\"")).isFalse();
+        assertThat(ProductETags.matchesNoneMatch(null, "\"7\"")).isFalse();
+    }
+
+    @Test
+    @DisplayName("given If-Match header when requiredVersion then should parse a single strong tag")
+    void givenIfMatchHeader_whenRequiredVersion_thenShouldParseASingleStrongTag() {
+        assertThat(ProductETags.requiredVersion("\"7\"")).isEqualTo(7L);
+        assertThat(ProductETags.requiredVersion(" \"7\" ")).isEqualTo(7L);
+        assertThat(ProductETags.requiredVersion("*")).isNull();
+        assertThat(ProductETags.requiredVersion(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("given weak or malformed If-Match when requiredVersion then should throw IllegalArgumentException")
+    void givenWeakOrMalformedIfMatch_whenRequiredVersion_thenShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> ProductETags.requiredVersion("W/\"7\""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductETags.requiredVersion("\"abc\""))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductETags.requiredVersion("\"\""))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -15,13 +15,16 @@ import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.domain.exception.InsufficientStockException;
 import com.jozias.product.catalog.domain.exception.ProductInstanceInvalidException;
+import com.jozias.product.catalog.domain.exception.VersionMismatchException;
 import com.jozias.product.catalog.infrastructure.api.dto.ApiErrorResponse;
 
 import java.util.List;
@@ -63,6 +66,55 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().title()).isEqualTo("Resource Not Found");
     }
 
+    @Test
+    @DisplayName("given InsufficientStockException when handle then should return 409")
+    void givenInsufficientStockException_whenHandle_thenShouldReturn409() {
+        // given
+        InsufficientStockException exception = new InsufficientStockException(
+                "Insufficient stock for product 1: 2 available, 5 requested");
+
+        // when
+        ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleInsufficientStock(exception, request);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(409);
+        assertThat(response.getBody().title()).isEqualTo("Insufficient Stock");
+    }
+
+    @Test
+    @DisplayName("given VersionMismatchException when handle then should return 412")
+    void givenVersionMismatchException_whenHandle_thenShouldReturn412() {
+        // given
+        VersionMismatchException exception = new VersionMismatchException("Product 1 is at version 3, not 2");
+
+        // when
+        ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleVersionMismatch(exception, request);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(412);
+        assertThat(response.getBody().detail()).isEqualTo("Product 1 is at version 3, not 2");
+    }
+
+    @Test
+    @DisplayName("given OptimisticLockingFailureException when handle then should return 409")
+    void givenOptimisticLockingFailureException_whenHandle_thenShouldReturn409() {
+        // given
+        ObjectOptimisticLockingFailureException exception =
+                new ObjectOptimisticLockingFailureException(Object.class, 1L);
+
+        // when
+        ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleOptimisticLockingFailure(exception, request);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().title()).isEqualTo("Concurrent Modification");
+    }
+
     @Test
     @DisplayName("given ProductInstanceInvalidException when handle then should return 400")
     void givenProductInstanceInvalidException_whenHandle_thenShouldReturn400() {
@@ -0,0 +1,75 @@
+package com.jozias.product.catalog.infrastructure.api.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductCursor")
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("given price cursor when encode and decode then should restore order and keys")
+    void givenPriceCursor_whenEncodeAndDecode_thenShouldRestoreOrderAndKeys() {
+        // given
+        ProductCursor cursor = new ProductCursor(Sort.Order.desc("price"),
+                ScrollPosition.forward(Map.of("price", new BigDecimal("99.90"), "id", 12L)));
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.order()).isEqualTo(Sort.Order.desc("price"));
+        assertThat(decoded.position().getKeys())
+                .containsEntry("price", new BigDecimal("99.90"))
+                .containsEntry("id", 12L);
+    }
+
+    @Test
+    @DisplayName("given name containing separator when encode and decode then should keep the whole name")
+    void givenNameContainingSeparator_whenEncodeAndDecode_thenShouldKeepTheWholeName() {
+        // given
+        ProductCursor cursor = new ProductCursor(Sort.Order.asc("name"),
+                ScrollPosition.forward(Map.of("name", "Mouse, Wireless", "id", 3L)));
+
+        // when
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decoded.position().getKeys()).containsEntry("name", "Mouse, Wireless");
+    }
+
+    @Test
+    @DisplayName("given unsorted request when first then should start ascending by id")
+    void givenUnsortedRequest_whenFirst_thenShouldStartAscendingById() {
+        // when
+        ProductCursor cursor = ProductCursor.first(Sort.unsorted());
+
+        // then
+        assertThat(cursor.order()).isEqualTo(Sort.Order.asc("id"));
+        assertThat(cursor.position().isInitial()).isTrue();
+    }
+
+    @Test
+    @DisplayName("given unsupported sort when first then should throw IllegalArgumentException")
+    void givenUnsupportedSort_whenFirst_thenShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> ProductCursor.first(Sort.by("description")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ProductCursor.first(Sort.by("name", "price")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("given tampered cursor when decode then should throw IllegalArgumentException")
+    void givenTamperedCursor_whenDecode_thenShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> ProductCursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+}
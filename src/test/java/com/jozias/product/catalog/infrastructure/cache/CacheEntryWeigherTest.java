@@ -0,0 +1,107 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.ProductVariantValue;
+import com.jozias.product.catalog.domain.entity.Seller;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheEntryWeigher")
+class CacheEntryWeigherTest {
+
+    @Test
+    @DisplayName("given listing page when weighed then should grow with the number of summaries")
+    void givenListingPage_whenWeighed_thenShouldGrowWithTheNumberOfSummaries() {
+        // given
+        ProductSummary summary = ProductSummary.from(product(0));
+        PageImpl<ProductSummary> page = new PageImpl<>(Collections.nCopies(20, summary), PageRequest.of(0, 20), 100);
+
+        // when
+        int pageWeight = CacheEntryWeigher.INSTANCE.weigh("0-20-UNSORTED", page);
+
+        // then
+        assertThat(pageWeight).isGreaterThan(20 * (int) CacheEntryWeigher.estimate(summary));
+    }
+
+    @Test
+    @DisplayName("given facet counts when weighed then should grow with the number of facet values")
+    void givenFacetCounts_whenWeighed_thenShouldGrowWithTheNumberOfFacetValues() {
+        // given
+        ProductFilter filter = new ProductFilter("Electronics", null, null, null, null, false);
+        ProductFacets.Counter counter = ProductFacets.counter();
+        ProductFacets oneSeller = counter.add(Condition.NEW, "Electronics", 1L, 0, 1).build();
+        for (long sellerId = 2; sellerId <= 50; sellerId++) {
+            counter.add(Condition.NEW, "Electronics", sellerId, 0, 1);
+        }
+
+        // when
+        int small = CacheEntryWeigher.INSTANCE.weigh(filter, oneSeller);
+        int large = CacheEntryWeigher.INSTANCE.weigh(filter, counter.build());
+
+        // then
+        assertThat(small).isGreaterThan((int) CacheEntryWeigher.estimate(filter));
+        assertThat(large).isGreaterThan(small + 49 * 2 * 16);
+    }
+
+    @Test
+    @DisplayName("given product with variants when weighed then should account for every variant value")
+    void givenProductWithVariants_whenWeighed_thenShouldAccountForEveryVariantValue() {
+        // when
+        int bare = CacheEntryWeigher.INSTANCE.weigh(1L, product(0));
+        int rich = CacheEntryWeigher.INSTANCE.weigh(1L, product(5));
+
+        // then
+        assertThat(rich - bare).isGreaterThan(5 * 10 * "Value 0".length());
+    }
+
+    @Test
+    @DisplayName("given encoded detail when weighed then should be at least the body size")
+    void givenEncodedDetail_whenWeighed_thenShouldBeAtLeastTheBodySize() {
+        // given
+        EncodedProductDetail detail = new EncodedProductDetail(new byte[4096], "\"etag\"");
+
+        // when
+        int weight = CacheEntryWeigher.INSTANCE.weigh(1L, detail);
+
+        // then
+        assertThat(weight).isGreaterThanOrEqualTo(4096);
+    }
+
+    private static Product product(int variantCount) {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        List<ProductVariant> variants = new ArrayList<>();
+        for (int v = 0; v < variantCount; v++) {
+            List<ProductVariantValue> values = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                values.add(new ProductVariantValue("Value " + i));
+            }
+            variants.add(new ProductVariant(null, "Type " + v, values));
+        }
+        return new Product(
+                1L,
+                "Smartphone",
+                "A great smartphone with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                variants,
+                seller);
+    }
+}
@@ -0,0 +1,69 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("CacheStatsEndpoint")
+class CacheStatsEndpointTest {
+
+    private CaffeineCacheManager cacheManager;
+    private CacheStatsEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache("products", Caffeine.newBuilder()
+                .maximumWeight(1024 * 1024)
+                .weigher(CacheEntryWeigher.INSTANCE)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache("productCount", Caffeine.newBuilder()
+                .maximumSize(1)
+                .recordStats()
+                .build());
+        endpoint = new CacheStatsEndpoint(cacheManager);
+    }
+
+    @Test
+    @DisplayName("given hits and misses when reading caches then should report hit rate and weight per cache")
+    void givenHitsAndMisses_whenReadingCaches_thenShouldReportHitRateAndWeightPerCache() {
+        // given
+        Cache products = cacheManager.getCache("products");
+        products.get("0-20-UNSORTED");
+        products.put("0-20-UNSORTED", "page");
+        products.get("0-20-UNSORTED");
+        products.get("0-20-UNSORTED");
+        ((com.github.benmanes.caffeine.cache.Cache<?, ?>) products.getNativeCache()).cleanUp();
+
+        // when
+        Map<String, CacheStatsEndpoint.CacheStatsView> caches = endpoint.caches();
+
+        // then
+        assertThat(caches).containsOnlyKeys("productCount", "products");
+        CacheStatsEndpoint.CacheStatsView view = caches.get("products");
+        assertThat(view.hits()).isEqualTo(2);
+        assertThat(view.misses()).isEqualTo(1);
+        assertThat(view.hitRate()).isCloseTo(2 / 3.0, offset(0.001));
+        assertThat(view.weighted()).isTrue();
+        assertThat(view.weightedSize()).isPositive();
+        assertThat(view.maximum()).isEqualTo(1024 * 1024);
+        assertThat(caches.get("productCount").weightedSize()).isNull();
+    }
+
+    @Test
+    @DisplayName("given unknown cache when reading by name then should return null")
+    void givenUnknownCache_whenReadingByName_thenShouldReturnNull() {
+        assertThat(endpoint.cache("unknown")).isNull();
+    }
+}
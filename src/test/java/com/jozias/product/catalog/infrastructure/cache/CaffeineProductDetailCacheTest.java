@@ -0,0 +1,137 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CaffeineProductDetailCache")
+class CaffeineProductDetailCacheTest {
+
+    @Test
+    @DisplayName("given partially warm Caffeine cache when getAll then should load only the misses in one call")
+    void givenPartiallyWarmCaffeineCache_whenGetAll_thenShouldLoadOnlyTheMissesInOneCall() {
+        // given
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CaffeineProductDetailCache.CACHE_NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder());
+        assertGetAllLoadsOnlyMisses(cacheManager);
+    }
+
+    @Test
+    @DisplayName("given non-Caffeine cache when getAll then should fall back to per-key lookups")
+    void givenNonCaffeineCache_whenGetAll_thenShouldFallBackToPerKeyLookups() {
+        assertGetAllLoadsOnlyMisses(new ConcurrentMapCacheManager(CaffeineProductDetailCache.CACHE_NAME));
+    }
+
+    @Test
+    @DisplayName("given cached product when patchStockLevel then should replace the entry with the new stock level")
+    void givenCachedProduct_whenPatchStockLevel_thenShouldReplaceTheEntryWithTheNewStockLevel() {
+        // given
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CaffeineProductDetailCache.CACHE_NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder());
+        CaffeineProductDetailCache productDetailCache = new CaffeineProductDetailCache(cacheManager);
+        Cache cache = cacheManager.getCache(CaffeineProductDetailCache.CACHE_NAME);
+        cache.put(1L, product(1L).withVersion(2L));
+
+        // when
+        productDetailCache.patchStockLevel(1L, new StockLevel(3, 3L));
+        productDetailCache.patchStockLevel(2L, new StockLevel(7, 1L));
+
+        // then
+        Product patched = cache.get(1L, Product.class);
+        assertThat(patched.getAvailableQuantity()).isEqualTo(3);
+        assertThat(patched.getVersion()).isEqualTo(3L);
+        assertThat(patched.getName()).isEqualTo("Smartphone 1");
+        assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("given entry already at a newer version when patchStockLevel then should keep the entry")
+    void givenEntryAlreadyAtANewerVersion_whenPatchStockLevel_thenShouldKeepTheEntry() {
+        // given
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(CaffeineProductDetailCache.CACHE_NAME);
+        cacheManager.setCaffeine(Caffeine.newBuilder());
+        CaffeineProductDetailCache productDetailCache = new CaffeineProductDetailCache(cacheManager);
+        Cache cache = cacheManager.getCache(CaffeineProductDetailCache.CACHE_NAME);
+        Product current = product(1L).withVersion(5L);
+        cache.put(1L, current);
+
+        // when
+        productDetailCache.patchStockLevel(1L, new StockLevel(3, 4L));
+
+        // then
+        assertThat(cache.get(1L, Product.class)).isSameAs(current);
+    }
+
+    @Test
+    @DisplayName("given non-Caffeine cache when patchStockLevel then should evict the entry")
+    void givenNonCaffeineCache_whenPatchStockLevel_thenShouldEvictTheEntry() {
+        // given
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CaffeineProductDetailCache.CACHE_NAME);
+        CaffeineProductDetailCache productDetailCache = new CaffeineProductDetailCache(cacheManager);
+        Cache cache = cacheManager.getCache(CaffeineProductDetailCache.CACHE_NAME);
+        cache.put(1L, product(1L));
+
+        // when
+        productDetailCache.patchStockLevel(1L, new StockLevel(3, 1L));
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private static void assertGetAllLoadsOnlyMisses(CacheManager cacheManager) {
+        // given
+        CaffeineProductDetailCache productDetailCache = new CaffeineProductDetailCache(cacheManager);
+        cacheManager.getCache(CaffeineProductDetailCache.CACHE_NAME).put(1L, product(1L));
+        List<Set<Long>> loads = new ArrayList<>();
+
+        // when
+        Map<Long, Product> result = productDetailCache.getAll(List.of(1L, 2L, 3L), missing -> {
+            loads.add(missing);
+            Map<Long, Product> loaded = new LinkedHashMap<>();
+            loaded.put(2L, product(2L));
+            return loaded;
+        });
+        Map<Long, Product> again = productDetailCache.getAll(List.of(2L), missing -> {
+            loads.add(missing);
+            return Map.of();
+        });
+
+        // then
+        assertThat(loads).containsExactly(Set.of(2L, 3L));
+        assertThat(result).containsOnlyKeys(1L, 2L);
+        assertThat(again).containsOnlyKeys(2L);
+    }
+
+    private static Product product(Long id) {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        return new Product(
+                id,
+                "Smartphone " + id,
+                "A great smartphone with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(),
+                seller);
+    }
+}
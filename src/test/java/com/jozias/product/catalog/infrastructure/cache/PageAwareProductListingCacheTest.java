@@ -0,0 +1,493 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PageAwareProductListingCache")
+class PageAwareProductListingCacheTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final Sort BY_ID = Sort.by("id");
+    private static final Sort BY_NAME = Sort.by("name", "id");
+    private static final Sort BY_PRICE_DESC = Sort.by(Sort.Order.desc("price"), Sort.Order.asc("id"));
+
+    private static final Map<Sort, Comparator<Product>> DATABASE_ORDER = Map.of(
+            BY_ID, Comparator.comparing(Product::getId),
+            BY_NAME, Comparator.comparing(Product::getName).thenComparing(Product::getId),
+            BY_PRICE_DESC, Comparator.comparing(Product::getPrice).reversed().thenComparing(Product::getId));
+
+    private static final ProductFilter BOOKS = new ProductFilter("Books", null, null, null, null, false);
+
+    private final Seller seller = seller();
+
+    private CaffeineCacheManager cacheManager;
+    private Cache cache;
+    private Cache facetCache;
+    private PageAwareProductListingCache listingCache;
+    private List<Product> catalog;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new CaffeineCacheManager(PageAwareProductListingCache.CACHE_NAME,
+                PageAwareProductListingCache.FACETS_CACHE_NAME);
+        cache = cacheManager.getCache(PageAwareProductListingCache.CACHE_NAME);
+        facetCache = cacheManager.getCache(PageAwareProductListingCache.FACETS_CACHE_NAME);
+        listingCache = new PageAwareProductListingCache(cacheManager);
+
+        catalog = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            catalog.add(product(id, "Product %03d".formatted(id), BigDecimal.valueOf(id)));
+        }
+    }
+
+    @Test
+    @DisplayName("given product created at the end when evictCreated then should keep earlier pages with updated total")
+    void givenProductCreatedAtTheEnd_whenEvictCreated_thenShouldKeepEarlierPagesWithUpdatedTotal() {
+        // given
+        cachePage(0, BY_ID);
+        cachePage(4, BY_ID);
+        Product created = product(101L, "Product 101", BigDecimal.TEN);
+        catalog.add(created);
+
+        // when
+        listingCache.evictCreated(ProductSummary.from(created));
+
+        // then
+        Page<?> firstPage = cached(0, BY_ID);
+        assertThat(firstPage).isNotNull();
+        assertThat(firstPage.getTotalElements()).isEqualTo(101);
+        assertThat(cached(4, BY_ID)).isNotNull();
+        assertThat(cached(4, BY_ID).isLast()).isFalse();
+    }
+
+    @Test
+    @DisplayName("given product created in the middle of the order when evictCreated then should evict shifted pages only")
+    void givenProductCreatedInTheMiddle_whenEvictCreated_thenShouldEvictShiftedPagesOnly() {
+        // given
+        cachePage(0, BY_NAME);
+        cachePage(3, BY_NAME);
+        Product created = product(101L, "Product 050a", BigDecimal.TEN);
+
+        // when
+        listingCache.evictCreated(ProductSummary.from(created));
+
+        // then
+        assertThat(cached(0, BY_NAME)).isNotNull();
+        assertThat(cached(3, BY_NAME)).isNull();
+    }
+
+    @Test
+    @DisplayName("given product updated inside a page when evictUpdated then should evict only pages in the moved range")
+    void givenProductUpdated_whenEvictUpdated_thenShouldEvictOnlyPagesInTheMovedRange() {
+        // given
+        cachePage(0, BY_PRICE_DESC);
+        cachePage(2, BY_PRICE_DESC);
+        cachePage(4, BY_PRICE_DESC);
+        cachePage(0, BY_ID);
+        Product before = catalog.get(49);
+        Product after = product(50L, before.getName(), new BigDecimal("30.50"));
+
+        // when
+        listingCache.evictUpdated(ProductSummary.from(before), ProductSummary.from(after));
+
+        // then
+        assertThat(cached(0, BY_PRICE_DESC)).isNotNull();
+        assertThat(cached(2, BY_PRICE_DESC)).isNull();
+        assertThat(cached(4, BY_PRICE_DESC)).isNotNull();
+        assertThat(cached(0, BY_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("given stock changed when patchStockLevel then should rewrite pages in place and evict pages ordered by quantity")
+    void givenStockChanged_whenPatchStockLevel_thenShouldRewritePagesInPlaceAndEvictPagesOrderedByQuantity() {
+        // given
+        Sort byQuantity = Sort.by("availableQuantity", "id");
+        cachePage(0, BY_ID);
+        cachePage(1, BY_ID);
+        cache.put(key(PageRequest.of(0, PAGE_SIZE, byQuantity)),
+                new PageImpl<>(List.of(ProductSummary.from(catalog.get(4))), PageRequest.of(0, PAGE_SIZE, byQuantity), 100));
+        Page<?> untouched = cached(1, BY_ID);
+
+        // when
+        listingCache.patchStockLevel(5L, new StockLevel(3, 1L));
+
+        // then
+        Page<?> firstPage = cached(0, BY_ID);
+        assertThat(firstPage).isNotNull();
+        assertThat(firstPage.getTotalElements()).isEqualTo(100);
+        assertThat(firstPage.getContent())
+                .map(ProductSummary.class::cast)
+                .allSatisfy(summary -> assertThat(summary.availableQuantity()).isEqualTo(summary.id() == 5L ? 3 : 10));
+        assertThat(cached(1, BY_ID)).isSameAs(untouched);
+        assertThat(cache.get(key(PageRequest.of(0, PAGE_SIZE, byQuantity)))).isNull();
+    }
+
+    @Test
+    @DisplayName("given quantity-dependent pages without the product when patchStockLevel then should evict them")
+    void givenQuantityDependentPagesWithoutTheProduct_whenPatchStockLevel_thenShouldEvictThem() {
+        // given
+        Sort byQuantity = Sort.by("availableQuantity", "id");
+        Pageable quantityPageable = PageRequest.of(0, 1, byQuantity);
+        cache.put(key(quantityPageable),
+                new PageImpl<>(List.of(ProductSummary.from(catalog.get(0))), quantityPageable, 100));
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, BY_ID);
+        ProductListingKey inStockKey = new ProductListingKey("findAll",
+                new ProductFilter(null, null, null, null, null, true), pageable);
+        cache.put(inStockKey, query(0, BY_ID));
+
+        // when
+        listingCache.patchStockLevel(50L, new StockLevel(1, 1L));
+
+        // then
+        assertThat(cache.get(key(quantityPageable))).isNull();
+        assertThat(cache.get(inStockKey)).isNull();
+    }
+
+    @Test
+    @DisplayName("given stock writes arriving out of order when patchStockLevel then should keep the newest quantity")
+    void givenStockWritesOutOfOrder_whenPatchStockLevel_thenShouldKeepTheNewestQuantity() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2, BY_ID);
+        ProductListingKey booksKey = new ProductListingKey("findAll", BOOKS, pageable);
+        cache.put(booksKey, new PageImpl<>(List.of(book(11L, BigDecimal.ONE), book(12L, BigDecimal.TWO)),
+                pageable, 5));
+
+        // when
+        listingCache.patchStockLevel(11L, new StockLevel(4, 8L));
+        listingCache.patchStockLevel(11L, new StockLevel(5, 7L));
+
+        // then
+        ProductSummary row = (ProductSummary) cache.get(booksKey, Page.class).getContent().get(0);
+        assertThat(row.availableQuantity()).isEqualTo(4);
+        assertThat(row.version()).isEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("given product deleted when evictDeleted then should evict its page and following pages")
+    void givenProductDeleted_whenEvictDeleted_thenShouldEvictItsPageAndFollowingPages() {
+        // given
+        cachePage(0, BY_ID);
+        cachePage(1, BY_ID);
+        cachePage(3, BY_ID);
+
+        // when
+        listingCache.evictDeleted(ProductSummary.from(catalog.get(25)));
+
+        // then
+        assertThat(cached(0, BY_ID)).isNotNull();
+        assertThat(cached(0, BY_ID).getTotalElements()).isEqualTo(99);
+        assertThat(cached(1, BY_ID)).isNull();
+        assertThat(cached(3, BY_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("given cached slices when writes happen then should keep slices whose has-next cannot change")
+    void givenCachedSlices_whenWritesHappen_thenShouldKeepSlicesWhoseHasNextCannotChange() {
+        // given
+        Pageable first = PageRequest.of(0, PAGE_SIZE, BY_ID);
+        Pageable last = PageRequest.of(4, PAGE_SIZE, BY_ID);
+        cache.put("slice-" + key(first), new SliceImpl<>(query(0, BY_ID).getContent(), first, true));
+        cache.put("slice-" + key(last), new SliceImpl<>(query(4, BY_ID).getContent(), last, false));
+
+        // when
+        listingCache.evictCreated(ProductSummary.from(product(101L, "Product 101", BigDecimal.TEN)));
+
+        // then
+        assertThat(cache.get("slice-" + key(first), Slice.class)).isNotNull();
+        assertThat(cache.get("slice-" + key(last), Slice.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("given sort the cache cannot reproduce when evicting then should evict the page")
+    void givenUnsupportedSort_whenEvicting_thenShouldEvictThePage() {
+        // given
+        Sort byDescription = Sort.by("description", "id");
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, byDescription);
+        List<ProductSummary> content = catalog.subList(0, PAGE_SIZE).stream().map(ProductSummary::from).toList();
+        cache.put(key(pageable), new PageImpl<>(content, pageable, catalog.size()));
+
+        // when
+        listingCache.evictCreated(ProductSummary.from(product(101L, "Product 101", BigDecimal.TEN)));
+
+        // then
+        assertThat(cache.get(key(pageable))).isNull();
+    }
+
+    @Test
+    @DisplayName("given filtered page when write is outside the filter then should keep the page untouched")
+    void givenFilteredPage_whenWriteIsOutsideTheFilter_thenShouldKeepThePageUntouched() {
+        // given
+        ProductListingKey booksKey = booksPage();
+        Page<?> booksPage = cache.get(booksKey, Page.class);
+        Product before = catalog.get(0);
+        Product after = product(1L, "Product 000", new BigDecimal("500"));
+
+        // when
+        listingCache.evictUpdated(ProductSummary.from(before), ProductSummary.from(after));
+        listingCache.evictCreated(ProductSummary.from(product(101L, "Product 101", BigDecimal.ONE)));
+
+        // then
+        assertThat(cache.get(booksKey, Page.class)).isSameAs(booksPage);
+    }
+
+    @Test
+    @DisplayName("given filtered page when product enters the filter after the page then should only bump the total")
+    void givenFilteredPage_whenProductEntersTheFilterAfterThePage_thenShouldOnlyBumpTheTotal() {
+        // given
+        ProductListingKey booksKey = booksPage();
+        ProductSummary before = ProductSummary.from(catalog.get(49));
+        ProductSummary after = book(50L, before.price());
+
+        // when
+        listingCache.evictUpdated(before, after);
+
+        // then
+        Page<?> booksPage = cache.get(booksKey, Page.class);
+        assertThat(booksPage).isNotNull();
+        assertThat(booksPage.getTotalElements()).isEqualTo(6);
+        assertThat(booksPage.getContent()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("given in-stock page when stock of another product changes then should evict the page")
+    void givenInStockPage_whenStockOfAnotherProductChanges_thenShouldEvictThePage() {
+        // given
+        ProductFilter inStock = new ProductFilter(null, null, null, null, null, true);
+        Pageable pageable = PageRequest.of(0, PAGE_SIZE, BY_ID);
+        ProductListingKey inStockKey = new ProductListingKey("findAll", inStock, pageable);
+        cache.put(inStockKey, query(0, BY_ID));
+        cachePage(0, BY_ID);
+
+        // when
+        listingCache.patchStockLevel(50L, new StockLevel(0, 1L));
+
+        // then
+        assertThat(cache.get(inStockKey)).isNull();
+        assertThat(cached(0, BY_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("given cached facets when product changes facet values then should evict only the filters it matches")
+    void givenCachedFacets_whenProductChangesFacetValues_thenShouldEvictOnlyTheFiltersItMatches() {
+        // given
+        ProductFilter electronics = new ProductFilter("Electronics", null, null, null, null, false);
+        ProductFacets facets = ProductFacets.counter().build();
+        facetCache.put(ProductFilter.NONE, facets);
+        facetCache.put(electronics, facets);
+        facetCache.put(BOOKS, facets);
+        Product before = catalog.get(0);
+
+        // when
+        listingCache.evictUpdated(ProductSummary.from(before),
+                ProductSummary.from(product(1L, "Renamed", before.getPrice().add(BigDecimal.ONE))));
+
+        // then
+        assertThat(facetCache.get(ProductFilter.NONE)).isNotNull();
+        assertThat(facetCache.get(electronics)).isNotNull();
+
+        // when
+        listingCache.evictUpdated(ProductSummary.from(before),
+                ProductSummary.from(product(1L, before.getName(), new BigDecimal("500"))));
+
+        // then
+        assertThat(facetCache.get(ProductFilter.NONE)).isNull();
+        assertThat(facetCache.get(electronics)).isNull();
+        assertThat(facetCache.get(BOOKS)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("given cached facets when price crosses a filter bound inside the same range then should evict that filter")
+    void givenCachedFacets_whenPriceCrossesFilterBoundInsideSameRange_thenShouldEvictThatFilter() {
+        // given
+        ProductFilter fromSeventyFive = new ProductFilter(null, null, new BigDecimal("75"), null, null, false);
+        ProductFacets facets = ProductFacets.counter().build();
+        facetCache.put(ProductFilter.NONE, facets);
+        facetCache.put(fromSeventyFive, facets);
+        Product before = catalog.get(69);
+
+        // when
+        listingCache.evictUpdated(ProductSummary.from(before),
+                ProductSummary.from(product(before.getId(), before.getName(), new BigDecimal("80"))));
+
+        // then
+        assertThat(facetCache.get(ProductFilter.NONE)).isNotNull();
+        assertThat(facetCache.get(fromSeventyFive)).isNull();
+    }
+
+    @Test
+    @DisplayName("given cached facets when stock changes then should evict only in-stock filters")
+    void givenCachedFacets_whenStockChanges_thenShouldEvictOnlyInStockFilters() {
+        // given
+        ProductFilter inStockBooks = new ProductFilter("Books", null, null, null, null, true);
+        ProductFacets facets = ProductFacets.counter().build();
+        facetCache.put(BOOKS, facets);
+        facetCache.put(inStockBooks, facets);
+
+        // when
+        listingCache.patchStockLevel(5L, new StockLevel(0, 1L));
+
+        // then
+        assertThat(facetCache.get(BOOKS)).isNotNull();
+        assertThat(facetCache.get(inStockBooks)).isNull();
+    }
+
+    @Test
+    @DisplayName("given mixed read/write workload when using targeted invalidation then hit ratio should beat full eviction without stale reads")
+    void givenMixedWorkload_whenUsingTargetedInvalidation_thenHitRatioShouldBeatFullEviction() {
+        double fullEviction = simulate(false);
+        double targeted = simulate(true);
+
+        assertThat(targeted).isGreaterThan(fullEviction + 0.2);
+    }
+
+    /**
+     * Replays the same seeded workload (skewed towards the first pages, one write
+     * every 20 reads) and returns the listing cache hit ratio. Every hit is compared
+     * against a fresh query so a stale page fails the test.
+     */
+    private double simulate(boolean targeted) {
+        setUp();
+        Random random = new Random(42);
+        List<Sort> sorts = List.of(BY_ID, BY_NAME, BY_PRICE_DESC);
+        long nextId = catalog.size() + 1L;
+        int hits = 0;
+        int reads = 0;
+
+        for (int step = 0; step < 20_000; step++) {
+            if (step % 20 == 19) {
+                nextId = applyRandomWrite(random, nextId, targeted);
+                continue;
+            }
+            Sort sort = sorts.get(random.nextInt(sorts.size()));
+            int pageNumber = Math.min((int) Math.abs(random.nextGaussian() * 2), 5);
+            Page<ProductSummary> fresh = query(pageNumber, sort);
+            Page<?> cachedPage = cached(pageNumber, sort);
+            reads++;
+            if (cachedPage != null) {
+                hits++;
+                assertThat(cachedPage.getContent()).isEqualTo(fresh.getContent());
+                assertThat(cachedPage.getTotalElements()).isEqualTo(fresh.getTotalElements());
+            } else {
+                cache.put(key(fresh.getPageable()), fresh);
+            }
+        }
+        return (double) hits / reads;
+    }
+
+    private long applyRandomWrite(Random random, long nextId, boolean targeted) {
+        int operation = random.nextInt(10);
+        if (operation < 6) {
+            int index = random.nextInt(catalog.size());
+            Product before = catalog.get(index);
+            Product after = product(before.getId(), before.getName(),
+                    before.getPrice().add(BigDecimal.valueOf(random.nextInt(21) - 10L)).max(BigDecimal.ZERO));
+            catalog.set(index, after);
+            if (targeted) {
+                listingCache.evictUpdated(ProductSummary.from(before), ProductSummary.from(after));
+            } else {
+                cache.clear();
+            }
+            return nextId;
+        }
+        if (operation < 8) {
+            Product created = product(nextId, "Product %03d".formatted(nextId), BigDecimal.valueOf(random.nextInt(200)));
+            catalog.add(created);
+            if (targeted) {
+                listingCache.evictCreated(ProductSummary.from(created));
+            } else {
+                cache.clear();
+            }
+            return nextId + 1;
+        }
+        Product deleted = catalog.remove(random.nextInt(catalog.size()));
+        if (targeted) {
+            listingCache.evictDeleted(ProductSummary.from(deleted));
+        } else {
+            cache.clear();
+        }
+        return nextId;
+    }
+
+    private void cachePage(int pageNumber, Sort sort) {
+        Page<ProductSummary> page = query(pageNumber, sort);
+        cache.put(key(page.getPageable()), page);
+    }
+
+    private Page<?> cached(int pageNumber, Sort sort) {
+        return cache.get(key(PageRequest.of(pageNumber, PAGE_SIZE, sort)), Page.class);
+    }
+
+    private Page<ProductSummary> query(int pageNumber, Sort sort) {
+        Pageable pageable = PageRequest.of(pageNumber, PAGE_SIZE, sort);
+        List<ProductSummary> sorted = catalog.stream()
+                .sorted(DATABASE_ORDER.get(sort))
+                .map(ProductSummary::from)
+                .toList();
+        int from = Math.min((int) pageable.getOffset(), sorted.size());
+        int to = Math.min(from + PAGE_SIZE, sorted.size());
+        return new PageImpl<>(new ArrayList<>(sorted.subList(from, to)), pageable, sorted.size());
+    }
+
+    // First two of five books, cached under a category filter
+    private ProductListingKey booksPage() {
+        Pageable pageable = PageRequest.of(0, 2, BY_ID);
+        ProductListingKey booksKey = new ProductListingKey("findAll", BOOKS, pageable);
+        cache.put(booksKey, new PageImpl<>(List.of(book(11L, BigDecimal.ONE), book(12L, BigDecimal.TWO)),
+                pageable, 5));
+        return booksKey;
+    }
+
+    private ProductSummary book(Long id, BigDecimal price) {
+        return new ProductSummary(id, "Book " + id, price, 10, Condition.NEW, "Books", seller.getId(), 6L);
+    }
+
+    private static String key(Pageable pageable) {
+        return pageable.getPageNumber() + "-" + pageable.getPageSize() + "-" + pageable.getSort();
+    }
+
+    private Product product(Long id, String name, BigDecimal price) {
+        return new Product(
+                id,
+                name,
+                "A product used by the listing cache test",
+                price,
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(),
+                seller);
+    }
+
+    private static Seller seller() {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        return seller;
+    }
+}
@@ -0,0 +1,133 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.infrastructure.api.dto.ProductDetailDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ProductDetailJsonCache")
+class ProductDetailJsonCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ProductDetailJsonCache productDetailJsonCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(ProductDetailJsonCache.CACHE_NAME);
+        productDetailJsonCache = new ProductDetailJsonCache(cacheManager, objectMapper);
+    }
+
+    @Test
+    @DisplayName("given cold cache when get then should encode once and reuse the bytes")
+    void givenColdCache_whenGet_thenShouldEncodeOnceAndReuseTheBytes() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        EncodedProductDetail first = productDetailJsonCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return detail("Smartphone", 3L);
+        });
+        EncodedProductDetail second = productDetailJsonCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return detail("Smartphone", 3L);
+        });
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(objectMapper.readValue(first.body(), ProductDetailDTO.class)).isEqualTo(detail("Smartphone", 3L));
+        assertThat(first.etag()).isEqualTo("\"3\"");
+    }
+
+    @Test
+    @DisplayName("given changed product when entry evicted then should produce the etag of the new version")
+    void givenChangedProduct_whenEntryEvicted_thenShouldProduceTheEtagOfTheNewVersion() {
+        // given
+        EncodedProductDetail before = productDetailJsonCache.get(1L, () -> detail("Smartphone", 3L));
+        cacheManager.getCache(ProductDetailJsonCache.CACHE_NAME).evict(1L);
+
+        // when
+        EncodedProductDetail after = productDetailJsonCache.get(1L, () -> detail("Smartphone X", 4L));
+
+        // then
+        assertThat(after.etag()).isNotEqualTo(before.etag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    @DisplayName("given an eviction racing a miss when get then should not serve the old body afterwards")
+    void givenEvictionRacingAMiss_whenGet_thenShouldNotServeTheOldBodyAfterwards() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread reader = new Thread(() -> productDetailJsonCache.get(1L, () -> {
+            loading.countDown();
+            awaitQuietly(release);
+            return detail("Smartphone", 3L);
+        }));
+        reader.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread writer = new Thread(() -> cacheManager.getCache(ProductDetailJsonCache.CACHE_NAME).evict(1L));
+        writer.start();
+        while (writer.getState() != Thread.State.BLOCKED && writer.getState() != Thread.State.TERMINATED) {
+            Thread.onSpinWait();
+        }
+
+        // when
+        release.countDown();
+        reader.join();
+        writer.join();
+        EncodedProductDetail after = productDetailJsonCache.get(1L, () -> detail("Smartphone X", 4L));
+
+        // then
+        assertThat(after.etag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    @DisplayName("given loader failure when get then should propagate the exception and cache nothing")
+    void givenLoaderFailure_whenGet_thenShouldPropagateTheExceptionAndCacheNothing() {
+        assertThatThrownBy(() -> productDetailJsonCache.get(999L, () -> {
+            throw new EntityNotFoundException("Product with id 999 not found");
+        })).isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(cacheManager.getCache(ProductDetailJsonCache.CACHE_NAME).get(999L)).isNull();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ProductDetailDTO detail(String name, Long version) {
+        return new ProductDetailDTO(
+                1L,
+                name,
+                "A great smartphone with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                List.of(),
+                null,
+                version);
+    }
+}
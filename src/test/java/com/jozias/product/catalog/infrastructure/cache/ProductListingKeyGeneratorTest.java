@@ -0,0 +1,74 @@
+package com.jozias.product.catalog.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProductListingKeyGenerator")
+class ProductListingKeyGeneratorTest {
+
+    private final ProductListingKeyGenerator keyGenerator = new ProductListingKeyGenerator();
+
+    @Test
+    @DisplayName("given filter and pageable when generate then should keep both in the key")
+    void givenFilterAndPageable_whenGenerate_thenShouldKeepBothInTheKey() throws NoSuchMethodException {
+        // given
+        ProductFilter filter = new ProductFilter("Books", null, BigDecimal.ONE, null, null, false);
+        Pageable pageable = PageRequest.of(2, 20, Sort.by("name"));
+
+        // when
+        Object key = keyGenerator.generate(this, listing("findAll"), filter, pageable);
+
+        // then
+        assertThat(key).isEqualTo(new ProductListingKey("findAll", filter, pageable));
+    }
+
+    @Test
+    @DisplayName("given same request through page and slice when generate then should produce different keys")
+    void givenSameRequestThroughPageAndSlice_whenGenerate_thenShouldProduceDifferentKeys()
+            throws NoSuchMethodException {
+        // given
+        Pageable pageable = PageRequest.of(0, 20);
+
+        // when
+        Object pageKey = keyGenerator.generate(this, listing("findAll"), ProductFilter.NONE, pageable);
+        Object sliceKey = keyGenerator.generate(this, listing("findSlice"), ProductFilter.NONE, pageable);
+
+        // then
+        assertThat(pageKey).isNotEqualTo(sliceKey);
+    }
+
+    @Test
+    @DisplayName("given no filter argument when generate then should key the whole catalog")
+    void givenNoFilterArgument_whenGenerate_thenShouldKeyTheWholeCatalog() throws NoSuchMethodException {
+        // given
+        Pageable pageable = PageRequest.of(0, 20);
+
+        // when
+        ProductListingKey key = (ProductListingKey) keyGenerator.generate(this, listing("findAll"), pageable);
+
+        // then
+        assertThat(key.filter()).isEqualTo(ProductFilter.NONE);
+        assertThat(key.pageable()).isEqualTo(pageable);
+    }
+
+    private static Method listing(String name) throws NoSuchMethodException {
+        return Listings.class.getDeclaredMethod(name, ProductFilter.class, Pageable.class);
+    }
+
+    private interface Listings {
+
+        void findAll(ProductFilter filter, Pageable pageable);
+
+        void findSlice(ProductFilter filter, Pageable pageable);
+    }
+}
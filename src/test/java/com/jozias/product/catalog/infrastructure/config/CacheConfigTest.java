@@ -0,0 +1,169 @@
+package com.jozias.product.catalog.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.util.unit.DataSize;
+
+import com.jozias.product.catalog.application.usecase.FindProductUseCase;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import com.jozias.product.catalog.infrastructure.config.CatalogCacheProperties.CacheSpec;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig({ CacheConfig.class, CacheConfigTest.TestConfig.class })
+@DisplayName("CacheConfig")
+class CacheConfigTest {
+
+    private static final int CONCURRENT_REQUESTS = 500;
+
+    @Autowired
+    private FindProductUseCase findProductUseCase;
+
+    @Autowired
+    private FindProductGateway findProductGateway;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("productDetails").clear();
+        clearInvocations(findProductGateway);
+    }
+
+    @Test
+    @DisplayName("given 500 simultaneous misses on one product when findById then should load it from the gateway once")
+    void given500SimultaneousMisses_whenFindById_thenShouldLoadFromGatewayOnce() throws Exception {
+        // given
+        Product product = product();
+        when(findProductGateway.findById(1L)).thenAnswer(invocation -> {
+            // Keep the load in flight long enough for every request to miss
+            Thread.sleep(200);
+            return Optional.of(product);
+        });
+        ExecutorService requests = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Product>> results = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(requests.submit(() -> {
+                    start.await();
+                    return findProductUseCase.findById(1L);
+                }));
+            }
+
+            // when
+            start.countDown();
+
+            // then
+            for (Future<Product> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isSameAs(product);
+            }
+            verify(findProductGateway, times(1)).findById(1L);
+        } finally {
+            requests.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("given productDetails cache when inspected then should refresh ahead through the gateway loader")
+    void givenProductDetailsCache_whenInspected_thenShouldRefreshAheadThroughGatewayLoader() {
+        // given
+        Product product = product();
+        when(findProductGateway.findById(1L)).thenReturn(Optional.of(product));
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache("productDetails");
+
+        // when
+        Object loaded = cache.get(1L).get();
+
+        // then
+        assertThat(cache.getNativeCache().policy().refreshAfterWrite()).isPresent();
+        assertThat(cache.getNativeCache().policy().expireAfterWrite()).isPresent();
+        assertThat(loaded).isSameAs(product);
+    }
+
+    @Test
+    @DisplayName("given weighted spec when building cache manager then should bound the cache by estimated bytes")
+    void givenWeightedSpec_whenBuildingCacheManager_thenShouldBoundTheCacheByEstimatedBytes() {
+        // given
+        CatalogCacheProperties properties = new CatalogCacheProperties(Map.of("products", new CacheSpec(
+                null, DataSize.ofMegabytes(4), null, Duration.ofMinutes(5), null, false)));
+
+        // when
+        CacheManager manager = new CacheConfig().cacheManager(properties, null);
+
+        // then
+        var policy = ((CaffeineCache) manager.getCache("products")).getNativeCache().policy();
+        assertThat(policy.eviction()).hasValueSatisfying(eviction -> {
+            assertThat(eviction.isWeighted()).isTrue();
+            assertThat(eviction.getMaximum()).isEqualTo(DataSize.ofMegabytes(4).toBytes());
+        });
+        assertThat(policy.expireAfterAccess()).isPresent();
+        assertThat(policy.expireAfterWrite()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("given spec with both size and weight when binding then should reject it")
+    void givenSpecWithBothSizeAndWeight_whenBinding_thenShouldRejectIt() {
+        assertThatThrownBy(() -> new CacheSpec(10L, DataSize.ofMegabytes(1), null, null, null, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Product product() {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        return new Product(
+                1L,
+                "Smartphone",
+                "A great smartphone with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(),
+                seller);
+    }
+
+    @Configuration
+    static class TestConfig {
+
+        @Bean
+        FindProductGateway findProductGateway() {
+            return mock(FindProductGateway.class);
+        }
+
+        @Bean
+        FindProductUseCase findProductUseCase(FindProductGateway findProductGateway) {
+            return new FindProductUseCase(findProductGateway);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.jozias.product.catalog.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CacheMetricsConfig")
+class CacheMetricsConfigTest {
+
+    @Test
+    @DisplayName("given weighted caches when binding meters then should expose their estimated weight")
+    void givenWeightedCaches_whenBindingMeters_thenShouldExposeTheirEstimatedWeight() {
+        // given
+        CacheManager cacheManager = new CacheConfig().cacheManager(new CatalogCacheProperties(Map.of(
+                "products", new CatalogCacheProperties.CacheSpec(
+                        null, DataSize.ofMegabytes(1), null, null, null, false))), null);
+        Cache products = cacheManager.getCache("products");
+        products.put("0-20-UNSORTED", "page");
+        ((com.github.benmanes.caffeine.cache.Cache<?, ?>) products.getNativeCache()).cleanUp();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // when
+        new CacheMetricsConfig().cacheWeightMeterBinder(cacheManager).bindTo(registry);
+
+        // then
+        assertThat(registry.get("cache.weighted.size").tag("cache", "products").gauge().value()).isPositive();
+        assertThat(registry.find("cache.weighted.size").tag("cache", "productCount").gauge()).isNull();
+    }
+}
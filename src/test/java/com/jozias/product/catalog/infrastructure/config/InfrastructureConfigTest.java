@@ -8,14 +8,34 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.CacheManager;
 
 import com.jozias.product.catalog.domain.gateway.DeleteProductGateway;
+import com.jozias.product.catalog.domain.gateway.ExportProductGateway;
 import com.jozias.product.catalog.domain.gateway.FindProductGateway;
 import com.jozias.product.catalog.domain.gateway.FindSellerGateway;
+import com.jozias.product.catalog.domain.gateway.ProductStockGateway;
 import com.jozias.product.catalog.domain.gateway.SaveProductGateway;
+import com.jozias.product.catalog.application.cache.ProductDetailCache;
+import com.jozias.product.catalog.application.cache.ProductListingCache;
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.application.search.ProductSearchIndex;
+import com.jozias.product.catalog.infrastructure.cache.ProductDetailJsonCache;
+import com.jozias.product.catalog.application.usecase.CountProductUseCase;
 import com.jozias.product.catalog.application.usecase.CreateProductUseCase;
 import com.jozias.product.catalog.application.usecase.DeleteProductUsecase;
+import com.jozias.product.catalog.application.usecase.ExportProductsUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductFacetsUseCase;
 import com.jozias.product.catalog.application.usecase.FindProductUseCase;
+import com.jozias.product.catalog.application.usecase.FindProductsByIdsUseCase;
+import com.jozias.product.catalog.application.usecase.ImportProductsUseCase;
 import com.jozias.product.catalog.application.usecase.FindSellerUseCase;
+import com.jozias.product.catalog.application.usecase.PatchProductUseCase;
+import com.jozias.product.catalog.application.usecase.SearchProductsUseCase;
 import com.jozias.product.catalog.application.usecase.UpdateProductUseCase;
+import com.jozias.product.catalog.application.usecase.UpdateStockUseCase;
+import com.jozias.product.catalog.infrastructure.gateway.ColumnarFindProductGateway;
+import com.jozias.product.catalog.infrastructure.gateway.FindProductGatewayImpl;
+import com.jozias.product.catalog.infrastructure.readmodel.ColumnarProductReadModel;
+import com.jozias.product.catalog.infrastructure.readmodel.ProductReadModelLoader;
+import com.jozias.product.catalog.infrastructure.search.ProductSearchIndexLoader;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,13 +51,21 @@ class InfrastructureConfigTest {
     private DeleteProductGateway deleteProductGateway;
     @Mock
     private FindSellerGateway findSellerGateway;
+    @Mock
+    private ProductListingCache productListingCache;
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+    @Mock
+    private ProductReadModel productReadModel;
 
     @Test
     @DisplayName("CacheConfig should create CacheManager")
     void cacheConfig_shouldCreateCacheManager() {
         CacheConfig config = new CacheConfig();
-        CacheManager cacheManager = config.cacheManager();
+        CacheManager cacheManager = config.cacheManager(new CatalogCacheProperties(null), null);
         assertThat(cacheManager).isNotNull();
+        assertThat(cacheManager.getCacheNames()).contains("products", "productDetails", "productDetailsJson", "productCount",
+                "productFacets");
     }
 
     @Test
@@ -46,25 +74,77 @@ class InfrastructureConfigTest {
         ProductConfig config = new ProductConfig();
 
         // Gateways
-        FindProductGateway fpg = config.productGateway(null, null);
-        SaveProductGateway spg = config.saveProductGateway(null, null);
+        FindProductGateway fpg = config.productGateway(null, null, ProductReadModel.NONE);
+        SaveProductGateway spg = config.saveProductGateway(null, null, null);
         DeleteProductGateway dpg = config.deleteProductGateway(null);
+        ExportProductGateway epg = config.exportProductGateway(null, null, null, null);
+        ProductStockGateway psg = config.productStockGateway(null);
+        ProductListingCache plc = config.productListingCache(null);
+        ProductDetailJsonCache pdjc = config.productDetailJsonCache(null, null);
+        ProductDetailCache pdc = config.productDetailCache(null);
+        ProductSearchIndex psi = config.productSearchIndex();
+        ProductSearchIndexLoader psil = config.productSearchIndexLoader(epg, psi, 500);
+        ProductReadModel prm = config.productReadModel(false);
+        ProductReadModelLoader prml = config.productReadModelLoader(fpg, prm, 500);
 
         // Use cases
-        CreateProductUseCase createUseCase = config.createProductUseCase(saveProductGateway, findSellerGateway);
-        UpdateProductUseCase updateUseCase = config.updateProductUseCase(saveProductGateway, findProductGateway);
+        CreateProductUseCase createUseCase = config.createProductUseCase(saveProductGateway, findSellerGateway,
+                productListingCache, productSearchIndex, productReadModel);
+        UpdateProductUseCase updateUseCase = config.updateProductUseCase(saveProductGateway, findProductGateway,
+                productListingCache, productSearchIndex, productReadModel);
         FindProductUseCase findUseCase = config.productUseCase(findProductGateway);
-        DeleteProductUsecase deleteUseCase = config.deleteProductUsecase(deleteProductGateway);
+        CountProductUseCase countUseCase = config.countProductUseCase(findProductGateway);
+        FindProductFacetsUseCase facetsUseCase = config.findProductFacetsUseCase(findProductGateway);
+        FindProductsByIdsUseCase findByIdsUseCase = config.findProductsByIdsUseCase(findProductGateway, pdc);
+        ImportProductsUseCase importUseCase = config.importProductsUseCase(saveProductGateway, findSellerGateway,
+                productSearchIndex, productReadModel);
+        SearchProductsUseCase searchUseCase = config.searchProductsUseCase(productSearchIndex);
+        ExportProductsUseCase exportUseCase = config.exportProductsUseCase(epg, 500);
+        PatchProductUseCase patchUseCase = config.patchProductUseCase(saveProductGateway, findProductGateway,
+                productListingCache, productSearchIndex, productReadModel);
+        UpdateStockUseCase stockUseCase = config.updateStockUseCase(psg, pdc, productListingCache,
+                productReadModel);
+        DeleteProductUsecase deleteUseCase = config.deleteProductUsecase(deleteProductGateway, findProductGateway,
+                productListingCache, productSearchIndex, productReadModel);
 
         assertThat(fpg).isNotNull();
         assertThat(spg).isNotNull();
         assertThat(dpg).isNotNull();
+        assertThat(epg).isNotNull();
+        assertThat(psg).isNotNull();
+        assertThat(plc).isNotNull();
+        assertThat(pdjc).isNotNull();
+        assertThat(pdc).isNotNull();
+        assertThat(psi).isNotNull();
+        assertThat(psil).isNotNull();
+        assertThat(prm).isSameAs(ProductReadModel.NONE);
+        assertThat(prml).isNotNull();
         assertThat(createUseCase).isNotNull();
         assertThat(updateUseCase).isNotNull();
         assertThat(findUseCase).isNotNull();
+        assertThat(countUseCase).isNotNull();
+        assertThat(facetsUseCase).isNotNull();
+        assertThat(findByIdsUseCase).isNotNull();
+        assertThat(importUseCase).isNotNull();
+        assertThat(searchUseCase).isNotNull();
+        assertThat(exportUseCase).isNotNull();
+        assertThat(patchUseCase).isNotNull();
+        assertThat(stockUseCase).isNotNull();
         assertThat(deleteUseCase).isNotNull();
     }
 
+    @Test
+    @DisplayName("ProductConfig should serve listings from the columnar read model only when it is enabled")
+    void productConfig_shouldWrapTheGatewayOnlyWhenTheReadModelIsEnabled() {
+        ProductConfig config = new ProductConfig();
+
+        ProductReadModel enabled = config.productReadModel(true);
+
+        assertThat(enabled).isInstanceOf(ColumnarProductReadModel.class);
+        assertThat(config.productGateway(null, null, enabled)).isInstanceOf(ColumnarFindProductGateway.class);
+        assertThat(config.productGateway(null, null, ProductReadModel.NONE)).isInstanceOf(FindProductGatewayImpl.class);
+    }
+
     @Test
     @DisplayName("SellerConfig should create find seller use case and gateway")
     void sellerConfig_shouldCreateUseCaseAndGateway() {
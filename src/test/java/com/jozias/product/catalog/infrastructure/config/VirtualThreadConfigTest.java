@@ -0,0 +1,60 @@
+package com.jozias.product.catalog.infrastructure.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.jozias.product.catalog.infrastructure.persistence.datasource.ConcurrencyLimitedDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VirtualThreadConfig")
+class VirtualThreadConfigTest {
+
+    @Test
+    @DisplayName("given Hikari data source when post processed then should limit it to the pool size")
+    void givenHikariDataSource_whenPostProcessed_thenShouldLimitItToThePoolSize() {
+        // given
+        BeanPostProcessor postProcessor = postProcessor(new MockEnvironment());
+        HikariDataSource hikari = new HikariDataSource();
+        hikari.setMaximumPoolSize(7);
+
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(hikari, "dataSource");
+
+        // then
+        assertThat(processed).isInstanceOf(ConcurrencyLimitedDataSource.class);
+        assertThat(((ConcurrencyLimitedDataSource) processed).getMaxConcurrency()).isEqualTo(7);
+        assertThat(((ConcurrencyLimitedDataSource) processed).getTargetDataSource()).isSameAs(hikari);
+    }
+
+    @Test
+    @DisplayName("given explicit concurrency limit when post processed then should use it")
+    void givenExplicitConcurrencyLimit_whenPostProcessed_thenShouldUseIt() {
+        // given
+        BeanPostProcessor postProcessor = postProcessor(
+                new MockEnvironment().withProperty("catalog.datasource.concurrency-limit", "3"));
+
+        // when
+        Object processed = postProcessor.postProcessAfterInitialization(new HikariDataSource(), "dataSource");
+
+        // then
+        assertThat(((ConcurrencyLimitedDataSource) processed).getMaxConcurrency()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("given other bean when post processed then should return it untouched")
+    void givenOtherBean_whenPostProcessed_thenShouldReturnItUntouched() {
+        Object bean = new Object();
+        assertThat(postProcessor(new MockEnvironment()).postProcessAfterInitialization(bean, "other")).isSameAs(bean);
+    }
+
+    private static BeanPostProcessor postProcessor(MockEnvironment environment) {
+        BeanPostProcessor postProcessor = VirtualThreadConfig.concurrencyLimitedDataSourcePostProcessor();
+        ((EnvironmentAware) postProcessor).setEnvironment(environment);
+        return postProcessor;
+    }
+}
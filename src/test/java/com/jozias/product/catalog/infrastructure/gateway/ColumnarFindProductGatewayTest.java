@@ -0,0 +1,115 @@
+package com.jozias.product.catalog.infrastructure.gateway;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import com.jozias.product.catalog.infrastructure.readmodel.ColumnarProductReadModel;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ColumnarFindProductGateway")
+class ColumnarFindProductGatewayTest {
+
+    private static final ProductSummary NOTEBOOK = new ProductSummary(1L, "Notebook", new BigDecimal("3500.00"), 5,
+            Condition.NEW, "Electronics", 1L, null);
+    private static final ProductSummary SMARTPHONE = new ProductSummary(2L, "Smartphone", new BigDecimal("999.99"),
+            10, Condition.NEW, "Electronics", 1L, null);
+
+    @Mock
+    private FindProductGateway database;
+
+    private ColumnarProductReadModel readModel;
+    private ColumnarFindProductGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new ColumnarProductReadModel();
+        gateway = new ColumnarFindProductGateway(database, readModel);
+    }
+
+    @Test
+    @DisplayName("given a loaded read model when listSummaries then should not query the database")
+    void givenLoadedReadModel_whenListSummaries_thenShouldNotQueryTheDatabase() {
+        // given
+        load(NOTEBOOK, SMARTPHONE);
+
+        // when
+        Page<ProductSummary> page = gateway.listSummaries(ProductFilter.NONE,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.asc("price"))));
+
+        // then
+        assertThat(page.getContent()).containsExactly(SMARTPHONE, NOTEBOOK);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(gateway.count()).isEqualTo(2);
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    @DisplayName("given a read model still loading when listSummaries then should read the database")
+    void givenReadModelStillLoading_whenListSummaries_thenShouldReadTheDatabase() {
+        // given
+        readModel.beginLoad();
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<ProductSummary> fromDatabase = new PageImpl<>(List.of(NOTEBOOK), pageable, 1);
+        when(database.listSummaries(ProductFilter.NONE, pageable)).thenReturn(fromDatabase);
+        when(database.count()).thenReturn(1L);
+
+        // when & then
+        assertThat(gateway.listSummaries(ProductFilter.NONE, pageable)).isSameAs(fromDatabase);
+        assertThat(gateway.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("given a sort the read model cannot reproduce when sliceSummaries then should read the database")
+    void givenUnsupportedSort_whenSliceSummaries_thenShouldReadTheDatabase() {
+        // given
+        load(NOTEBOOK, SMARTPHONE);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Order.desc("availableQuantity")));
+
+        // when
+        gateway.sliceSummaries(ProductFilter.NONE, pageable);
+
+        // then
+        verify(database).sliceSummaries(ProductFilter.NONE, pageable);
+    }
+
+    @Test
+    @DisplayName("given a facet request when facets then should delegate to the database")
+    void givenFacetRequest_whenFacets_thenShouldDelegateToTheDatabase() {
+        // given
+        load(NOTEBOOK);
+
+        // when
+        gateway.facets(ProductFilter.NONE);
+
+        // then
+        verify(database).facets(ProductFilter.NONE);
+    }
+
+    private void load(ProductSummary... summaries) {
+        readModel.beginLoad();
+        readModel.load(List.of(summaries));
+        readModel.finishLoad();
+    }
+}
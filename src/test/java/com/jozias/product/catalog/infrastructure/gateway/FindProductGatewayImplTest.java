@@ -10,10 +10,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
 import com.jozias.product.catalog.domain.entity.Seller;
 import com.jozias.product.catalog.infrastructure.gateway.FindProductGatewayImpl;
 import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
@@ -24,10 +33,15 @@ import com.jozias.product.catalog.infrastructure.persistence.repository.ProductR
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,30 +96,108 @@ class FindProductGatewayImplTest {
     }
 
     @Test
-    @DisplayName("given products exist when list then should return mapped page")
-    void givenProductsExist_whenList_thenShouldReturnMappedPage() {
+    @DisplayName("given sort without id when listSummaries then should query projection with id tiebreaker")
+    void givenSortWithoutId_whenListSummaries_thenShouldQueryProjectionWithIdTiebreaker() {
         // given
-        Pageable pageable = PageRequest.of(0, 10);
-        Page<ProductEntity> entityPage = new PageImpl<>(List.of(productEntity), pageable, 1);
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+        Pageable expected = PageRequest.of(0, 10, Sort.by("name", "id"));
+        Page<ProductSummary> summaries = new PageImpl<>(List.of(ProductSummary.from(product)), expected, 1);
+        when(productRepository.findSummaries(expected)).thenReturn(summaries);
 
-        when(productRepository.findAll(pageable)).thenReturn(entityPage);
-        when(productEntityMapper.toDomain(any(ProductEntity.class))).thenReturn(product);
+        // when
+        Page<ProductSummary> result = findProductGateway.listSummaries(ProductFilter.NONE, pageable);
+
+        // then
+        assertThat(result).isSameAs(summaries);
+        verify(productEntityMapper, never()).toDomain(any());
+    }
+
+    @Test
+    @DisplayName("given a filter when listSummaries then should query the filtered projection with id tiebreaker")
+    void givenFilter_whenListSummaries_thenShouldQueryFilteredProjection() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("price"));
+        Pageable expected = PageRequest.of(0, 10, Sort.by("price", "id"));
+        ProductFilter filter = new ProductFilter("Electronics", null, null, null, null, true);
+        Page<ProductSummary> summaries = new PageImpl<>(List.of(ProductSummary.from(product)), expected, 1);
+        when(productRepository.findFilteredSummaries(any(), eq(expected))).thenReturn(summaries);
+
+        // when
+        Page<ProductSummary> result = findProductGateway.listSummaries(filter, pageable);
+
+        // then
+        assertThat(result).isSameAs(summaries);
+        verify(productRepository, never()).findSummaries(any());
+    }
+
+    @Test
+    @DisplayName("given pageable when sliceSummaries then should query slice without count")
+    void givenPageable_whenSliceSummaries_thenShouldQuerySliceWithoutCount() {
+        // given
+        Pageable pageable = PageRequest.of(1, 10);
+        Pageable expected = PageRequest.of(1, 10, Sort.by("id"));
+        Slice<ProductSummary> slice = new SliceImpl<>(List.of(ProductSummary.from(product)), expected, false);
+        when(productRepository.findSummarySlice(expected)).thenReturn(slice);
+
+        // when
+        Slice<ProductSummary> result = findProductGateway.sliceSummaries(ProductFilter.NONE, pageable);
+
+        // then
+        assertThat(result).isSameAs(slice);
+        verify(productRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("given filter when facets then should count through the filter specification")
+    void givenFilter_whenFacets_thenShouldCountThroughTheFilterSpecification() {
+        // given
+        ProductFilter filter = new ProductFilter("Electronics", null, null, null, null, false);
+        ProductFacets facets = ProductFacets.counter().add(Condition.NEW, "Electronics", 1L, 0, 2).build();
+        when(productRepository.countFacets(any())).thenReturn(facets);
 
         // when
-        Page<Product> result = findProductGateway.list(pageable);
+        ProductFacets result = findProductGateway.facets(filter);
 
         // then
-        assertThat(result).isNotNull();
-        assertThat(result.getContent()).hasSize(1);
-        assertThat(result.getContent().get(0)).isEqualTo(product);
-        verify(productRepository).findAll(pageable);
+        assertThat(result).isSameAs(facets);
+        verify(productRepository).countFacets(any());
+    }
+
+    @Test
+    @DisplayName("given more rows than the window when scrollSummaries then should trim and expose next position")
+    void givenMoreRowsThanTheWindow_whenScrollSummaries_thenShouldTrimAndExposeNextPosition() {
+        // given
+        ProductSummary first = new ProductSummary(1L, "Mouse", new BigDecimal("50.00"), 1, Condition.NEW, "Electronics", 1L, null);
+        ProductSummary second = new ProductSummary(2L, "Notebook", new BigDecimal("3000.00"), 1, Condition.NEW, "Electronics", 1L, null);
+        Map<String, Object> after = Map.of("name", "Keyboard", "id", 9L);
+        when(productRepository.findSummariesAfter(any(), eq(Sort.Order.asc("name")), eq(after), eq(2))).thenReturn(List.of(first, second));
+
+        // when
+        Window<ProductSummary> window = findProductGateway.scrollSummaries(ProductFilter.NONE,
+                ScrollPosition.forward(after), Sort.Order.asc("name"), 1);
+
+        // then
+        assertThat(window.getContent()).containsExactly(first);
+        assertThat(window.hasNext()).isTrue();
+        assertThat(((KeysetScrollPosition) window.positionAt(0)).getKeys())
+                .containsEntry("name", "Mouse")
+                .containsEntry("id", 1L);
+    }
+
+    @Test
+    @DisplayName("given sort without seek index when scrollSummaries then should throw IllegalArgumentException")
+    void givenSortWithoutSeekIndex_whenScrollSummaries_thenShouldThrowIllegalArgumentException() {
+        assertThatThrownBy(() -> findProductGateway.scrollSummaries(ProductFilter.NONE,
+                ScrollPosition.keyset(), Sort.Order.asc("category"), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(productRepository, never()).findSummariesAfter(any(), any(), any(), anyInt());
     }
 
     @Test
     @DisplayName("given existing id when findById then should return mapped product")
     void givenExistingId_whenFindById_thenShouldReturnMappedProduct() {
         // given
-        when(productRepository.findById(1L)).thenReturn(Optional.of(productEntity));
+        when(productRepository.findAllWithVariantsByIdIn(List.of(1L))).thenReturn(List.of(productEntity));
         when(productEntityMapper.toDomain(productEntity)).thenReturn(product);
 
         // when
@@ -114,20 +206,42 @@ class FindProductGatewayImplTest {
         // then
         assertThat(result).isPresent();
         assertThat(result.get()).isEqualTo(product);
-        verify(productRepository).findById(1L);
+        verify(productRepository).fetchVariantValues(List.of(1L));
     }
 
     @Test
     @DisplayName("given non-existent id when findById then should return empty")
     void givenNonExistentId_whenFindById_thenShouldReturnEmpty() {
         // given
-        when(productRepository.findById(999L)).thenReturn(Optional.empty());
+        when(productRepository.findAllWithVariantsByIdIn(List.of(999L))).thenReturn(List.of());
 
         // when
         Optional<Product> result = findProductGateway.findById(999L);
 
         // then
         assertThat(result).isEmpty();
-        verify(productRepository).findById(999L);
+        verify(productRepository, never()).fetchVariantValues(any());
+    }
+
+    @Test
+    @DisplayName("given several ids when findAllByIds then should load them with variants in one round")
+    void givenSeveralIds_whenFindAllByIds_thenShouldLoadThemWithVariantsInOneRound() {
+        // given
+        when(productRepository.findAllWithVariantsByIdIn(List.of(1L, 999L))).thenReturn(List.of(productEntity));
+        when(productEntityMapper.toDomain(productEntity)).thenReturn(product);
+
+        // when
+        List<Product> result = findProductGateway.findAllByIds(List.of(1L, 999L));
+
+        // then
+        assertThat(result).containsExactly(product);
+        verify(productRepository).fetchVariantValues(List.of(1L, 999L));
+    }
+
+    @Test
+    @DisplayName("given no ids when findAllByIds then should not query")
+    void givenNoIds_whenFindAllByIds_thenShouldNotQuery() {
+        assertThat(findProductGateway.findAllByIds(List.of())).isEmpty();
+        verify(productRepository, never()).findAllWithVariantsByIdIn(any());
     }
 }
@@ -14,6 +14,7 @@ import com.jozias.product.catalog.infrastructure.persistence.entity.SellerEntity
 import com.jozias.product.catalog.infrastructure.persistence.mapper.SellerEntityMapper;
 import com.jozias.product.catalog.infrastructure.persistence.repository.SellerRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -77,4 +78,19 @@ class FindSellerGatewayImplTest {
         assertThat(result).isEmpty();
         verify(sellerRepository).findById(999L);
     }
+
+    @Test
+    @DisplayName("given several ids when findAllById then should load them in one call")
+    void givenSeveralIds_whenFindAllById_thenShouldLoadThemInOneCall() {
+        // given
+        when(sellerRepository.findAllById(List.of(1L, 999L))).thenReturn(List.of(sellerEntity));
+        when(sellerEntityMapper.toDomain(sellerEntity)).thenReturn(seller);
+
+        // when
+        List<Seller> result = findSellerGateway.findAllById(List.of(1L, 999L));
+
+        // then
+        assertThat(result).containsExactly(seller);
+        verify(sellerRepository).findAllById(List.of(1L, 999L));
+    }
 }
@@ -0,0 +1,89 @@
+package com.jozias.product.catalog.infrastructure.gateway;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import com.jozias.product.catalog.domain.exception.EntityNotFoundException;
+import com.jozias.product.catalog.domain.exception.InsufficientStockException;
+import com.jozias.product.catalog.infrastructure.persistence.repository.ProductRepository;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductStockGatewayImpl")
+class ProductStockGatewayImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductStockGatewayImpl productStockGateway;
+
+    @Test
+    @DisplayName("given existing product when setAvailableQuantity then should return the new stock level")
+    void givenExistingProduct_whenSetAvailableQuantity_thenShouldReturnTheNewStockLevel() {
+        // given
+        when(productRepository.setAvailableQuantity(1L, 15)).thenReturn(1);
+        when(productRepository.findStockLevelById(1L)).thenReturn(Optional.of(new StockLevel(15, 4L)));
+
+        // when / then
+        assertThat(productStockGateway.setAvailableQuantity(1L, 15)).isEqualTo(new StockLevel(15, 4L));
+    }
+
+    @Test
+    @DisplayName("given missing product when setAvailableQuantity then should throw EntityNotFoundException")
+    void givenMissingProduct_whenSetAvailableQuantity_thenShouldThrowEntityNotFoundException() {
+        // given
+        when(productRepository.setAvailableQuantity(99L, 15)).thenReturn(0);
+
+        // when / then
+        assertThatThrownBy(() -> productStockGateway.setAvailableQuantity(99L, 15))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessage("Product not found with id: 99");
+    }
+
+    @Test
+    @DisplayName("given enough stock when adjustAvailableQuantity then should return the stock level read back")
+    void givenEnoughStock_whenAdjustAvailableQuantity_thenShouldReturnTheStockLevelReadBack() {
+        // given
+        when(productRepository.adjustAvailableQuantity(1L, -4)).thenReturn(1);
+        when(productRepository.findStockLevelById(1L)).thenReturn(Optional.of(new StockLevel(6, 4L)));
+
+        // when / then
+        assertThat(productStockGateway.adjustAvailableQuantity(1L, -4)).isEqualTo(new StockLevel(6, 4L));
+    }
+
+    @Test
+    @DisplayName("given too little stock when adjustAvailableQuantity then should throw InsufficientStockException")
+    void givenTooLittleStock_whenAdjustAvailableQuantity_thenShouldThrowInsufficientStockException() {
+        // given
+        when(productRepository.adjustAvailableQuantity(1L, -20)).thenReturn(0);
+        when(productRepository.findStockLevelById(1L)).thenReturn(Optional.of(new StockLevel(6, 3L)));
+
+        // when / then
+        assertThatThrownBy(() -> productStockGateway.adjustAvailableQuantity(1L, -20))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessage("Insufficient stock for product 1: 6 available, 20 requested");
+    }
+
+    @Test
+    @DisplayName("given missing product when adjustAvailableQuantity then should throw EntityNotFoundException")
+    void givenMissingProduct_whenAdjustAvailableQuantity_thenShouldThrowEntityNotFoundException() {
+        // given
+        when(productRepository.adjustAvailableQuantity(99L, 1)).thenReturn(0);
+        when(productRepository.findStockLevelById(99L)).thenReturn(Optional.empty());
+
+        // when / then
+        assertThatThrownBy(() -> productStockGateway.adjustAvailableQuantity(99L, 1))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+}
@@ -1,5 +1,7 @@
 package com.jozias.product.catalog.infrastructure.gateway;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -7,9 +9,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import com.jozias.product.catalog.domain.entity.Condition;
 import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.ProductVariantValue;
 import com.jozias.product.catalog.domain.entity.Seller;
 import com.jozias.product.catalog.infrastructure.gateway.SaveProductGatewayImpl;
 import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
@@ -19,9 +24,15 @@ import com.jozias.product.catalog.infrastructure.persistence.repository.ProductR
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +45,9 @@ class SaveProductGatewayImplTest {
     @Mock
     private ProductEntityMapper productEntityMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private SaveProductGatewayImpl saveProductGateway;
 
@@ -91,7 +105,7 @@ class SaveProductGatewayImplTest {
                 seller);
 
         when(productEntityMapper.toEntity(product)).thenReturn(productEntity);
-        when(productRepository.save(productEntity)).thenReturn(productEntity);
+        when(productRepository.saveAndFlush(productEntity)).thenReturn(productEntity);
         when(productEntityMapper.toDomain(productEntity)).thenReturn(savedProduct);
 
         // when
@@ -101,7 +115,103 @@ class SaveProductGatewayImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(1L);
         verify(productEntityMapper).toEntity(product);
-        verify(productRepository).save(productEntity);
+        verify(productRepository).saveAndFlush(productEntity);
         verify(productEntityMapper).toDomain(productEntity);
+        verifyNoInteractions(entityManager);
+    }
+
+    @Test
+    @DisplayName("given only variants changed when save then should force a version increment")
+    void givenOnlyVariantsChanged_whenSave_thenShouldForceAVersionIncrement() {
+        // given
+        Product stored = storedProduct(3L);
+        stored.updateVariants(List.of(new ProductVariant(null, "Color", List.of(new ProductVariantValue("Black")))));
+        when(productEntityMapper.toEntity(stored)).thenReturn(productEntity);
+        when(productRepository.saveAndFlush(productEntity)).thenReturn(productEntity);
+
+        // when
+        saveProductGateway.save(stored);
+
+        // then
+        verify(entityManager).lock(productEntity, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+    }
+
+    @Test
+    @DisplayName("given product loaded at an older version when saveChanges then should fail without writing")
+    void givenProductLoadedAtAnOlderVersion_whenSaveChanges_thenShouldFailWithoutWriting() {
+        // given
+        Product stored = storedProduct(3L);
+        stored.patch(null, null, new BigDecimal("79.90"), null, null, null);
+        productEntity.setVersion(4L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(productEntity));
+
+        // when & then
+        assertThatThrownBy(() -> saveProductGateway.saveChanges(stored))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(productEntity.getPrice()).isEqualByComparingTo("999.99");
+        verify(productRepository, never()).flush();
+    }
+
+    @Test
+    @DisplayName("given current version when saveChanges then should return the product at the flushed version")
+    void givenCurrentVersion_whenSaveChanges_thenShouldReturnTheProductAtTheFlushedVersion() {
+        // given
+        Product stored = storedProduct(3L);
+        stored.patch(null, null, new BigDecimal("79.90"), null, null, null);
+        productEntity.setVersion(3L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(productEntity));
+        doAnswer(invocation -> {
+            productEntity.setVersion(4L);
+            return null;
+        }).when(productRepository).flush();
+
+        // when
+        Product result = saveProductGateway.saveChanges(stored);
+
+        // then
+        assertThat(productEntity.getPrice()).isEqualByComparingTo("79.90");
+        assertThat(result.getVersion()).isEqualTo(4L);
+        assertThat(result.getPrice()).isEqualByComparingTo("79.90");
+    }
+
+    private Product storedProduct(Long version) {
+        return Product.rehydrate()
+                .id(1L)
+                .name("Smartphone")
+                .description("A great smartphone with amazing features")
+                .price(new BigDecimal("999.99"))
+                .availableQuantity(10)
+                .condition(Condition.NEW)
+                .category("Electronics")
+                .seller(seller)
+                .version(version)
+                .build();
+    }
+
+    @Test
+    @DisplayName("given products when saveAll then should save them in a single repository call")
+    void givenProducts_whenSaveAll_thenShouldSaveThemInASingleRepositoryCall() {
+        // given
+        Product savedProduct = new Product(
+                1L,
+                "Smartphone",
+                "A great smartphone with amazing features",
+                new BigDecimal("999.99"),
+                10,
+                Condition.NEW,
+                "Electronics",
+                new ArrayList<>(),
+                seller);
+
+        when(productEntityMapper.toEntity(product)).thenReturn(productEntity);
+        when(productRepository.saveAll(List.of(productEntity))).thenReturn(List.of(productEntity));
+        when(productEntityMapper.toDomain(productEntity)).thenReturn(savedProduct);
+
+        // when
+        List<Product> result = saveProductGateway.saveAll(List.of(product));
+
+        // then
+        assertThat(result).containsExactly(savedProduct);
+        verify(productRepository).saveAll(List.of(productEntity));
     }
 }
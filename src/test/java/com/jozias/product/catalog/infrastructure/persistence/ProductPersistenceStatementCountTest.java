@@ -0,0 +1,334 @@
+package com.jozias.product.catalog.infrastructure.persistence;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import com.jozias.product.catalog.domain.exception.InsufficientStockException;
+import com.jozias.product.catalog.infrastructure.gateway.ExportProductGatewayImpl;
+import com.jozias.product.catalog.infrastructure.gateway.FindProductGatewayImpl;
+import com.jozias.product.catalog.infrastructure.gateway.ProductStockGatewayImpl;
+import com.jozias.product.catalog.infrastructure.gateway.SaveProductGatewayImpl;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductVariantEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductVariantValueEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.SellerEntity;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapper;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductVariantEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.ProductVariantValueEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.mapper.SellerEntityMapperImpl;
+import com.jozias.product.catalog.infrastructure.persistence.repository.ProductRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.sql.init.mode=never" })
+@Import({
+        ProductEntityMapperImpl.class,
+        ProductVariantEntityMapperImpl.class,
+        ProductVariantValueEntityMapperImpl.class,
+        SellerEntityMapperImpl.class })
+@DisplayName("Product persistence statement count")
+class ProductPersistenceStatementCountTest {
+
+    private static final int VARIANTS_PER_PRODUCT = 5;
+    private static final int VALUES_PER_VARIANT = 10;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductEntityMapper productEntityMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private SellerEntity seller;
+
+    @BeforeEach
+    void setUp() {
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        seller = testEntityManager.persist(new SellerEntity("Tech Store", "Best tech products", 95));
+    }
+
+    @Test
+    @DisplayName("given 100 rich products when listSummaries then should not materialize any entity")
+    void given100RichProducts_whenListSummaries_thenShouldNotMaterializeAnyEntity() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            testEntityManager.persist(richProduct("Product " + i));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+        FindProductGatewayImpl gateway = new FindProductGatewayImpl(productRepository, productEntityMapper);
+
+        // when
+        Page<ProductSummary> page = gateway.listSummaries(ProductFilter.NONE, PageRequest.of(0, 100));
+
+        // then
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(page.getContent()).allSatisfy(summary -> assertThat(summary.sellerId()).isEqualTo(seller.getId()));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        // summaries page + count
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("given 100 rich products when listSummaries with a filter then should not materialize any entity")
+    void given100RichProducts_whenListSummariesWithFilter_thenShouldNotMaterializeAnyEntity() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            testEntityManager.persist(richProduct("Product " + i));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+        FindProductGatewayImpl gateway = new FindProductGatewayImpl(productRepository, productEntityMapper);
+        ProductFilter filter = new ProductFilter(null, null, null, null, seller.getId(), true);
+
+        // when
+        Page<ProductSummary> page = gateway.listSummaries(filter, PageRequest.of(0, 40));
+
+        // then
+        assertThat(page.getContent()).hasSize(40);
+        assertThat(page.getTotalElements()).isEqualTo(100);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        // filtered summaries page + filtered count
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("given 100 rich products when facets then should count every facet in one statement")
+    void given100RichProducts_whenFacets_thenShouldCountEveryFacetInOneStatement() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            testEntityManager.persist(richProduct("Product " + i));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+        FindProductGatewayImpl gateway = new FindProductGatewayImpl(productRepository, productEntityMapper);
+
+        // when
+        ProductFacets facets = gateway.facets(new ProductFilter(null, null, null, null, seller.getId(), false));
+
+        // then
+        assertThat(facets.sellers()).containsEntry(seller.getId(), 100L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("given 100 rich products when sliceSummaries then should issue a single statement")
+    void given100RichProducts_whenSliceSummaries_thenShouldIssueASingleStatement() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            testEntityManager.persist(richProduct("Product " + i));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+        FindProductGatewayImpl gateway = new FindProductGatewayImpl(productRepository, productEntityMapper);
+
+        // when
+        Slice<ProductSummary> slice = gateway.sliceSummaries(ProductFilter.NONE, PageRequest.of(0, 50));
+
+        // then
+        assertThat(slice.getContent()).hasSize(50);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("given a rich product when saved then should insert it in batched statements")
+    void givenARichProduct_whenSaved_thenShouldInsertItInBatchedStatements() {
+        // given
+        testEntityManager.flush();
+        statistics.clear();
+        ProductEntity product = richProduct("Batched product");
+
+        // when
+        productRepository.save(product);
+        testEntityManager.flush();
+
+        // then
+        assertThat(product.getId()).isNotNull();
+        assertThat(product.getVariants()).allSatisfy(variant -> assertThat(variant.getId()).isNotNull());
+        assertThat(statistics.getEntityInsertCount())
+                .isEqualTo(1 + VARIANTS_PER_PRODUCT + VARIANTS_PER_PRODUCT * VALUES_PER_VARIANT);
+        // one batched insert per table plus at most two sequence calls per table,
+        // instead of one statement per row with identity columns
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("given a patched price when saveChanges then should update only the product row")
+    void givenAPatchedPrice_whenSaveChanges_thenShouldUpdateOnlyTheProductRow() {
+        // given
+        ProductEntity stored = testEntityManager.persist(richProduct("Patched product"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        SaveProductGatewayImpl gateway = new SaveProductGatewayImpl(productRepository, productEntityMapper,
+                testEntityManager.getEntityManager());
+        Product product = new FindProductGatewayImpl(productRepository, productEntityMapper)
+                .findById(stored.getId()).orElseThrow();
+        product.patch(null, null, new BigDecimal("79.90"), null, null, null);
+        testEntityManager.clear();
+        statistics.clear();
+
+        // when
+        gateway.saveChanges(product);
+        testEntityManager.flush();
+
+        // then
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        // product select + dynamic update of the price column
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        testEntityManager.clear();
+        assertThat(productRepository.findById(stored.getId()).orElseThrow().getPrice()).isEqualByComparingTo("79.90");
+    }
+
+    @Test
+    @DisplayName("given a rich product when adjustAvailableQuantity then should update the row without loading the product")
+    void givenARichProduct_whenAdjustAvailableQuantity_thenShouldUpdateTheRowWithoutLoadingTheProduct() {
+        // given
+        ProductEntity stored = testEntityManager.persist(richProduct("Stocked product"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+        ProductStockGatewayImpl gateway = new ProductStockGatewayImpl(productRepository);
+
+        // when
+        StockLevel stockLevel = gateway.adjustAvailableQuantity(stored.getId(), -4);
+
+        // then
+        assertThat(stockLevel.availableQuantity()).isEqualTo(6);
+        assertThat(stockLevel.version()).isEqualTo(stored.getVersion() + 1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        // conditional update + stock level read-back
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThatThrownBy(() -> gateway.adjustAvailableQuantity(stored.getId(), -7))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(productRepository.findStockLevelById(stored.getId())).contains(stockLevel);
+    }
+
+    @Test
+    @DisplayName("given product read before a stock write when saved then should be rejected as stale")
+    void givenProductReadBeforeAStockWrite_whenSaved_thenShouldBeRejectedAsStale() {
+        // given
+        ProductEntity stored = testEntityManager.persist(richProduct("Contended product"));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        Product product = new FindProductGatewayImpl(productRepository, productEntityMapper)
+                .findById(stored.getId()).orElseThrow();
+        testEntityManager.clear();
+        new ProductStockGatewayImpl(productRepository).adjustAvailableQuantity(stored.getId(), -1);
+        product.patch(null, null, new BigDecimal("79.90"), null, null, null);
+        SaveProductGatewayImpl gateway = new SaveProductGatewayImpl(productRepository, productEntityMapper,
+                testEntityManager.getEntityManager());
+
+        // when & then
+        assertThatThrownBy(() -> gateway.saveChanges(product))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> gateway.save(product))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @DisplayName("given 100 rich products when exportAll then should load chunks in constant statements and clear the context")
+    void given100RichProducts_whenExportAll_thenShouldLoadChunksInConstantStatementsAndClearTheContext() {
+        // given
+        for (int i = 0; i < 100; i++) {
+            testEntityManager.persist(richProduct("Product " + i));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        long total = productRepository.count();
+        statistics.clear();
+        ExportProductGatewayImpl gateway = new ExportProductGatewayImpl(
+                productRepository, productEntityMapper, testEntityManager.getEntityManager(), transactionManager);
+        Session session = testEntityManager.getEntityManager().unwrap(Session.class);
+        List<Integer> managedAfterChunk = new ArrayList<>();
+        List<Long> exportedIds = new ArrayList<>();
+
+        // when
+        gateway.exportAll(50, chunk -> {
+            managedAfterChunk.add(session.getStatistics().getEntityCount());
+            chunk.forEach(product -> exportedIds.add(product.getId()));
+        });
+
+        // then
+        assertThat(exportedIds).hasSize((int) total).isSorted();
+        assertThat(managedAfterChunk).allSatisfy(count -> assertThat(count).isZero());
+        long chunks = (total + 49) / 50;
+        // (id seek + products/variants/seller + variant values) per chunk + the seek finding no more ids
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 * chunks + 1);
+    }
+
+    private ProductEntity richProduct(String name) {
+        ProductEntity product = new ProductEntity();
+        product.setName(name);
+        product.setDescription("A rich product used to count statements");
+        product.setPrice(new BigDecimal("99.90"));
+        product.setAvailableQuantity(10);
+        product.setCondition(Condition.NEW);
+        product.setCategory("Electronics");
+        product.setSeller(seller);
+
+        List<ProductVariantEntity> variants = new ArrayList<>();
+        for (int v = 0; v < VARIANTS_PER_PRODUCT; v++) {
+            ProductVariantEntity variant = new ProductVariantEntity();
+            variant.setType("Type " + v);
+            variant.setProduct(product);
+
+            List<ProductVariantValueEntity> values = new ArrayList<>();
+            for (int i = 0; i < VALUES_PER_VARIANT; i++) {
+                ProductVariantValueEntity value = new ProductVariantValueEntity();
+                value.setValue("Value " + i);
+                value.setVariant(variant);
+                values.add(value);
+            }
+            variant.setValues(values);
+            variants.add(variant);
+        }
+        product.setVariants(variants);
+        return product;
+    }
+}
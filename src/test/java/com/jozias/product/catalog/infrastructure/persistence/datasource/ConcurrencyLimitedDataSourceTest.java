@@ -0,0 +1,110 @@
+package com.jozias.product.catalog.infrastructure.persistence.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ConcurrencyLimitedDataSource")
+class ConcurrencyLimitedDataSourceTest {
+
+    private DataSource target;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    @DisplayName("given all permits taken when getConnection then should time out until a connection is closed")
+    void givenAllPermitsTaken_whenGetConnection_thenShouldTimeOutUntilAConnectionIsClosed() throws SQLException {
+        // given
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, Duration.ofMillis(50));
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        // when / then
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("given target fails when getConnection then should give the permit back")
+    void givenTargetFails_whenGetConnection_thenShouldGiveThePermitBack() throws SQLException {
+        // given
+        when(target.getConnection()).thenThrow(new SQLException("down"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        // when / then
+        assertThatThrownBy(dataSource::getConnection).hasMessage("down");
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("given connection when closed then should close the target connection")
+    void givenConnection_whenClosed_thenShouldCloseTheTargetConnection() throws SQLException {
+        // given
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        // when
+        dataSource.getConnection().close();
+
+        // then
+        verify(physical).close();
+    }
+
+    @Test
+    @DisplayName("given a virtual thread stampede when getConnection then should never exceed the limit")
+    void givenAVirtualThreadStampede_whenGetConnection_thenShouldNeverExceedTheLimit() throws Exception {
+        // given
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 4, Duration.ofSeconds(10));
+        AtomicInteger inUse = new AtomicInteger();
+        AtomicInteger maxInUse = new AtomicInteger();
+        List<Future<?>> calls = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                calls.add(executor.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        maxInUse.accumulateAndGet(inUse.incrementAndGet(), Math::max);
+                        Thread.sleep(1);
+                        inUse.decrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> call : calls) {
+                call.get();
+            }
+        }
+
+        // then
+        assertThat(maxInUse.get()).isBetween(1, 4);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(4);
+    }
+}
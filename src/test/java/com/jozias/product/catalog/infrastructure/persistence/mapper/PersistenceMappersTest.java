@@ -120,6 +120,7 @@ class PersistenceMappersTest {
         entity.setCategory("Electronics");
         entity.setSeller(sellerEntity);
         entity.setVariants(new ArrayList<>());
+        entity.setVersion(3L);
 
         // when
         Product domain = productMapper.toDomain(entity);
@@ -128,6 +129,33 @@ class PersistenceMappersTest {
         assertThat(domain.getId()).isEqualTo(1L);
         assertThat(domain.getName()).isEqualTo("Smartphone");
         assertThat(domain.getSeller().getId()).isEqualTo(1L);
+        assertThat(domain.getVersion()).isEqualTo(3L);
+        assertThat(productMapper.toEntity(domain).getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("given ProductEntity stored before a validation rule when toDomain then should rehydrate without revalidating")
+    void givenProductEntityStoredBeforeAValidationRule_whenToDomain_thenShouldRehydrateWithoutRevalidating() {
+        // given
+        SellerEntity sellerEntity = new SellerEntity();
+        sellerEntity.setId(1L);
+
+        ProductEntity entity = new ProductEntity();
+        entity.setId(2L);
+        entity.setName("TV");
+        entity.setDescription("Short");
+        entity.setPrice(new BigDecimal("10.00"));
+        entity.setCondition(Condition.USED);
+        entity.setCategory("AV");
+        entity.setSeller(sellerEntity);
+
+        // when
+        Product domain = productMapper.toDomain(entity);
+
+        // then
+        assertThat(domain.getName()).isEqualTo("TV");
+        assertThat(domain.getDescription()).isEqualTo("Short");
+        assertThat(domain.getVariants()).isEmpty();
     }
 
     @Test
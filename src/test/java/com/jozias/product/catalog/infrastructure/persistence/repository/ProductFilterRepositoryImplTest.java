@@ -0,0 +1,157 @@
+package com.jozias.product.catalog.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFacets;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.SellerEntity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@DisplayName("ProductFilterRepositoryImpl")
+class ProductFilterRepositoryImplTest {
+
+    private static final List<String> CATEGORIES = List.of("Electronics", "Books", "Toys");
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long otherSellerId;
+
+    @BeforeEach
+    void setUp() {
+        SellerEntity seller = testEntityManager.persist(new SellerEntity("Tech Store", "Best tech products", 95));
+        SellerEntity otherSeller = testEntityManager.persist(new SellerEntity("Book Store", "Best books", 90));
+        otherSellerId = otherSeller.getId();
+        for (int i = 0; i < 30; i++) {
+            testEntityManager.persist(product(
+                    "Filter " + i,
+                    BigDecimal.valueOf(10L * (i % 7)),
+                    i % 4,
+                    i % 2 == 0 ? Condition.NEW : Condition.USED,
+                    CATEGORIES.get(i % CATEGORIES.size()),
+                    i % 5 == 0 ? otherSeller : seller));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("given every criterion when findFilteredSummaries then should match the in-memory filter")
+    void givenEveryCriterion_whenFindFilteredSummaries_thenShouldMatchTheInMemoryFilter() {
+        assertPageMatches(new ProductFilter("Electronics", null, null, null, null, false));
+        assertPageMatches(new ProductFilter(null, Condition.USED, null, null, null, false));
+        assertPageMatches(new ProductFilter(null, null, new BigDecimal("20"), new BigDecimal("40"), null, false));
+        assertPageMatches(new ProductFilter(null, null, null, null, otherSellerId, false));
+        assertPageMatches(new ProductFilter(null, null, null, null, null, true));
+        assertPageMatches(new ProductFilter("Books", Condition.NEW, new BigDecimal("10"), null, null, true));
+    }
+
+    @Test
+    @DisplayName("given no criterion when findFilteredSummaries then should list the whole catalog")
+    void givenNoCriterion_whenFindFilteredSummaries_thenShouldListTheWholeCatalog() {
+        // when
+        Page<ProductSummary> page = productRepository.findFilteredSummaries(
+                ProductSpecifications.matching(ProductFilter.NONE), PageRequest.of(0, 100, Sort.by("id")));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("given more matches than the slice when findFilteredSummarySlice then should flag a next slice")
+    void givenMoreMatchesThanTheSlice_whenFindFilteredSummarySlice_thenShouldFlagNextSlice() {
+        // given
+        ProductFilter filter = new ProductFilter("Electronics", null, null, null, null, false);
+
+        // when
+        Slice<ProductSummary> first = productRepository.findFilteredSummarySlice(
+                ProductSpecifications.matching(filter), PageRequest.of(0, 6, Sort.by("id")));
+        Slice<ProductSummary> last = productRepository.findFilteredSummarySlice(
+                ProductSpecifications.matching(filter), PageRequest.of(1, 6, Sort.by("id")));
+
+        // then
+        assertThat(first.getContent()).hasSize(6).allMatch(filter::matches);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(4).allMatch(filter::matches);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("given filter when countFacets then should match the counts of the in-memory filter")
+    void givenFilter_whenCountFacets_thenShouldMatchTheCountsOfTheInMemoryFilter() {
+        assertFacetsMatch(ProductFilter.NONE);
+        assertFacetsMatch(new ProductFilter("Books", null, null, null, null, true));
+        assertFacetsMatch(new ProductFilter(null, Condition.NEW, new BigDecimal("30"), null, null, false));
+    }
+
+    private void assertFacetsMatch(ProductFilter filter) {
+        // given
+        ProductFacets.Counter expected = ProductFacets.counter();
+        productRepository.findAll().stream()
+                .map(product -> productRepository.findSummaryById(product.getId()).orElseThrow())
+                .filter(filter::matches)
+                .forEach(summary -> expected.add(summary.condition(), summary.category(), summary.sellerId(),
+                        ProductFacets.priceRangeOf(summary.price()), 1));
+
+        // when
+        ProductFacets facets = productRepository.countFacets(ProductSpecifications.matching(filter));
+
+        // then
+        assertThat(facets).isEqualTo(expected.build());
+        assertThat(facets.categories()).isNotEmpty();
+    }
+
+    private void assertPageMatches(ProductFilter filter) {
+        // given
+        List<ProductSummary> expected = productRepository.findAll().stream()
+                .map(product -> productRepository.findSummaryById(product.getId()).orElseThrow())
+                .filter(filter::matches)
+                .sorted(Comparator.comparing(ProductSummary::price).thenComparing(ProductSummary::id))
+                .toList();
+
+        // when
+        Page<ProductSummary> page = productRepository.findFilteredSummaries(ProductSpecifications.matching(filter),
+                PageRequest.of(0, 100, Sort.by("price", "id")));
+
+        // then
+        assertThat(expected).isNotEmpty();
+        assertThat(page.getContent()).containsExactlyElementsOf(expected);
+        assertThat(page.getTotalElements()).isEqualTo(expected.size());
+    }
+
+    private static ProductEntity product(String name, BigDecimal price, int availableQuantity, Condition condition,
+            String category, SellerEntity seller) {
+        ProductEntity product = new ProductEntity();
+        product.setName(name);
+        product.setDescription("A product used by the filter test");
+        product.setPrice(price);
+        product.setAvailableQuantity(availableQuantity);
+        product.setCondition(condition);
+        product.setCategory(category);
+        product.setSeller(seller);
+        product.setVariants(new ArrayList<>());
+        return product;
+    }
+}
@@ -0,0 +1,119 @@
+package com.jozias.product.catalog.infrastructure.persistence.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.infrastructure.gateway.FindProductGatewayImpl;
+import com.jozias.product.catalog.infrastructure.persistence.entity.ProductEntity;
+import com.jozias.product.catalog.infrastructure.persistence.entity.SellerEntity;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("ProductSeekRepositoryImpl")
+class ProductSeekRepositoryImplTest {
+
+    private static final int WINDOW_SIZE = 7;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private FindProductGatewayImpl gateway;
+
+    @BeforeEach
+    void setUp() {
+        SellerEntity seller = testEntityManager.persist(new SellerEntity("Tech Store", "Best tech products", 95));
+        for (int i = 0; i < 40; i++) {
+            // Few distinct names and prices so ties must be broken by id
+            testEntityManager.persist(product("Seek " + (i % 4), BigDecimal.valueOf(10L + i % 5), seller));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        gateway = new FindProductGatewayImpl(productRepository, null);
+    }
+
+    @Test
+    @DisplayName("given sort by name when scrolling every window then should visit each product once in order")
+    void givenSortByName_whenScrollingEveryWindow_thenShouldVisitEachProductOnceInOrder() {
+        assertScrollMatches(ProductFilter.NONE, Sort.Order.asc("name"),
+                Comparator.comparing(ProductSummary::name).thenComparing(ProductSummary::id));
+    }
+
+    @Test
+    @DisplayName("given sort by price desc when scrolling every window then should visit each product once in order")
+    void givenSortByPriceDesc_whenScrollingEveryWindow_thenShouldVisitEachProductOnceInOrder() {
+        assertScrollMatches(ProductFilter.NONE, Sort.Order.desc("price"),
+                Comparator.comparing(ProductSummary::price).thenComparing(ProductSummary::id).reversed());
+    }
+
+    @Test
+    @DisplayName("given sort by id when scrolling every window then should visit each product once in order")
+    void givenSortById_whenScrollingEveryWindow_thenShouldVisitEachProductOnceInOrder() {
+        assertScrollMatches(ProductFilter.NONE, Sort.Order.asc("id"), Comparator.comparing(ProductSummary::id));
+    }
+
+    @Test
+    @DisplayName("given a price range when scrolling every window then should visit only the matching products in order")
+    void givenPriceRange_whenScrollingEveryWindow_thenShouldVisitOnlyMatchingProductsInOrder() {
+        assertScrollMatches(new ProductFilter(null, null, new BigDecimal("11"), new BigDecimal("12"), null, false),
+                Sort.Order.asc("name"),
+                Comparator.comparing(ProductSummary::name).thenComparing(ProductSummary::id));
+    }
+
+    private void assertScrollMatches(ProductFilter filter, Sort.Order order,
+            Comparator<ProductSummary> expectedOrder) {
+        // given
+        List<ProductSummary> expected = productRepository.findAll().stream()
+                .map(product -> productRepository.findSummaryById(product.getId()).orElseThrow())
+                .filter(filter::matches)
+                .sorted(expectedOrder)
+                .toList();
+
+        // when
+        List<ProductSummary> visited = new ArrayList<>();
+        KeysetScrollPosition position = ScrollPosition.keyset();
+        Window<ProductSummary> window;
+        do {
+            window = gateway.scrollSummaries(filter, position, order, WINDOW_SIZE);
+            visited.addAll(window.getContent());
+            if (window.hasNext()) {
+                position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            }
+        } while (window.hasNext());
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    private static ProductEntity product(String name, BigDecimal price, SellerEntity seller) {
+        ProductEntity product = new ProductEntity();
+        product.setName(name);
+        product.setDescription("A product used by the seek test");
+        product.setPrice(price);
+        product.setAvailableQuantity(10);
+        product.setCondition(Condition.NEW);
+        product.setCategory("Electronics");
+        product.setSeller(seller);
+        product.setVariants(new ArrayList<>());
+        return product;
+    }
+}
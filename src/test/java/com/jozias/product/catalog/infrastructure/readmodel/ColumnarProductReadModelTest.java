@@ -0,0 +1,233 @@
+package com.jozias.product.catalog.infrastructure.readmodel;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.entity.StockLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("ColumnarProductReadModel")
+class ColumnarProductReadModelTest {
+
+    private static final Sort BY_ID = Sort.by(Sort.Order.asc("id"));
+    private static final Sort BY_PRICE_DESC = Sort.by(Sort.Order.desc("price"), Sort.Order.asc("id"));
+    private static final Sort BY_NAME = Sort.by(Sort.Order.asc("name"), Sort.Order.asc("id"));
+
+    private ColumnarProductReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        readModel = new ColumnarProductReadModel();
+        readModel.beginLoad();
+        readModel.load(List.of(
+                summary(1L, "Notebook", "3500.00", 5, Condition.NEW, "Electronics", 1L),
+                summary(2L, "Camiseta", "49.90", 0, Condition.NEW, "Clothing", 2L),
+                summary(3L, "Smartphone", "999.99", 10, Condition.USED, "Electronics", 1L)));
+        readModel.load(List.of(
+                summary(4L, "Fone", "999.99", 3, Condition.NEW, "Electronics", 2L),
+                summary(5L, "Livro", "59.90", 8, Condition.NEW, "Books", 3L)));
+        readModel.finishLoad();
+    }
+
+    @Test
+    @DisplayName("given a descending price sort when findPage then should break ties by ascending id")
+    void givenDescendingPriceSort_whenFindPage_thenShouldBreakTiesByAscendingId() {
+        // when
+        Page<ProductSummary> page = readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 3, BY_PRICE_DESC))
+                .orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(ProductSummary::id).containsExactly(1L, 3L, 4L);
+        assertThat(page.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("given a name sort and an offset when findPage then should return the requested page")
+    void givenNameSortAndOffset_whenFindPage_thenShouldReturnTheRequestedPage() {
+        // when
+        Page<ProductSummary> page = readModel.findPage(ProductFilter.NONE, PageRequest.of(1, 2, BY_NAME))
+                .orElseThrow();
+
+        // then
+        assertThat(page.getContent()).extracting(ProductSummary::name).containsExactly("Livro", "Notebook");
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("given a filter when findPage then should list and count only matching products")
+    void givenFilter_whenFindPage_thenShouldListAndCountOnlyMatchingProducts() {
+        // given
+        ProductFilter filter = new ProductFilter("Electronics", Condition.NEW, null, new BigDecimal("1000"), null,
+                true);
+
+        // when
+        Page<ProductSummary> page = readModel.findPage(filter, PageRequest.of(0, 10, BY_ID)).orElseThrow();
+
+        // then
+        assertThat(page.getContent()).containsExactly(
+                summary(4L, "Fone", "999.99", 3, Condition.NEW, "Electronics", 2L));
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("given more matches than the slice when findSlice then should report a next slice")
+    void givenMoreMatchesThanTheSlice_whenFindSlice_thenShouldReportNextSlice() {
+        // when
+        Slice<ProductSummary> slice = readModel.findSlice(ProductFilter.NONE, PageRequest.of(0, 4, BY_ID))
+                .orElseThrow();
+
+        // then
+        assertThat(slice.getContent()).extracting(ProductSummary::id).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(slice.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("given a sort the permutations cannot reproduce when findPage then should return empty")
+    void givenUnsupportedSort_whenFindPage_thenShouldReturnEmpty() {
+        // given
+        Sort byCategory = Sort.by(Sort.Order.asc("category"), Sort.Order.asc("id"));
+        Sort ignoreCase = Sort.by(Sort.Order.asc("name").ignoreCase(), Sort.Order.asc("id"));
+
+        // when & then
+        assertThat(readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 10, byCategory))).isEmpty();
+        assertThat(readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 10, ignoreCase))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("given a load in progress when findPage then should return empty")
+    void givenLoadInProgress_whenFindPage_thenShouldReturnEmpty() {
+        // given
+        readModel.beginLoad();
+
+        // when & then
+        assertThat(readModel.isReady()).isFalse();
+        assertThat(readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 10, BY_ID))).isEmpty();
+        assertThat(readModel.count()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("given writes during the load when finishLoad then should keep the written rows")
+    void givenWritesDuringTheLoad_whenFinishLoad_thenShouldKeepTheWrittenRows() {
+        // given
+        ColumnarProductReadModel loading = new ColumnarProductReadModel();
+        loading.beginLoad();
+        loading.upsert(summary(1L, "Notebook Pro", "4200.00", 5, Condition.NEW, "Electronics", 1L));
+        loading.remove(2L, null);
+        loading.updateStockLevel(3L, new StockLevel(0, null));
+
+        // when
+        loading.load(List.of(
+                summary(1L, "Notebook", "3500.00", 5, Condition.NEW, "Electronics", 1L),
+                summary(2L, "Camiseta", "49.90", 0, Condition.NEW, "Clothing", 2L),
+                summary(3L, "Smartphone", "999.99", 10, Condition.USED, "Electronics", 1L)));
+        loading.finishLoad();
+
+        // then
+        assertThat(loading.findPage(ProductFilter.NONE, PageRequest.of(0, 10, BY_ID)).orElseThrow().getContent())
+                .containsExactly(
+                        summary(1L, "Notebook Pro", "4200.00", 5, Condition.NEW, "Electronics", 1L),
+                        summary(3L, "Smartphone", "999.99", 0, Condition.USED, "Electronics", 1L));
+    }
+
+    @Test
+    @DisplayName("given writes applied in reverse order when findPage then should keep the newest version")
+    void givenWritesAppliedInReverseOrder_whenFindPage_thenShouldKeepTheNewestVersion() {
+        // given
+        readModel.upsert(new ProductSummary(1L, "Notebook Pro", new BigDecimal("4200.00"), 5, Condition.NEW,
+                "Electronics", 1L, 3L));
+        readModel.upsert(new ProductSummary(1L, "Notebook", new BigDecimal("3000.00"), 5, Condition.NEW,
+                "Electronics", 1L, 2L));
+        readModel.updateStockLevel(1L, new StockLevel(2, 5L));
+        readModel.updateStockLevel(1L, new StockLevel(9, 4L));
+
+        // when
+        Page<ProductSummary> page = readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 1, BY_PRICE_DESC))
+                .orElseThrow();
+
+        // then
+        assertThat(page.getContent()).containsExactly(new ProductSummary(1L, "Notebook Pro",
+                new BigDecimal("4200.00"), 2, Condition.NEW, "Electronics", 1L, 5L));
+    }
+
+    @Test
+    @DisplayName("given a removed product when a delayed upsert arrives then should keep it deleted")
+    void givenRemovedProduct_whenDelayedUpsertArrives_thenShouldKeepItDeleted() {
+        // given
+        readModel.upsert(new ProductSummary(1L, "Notebook Pro", new BigDecimal("4200.00"), 5, Condition.NEW,
+                "Electronics", 1L, 3L));
+        readModel.remove(1L, 3L);
+
+        // when
+        readModel.upsert(new ProductSummary(1L, "Notebook", new BigDecimal("3000.00"), 5, Condition.NEW,
+                "Electronics", 1L, 2L));
+        readModel.upsert(new ProductSummary(1L, "Notebook Pro", new BigDecimal("4200.00"), 5, Condition.NEW,
+                "Electronics", 1L, 3L));
+
+        // then
+        assertThat(readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 10, BY_ID)).orElseThrow().getContent())
+                .extracting(ProductSummary::id).containsExactly(2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("given a stock write older than the loaded row when load then should keep the loaded quantity")
+    void givenStockWriteOlderThanTheLoadedRow_whenLoad_thenShouldKeepTheLoadedQuantity() {
+        // given
+        ColumnarProductReadModel loading = new ColumnarProductReadModel();
+        loading.beginLoad();
+        loading.updateStockLevel(1L, new StockLevel(0, 4L));
+        loading.updateStockLevel(2L, new StockLevel(6, 8L));
+        loading.updateStockLevel(2L, new StockLevel(1, 7L));
+
+        // when
+        loading.load(List.of(
+                new ProductSummary(1L, "Notebook", new BigDecimal("3500.00"), 5, Condition.NEW, "Electronics", 1L,
+                        6L),
+                new ProductSummary(2L, "Camiseta", new BigDecimal("49.90"), 0, Condition.NEW, "Clothing", 2L,
+                        6L)));
+        loading.finishLoad();
+
+        // then
+        assertThat(loading.findPage(ProductFilter.NONE, PageRequest.of(0, 10, BY_ID)).orElseThrow().getContent())
+                .extracting(ProductSummary::availableQuantity, ProductSummary::version)
+                .containsExactly(tuple(5, 6L), tuple(6, 8L));
+    }
+
+    @Test
+    @DisplayName("given upserts and removals when findPage then should keep every order up to date")
+    void givenUpsertsAndRemovals_whenFindPage_thenShouldKeepEveryOrderUpToDate() {
+        // given
+        readModel.upsert(summary(6L, "Caneca", "25.00", 4, Condition.NEW, "Home", 3L));
+        readModel.upsert(summary(1L, "Notebook", "10.00", 5, Condition.NEW, "Electronics", 1L));
+        readModel.remove(4L, null);
+        readModel.updateStockLevel(2L, new StockLevel(7, null));
+
+        // when
+        Page<ProductSummary> byPrice = readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 10, BY_PRICE_DESC))
+                .orElseThrow();
+        Page<ProductSummary> inStock = readModel.findPage(
+                new ProductFilter(null, null, null, null, null, true), PageRequest.of(0, 10, BY_NAME)).orElseThrow();
+
+        // then
+        assertThat(byPrice.getContent()).extracting(ProductSummary::id).containsExactly(3L, 5L, 2L, 6L, 1L);
+        assertThat(inStock.getContent()).extracting(ProductSummary::name)
+                .containsExactly("Camiseta", "Caneca", "Livro", "Notebook", "Smartphone");
+        assertThat(readModel.count()).hasValue(5);
+    }
+
+    private static ProductSummary summary(Long id, String name, String price, int quantity, Condition condition,
+            String category, Long sellerId) {
+        return new ProductSummary(id, name, new BigDecimal(price), quantity, condition, category, sellerId, null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.jozias.product.catalog.infrastructure.readmodel;
+
+import com.jozias.product.catalog.application.readmodel.ProductReadModel;
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.ProductFilter;
+import com.jozias.product.catalog.domain.entity.ProductSummary;
+import com.jozias.product.catalog.domain.gateway.FindProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductReadModelLoader")
+class ProductReadModelLoaderTest {
+
+    @Mock
+    private FindProductGateway findProductGateway;
+
+    @Test
+    @DisplayName("given a catalog in chunks when run then should load every product and start serving reads")
+    void givenCatalogInChunks_whenRun_thenShouldLoadEveryProductAndStartServingReads() {
+        // given
+        List<ProductSummary> firstChunk = List.of(summary(1L), summary(2L));
+        List<ProductSummary> lastChunk = List.of(summary(3L));
+        when(findProductGateway.scrollSummaries(eq(ProductFilter.NONE), any(), eq(Sort.Order.asc("id")), eq(2)))
+                .thenReturn(Window.from(firstChunk, i -> ScrollPosition.forward(Map.of("id", firstChunk.get(i).id())),
+                        true))
+                .thenReturn(Window.from(lastChunk, i -> ScrollPosition.forward(Map.of("id", lastChunk.get(i).id())),
+                        false));
+        ColumnarProductReadModel readModel = new ColumnarProductReadModel();
+        ProductReadModelLoader loader = new ProductReadModelLoader(findProductGateway, readModel, 2);
+
+        // when
+        loader.run(null);
+
+        // then
+        verify(findProductGateway, times(2)).scrollSummaries(eq(ProductFilter.NONE), any(), any(), eq(2));
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.findPage(ProductFilter.NONE, PageRequest.of(0, 10, Sort.by("id"))).orElseThrow()
+                .getContent()).extracting(ProductSummary::id).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("given the read model is disabled when run then should not read the catalog")
+    void givenReadModelDisabled_whenRun_thenShouldNotReadTheCatalog() {
+        // given
+        ProductReadModelLoader loader = new ProductReadModelLoader(findProductGateway, ProductReadModel.NONE, 2);
+
+        // when
+        loader.run(null);
+
+        // then
+        verifyNoInteractions(findProductGateway);
+    }
+
+    private static ProductSummary summary(Long id) {
+        return new ProductSummary(id, "Smartphone " + id, new BigDecimal("999.99"), 10, Condition.NEW,
+                "Electronics", 1L, null);
+    }
+}
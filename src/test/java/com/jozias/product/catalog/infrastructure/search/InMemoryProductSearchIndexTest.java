@@ -0,0 +1,224 @@
+package com.jozias.product.catalog.infrastructure.search;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.ProductVariant;
+import com.jozias.product.catalog.domain.entity.ProductVariantValue;
+import com.jozias.product.catalog.domain.entity.Seller;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryProductSearchIndex")
+class InMemoryProductSearchIndexTest {
+
+    private Seller seller;
+    private InMemoryProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        index = new InMemoryProductSearchIndex();
+    }
+
+    @Test
+    @DisplayName("given indexed products when search by a name prefix then should return the matching ids")
+    void givenIndexedProducts_whenSearchByNamePrefix_thenShouldReturnMatchingIds() {
+        // given
+        index.index(product(1L, "Smartphone", "A great phone for every day", "Electronics"));
+        index.index(product(2L, "Notebook", "A light notebook for work", "Computers"));
+
+        // when
+        List<Long> result = index.search("smart", 10);
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("given accented text when search without accents and in another case then should match")
+    void givenAccentedText_whenSearchWithoutAccents_thenShouldMatch() {
+        // given
+        index.index(product(1L, "Fone Bluetooth", "Fone sem fio com cancelamento de ruído", "Eletrônicos"));
+
+        // when
+        List<Long> result = index.search("ELETRONICO ruido", 10);
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("given several terms when search then should return only products matching all of them")
+    void givenSeveralTerms_whenSearch_thenShouldReturnOnlyProductsMatchingAll() {
+        // given
+        index.index(product(1L, "Smartphone", "A great phone for every day", "Electronics",
+                variant("Color", "Blue")));
+        index.index(product(2L, "Smartphone Pro", "A great phone for every day", "Electronics",
+                variant("Color", "Black")));
+
+        // when
+        List<Long> result = index.search("smartphone blue", 10);
+
+        // then
+        assertThat(result).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("given a term in different fields when search then should rank name over category over description")
+    void givenTermInDifferentFields_whenSearch_thenShouldRankByField() {
+        // given
+        index.index(product(1L, "Charger", "Works with any gaming console", "Accessories"));
+        index.index(product(2L, "Controller", "Wireless controller", "Gaming"));
+        index.index(product(3L, "Gaming Headset", "Over-ear headset", "Audio"));
+
+        // when
+        List<Long> result = index.search("gaming", 10);
+
+        // then
+        assertThat(result).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("given equal scores when search with a limit then should return the lowest ids first")
+    void givenEqualScores_whenSearchWithLimit_thenShouldReturnLowestIdsFirst() {
+        // given
+        index.index(product(3L, "Cable", "A braided usb cable", "Accessories"));
+        index.index(product(1L, "Cable", "A braided usb cable", "Accessories"));
+        index.index(product(2L, "Cable", "A braided usb cable", "Accessories"));
+
+        // when
+        List<Long> result = index.search("cable", 2);
+
+        // then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("given a reindexed product when search by its old name then should not return it")
+    void givenReindexedProduct_whenSearchByOldName_thenShouldNotReturnIt() {
+        // given
+        index.index(product(1L, "Smartphone", "A great phone for every day", "Electronics"));
+        index.index(product(1L, "Tablet", "A great tablet for every day", "Electronics"));
+
+        // when / then
+        assertThat(index.search("smartphone", 10)).isEmpty();
+        assertThat(index.search("tablet", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("given a removed product when search then should not return it")
+    void givenRemovedProduct_whenSearch_thenShouldNotReturnIt() {
+        // given
+        index.index(product(1L, "Smartphone", "A great phone for every day", "Electronics"));
+        index.remove(1L, null);
+
+        // when / then
+        assertThat(index.search("smartphone", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("given writes arriving out of order when index then should keep the newest version")
+    void givenWritesArrivingOutOfOrder_whenIndex_thenShouldKeepTheNewestVersion() {
+        // given
+        index.index(product(1L, "Tablet", "A great tablet for every day", "Electronics").withVersion(3L));
+
+        // when
+        index.index(product(1L, "Smartphone", "A great phone for every day", "Electronics").withVersion(2L));
+
+        // then
+        assertThat(index.search("smartphone", 10)).isEmpty();
+        assertThat(index.search("tablet", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("given a removed product when a delayed write arrives then should keep it out of the index")
+    void givenRemovedProduct_whenDelayedWriteArrives_thenShouldKeepItOutOfTheIndex() {
+        // given
+        index.index(product(1L, "Tablet", "A great tablet for every day", "Electronics").withVersion(3L));
+        index.remove(1L, 3L);
+
+        // when
+        index.index(product(1L, "Smartphone", "A great phone for every day", "Electronics").withVersion(2L));
+        index.index(product(1L, "Tablet", "A great tablet for every day", "Electronics").withVersion(3L));
+
+        // then
+        assertThat(index.search("smartphone", 10)).isEmpty();
+        assertThat(index.search("tablet", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("given products written during the load when load then should skip their loaded rows")
+    void givenProductsWrittenDuringLoad_whenLoad_thenShouldSkipTheirLoadedRows() {
+        // given
+        index.beginLoad();
+        index.index(product(1L, "Tablet", "A great tablet for every day", "Electronics"));
+        index.remove(2L, null);
+
+        // when
+        index.load(List.of(product(1L, "Smartphone", "A great phone for every day", "Electronics"),
+                product(2L, "Notebook", "A light notebook for work", "Computers"),
+                product(3L, "Headphone", "Wireless headphone", "Electronics")));
+        index.finishLoad();
+
+        // then
+        assertThat(index.search("smartphone", 10)).isEmpty();
+        assertThat(index.search("tablet", 10)).containsExactly(1L);
+        assertThat(index.search("notebook", 10)).isEmpty();
+        assertThat(index.search("headphone", 10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("given a finished load when index then should not record the write anymore")
+    void givenFinishedLoad_whenIndex_thenShouldNotRecordTheWrite() {
+        // given
+        index.beginLoad();
+        index.finishLoad();
+        index.remove(1L, null);
+
+        // when
+        index.beginLoad();
+        index.load(List.of(product(1L, "Smartphone", "A great phone for every day", "Electronics")));
+        index.finishLoad();
+
+        // then
+        assertThat(index.search("smartphone", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("given a query without letters or digits when search then should return nothing")
+    void givenQueryWithoutTerms_whenSearch_thenShouldReturnNothing() {
+        // given
+        index.index(product(1L, "Smartphone", "A great phone for every day", "Electronics"));
+
+        // when / then
+        assertThat(index.search(" -- ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("given mixed text when tokenize then should fold case and accents and split on punctuation")
+    void givenMixedText_whenTokenize_thenShouldFoldAndSplit() {
+        // when / then
+        assertThat(InMemoryProductSearchIndex.tokenize("Câmera 4K, à prova-d'água")).containsExactly(
+                "camera", "4k", "a", "prova", "d", "agua");
+    }
+
+    private Product product(Long id, String name, String description, String category, ProductVariant... variants) {
+        return new Product(id, name, description, new BigDecimal("99.90"), 10, Condition.NEW, category,
+                new ArrayList<>(List.of(variants)), seller);
+    }
+
+    private static ProductVariant variant(String type, String value) {
+        return new ProductVariant(null, type, new ArrayList<>(List.of(new ProductVariantValue(value))));
+    }
+}
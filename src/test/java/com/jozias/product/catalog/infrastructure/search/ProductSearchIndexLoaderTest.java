@@ -0,0 +1,87 @@
+package com.jozias.product.catalog.infrastructure.search;
+
+import com.jozias.product.catalog.domain.entity.Condition;
+import com.jozias.product.catalog.domain.entity.Product;
+import com.jozias.product.catalog.domain.entity.Seller;
+import com.jozias.product.catalog.domain.gateway.ExportProductGateway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchIndexLoader")
+class ProductSearchIndexLoaderTest {
+
+    @Mock
+    private ExportProductGateway exportProductGateway;
+
+    @Test
+    @DisplayName("given a catalog in chunks when run then should index every product")
+    void givenCatalogInChunks_whenRun_thenShouldIndexEveryProduct() {
+        // given
+        Product first = product(1L);
+        Product second = product(2L);
+        Product third = product(3L);
+        doAnswer(invocation -> {
+            Consumer<List<Product>> chunkConsumer = invocation.getArgument(1);
+            chunkConsumer.accept(List.of(first, second));
+            chunkConsumer.accept(List.of(third));
+            return null;
+        }).when(exportProductGateway).exportAll(eq(2), any());
+        InMemoryProductSearchIndex index = new InMemoryProductSearchIndex();
+        ProductSearchIndexLoader loader = new ProductSearchIndexLoader(exportProductGateway, index, 2);
+
+        // when
+        loader.run(null);
+
+        // then
+        assertThat(index.search("smartphone", 10)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("given products written while the catalog is read when run then should keep the written state")
+    void givenProductsWrittenDuringLoad_whenRun_thenShouldKeepTheWrittenState() {
+        // given
+        InMemoryProductSearchIndex index = new InMemoryProductSearchIndex();
+        doAnswer(invocation -> {
+            Consumer<List<Product>> chunkConsumer = invocation.getArgument(1);
+            index.index(product(1L, "Tablet"));
+            index.remove(2L, null);
+            chunkConsumer.accept(List.of(product(1L), product(2L)));
+            chunkConsumer.accept(List.of(product(3L)));
+            return null;
+        }).when(exportProductGateway).exportAll(eq(2), any());
+        ProductSearchIndexLoader loader = new ProductSearchIndexLoader(exportProductGateway, index, 2);
+
+        // when
+        loader.run(null);
+
+        // then
+        assertThat(index.search("smartphone", 10)).containsExactly(3L);
+        assertThat(index.search("tablet", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    private static Product product(Long id) {
+        return product(id, "Smartphone");
+    }
+
+    private static Product product(Long id, String name) {
+        Seller seller = new Seller("Tech Store", "Best tech products", 95);
+        seller.setId(1L);
+        return new Product(id, name + " " + id, "A product used by the search index loader test",
+                new BigDecimal("999.99"), 10, Condition.NEW, "Electronics", new ArrayList<>(), seller);
+    }
+}